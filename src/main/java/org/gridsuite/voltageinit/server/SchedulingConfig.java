@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Scheduled tasks may be disabled, the tests running them explicitly.
+ * The scheduled tasks run on their own pool, one thread per task by default, so that a long eviction or purge does
+ * not delay the dispatch of the modifications groups creations and deletions.
+ *
+ * @author agent <agent at local>
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "voltage-init.scheduling.enabled", matchIfMissing = true)
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${voltage-init.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(poolSize);
+        taskScheduler.setThreadNamePrefix("voltage-init-scheduling-");
+        taskScheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return taskScheduler;
+    }
+}
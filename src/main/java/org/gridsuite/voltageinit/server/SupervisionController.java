@@ -10,6 +10,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.gridsuite.voltageinit.server.dto.ResultRetentionReport;
+import org.gridsuite.voltageinit.server.service.ResultRetentionService;
 import org.gridsuite.voltageinit.server.service.SupervisionService;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,8 +28,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class SupervisionController {
     private final SupervisionService supervisionService;
 
-    public SupervisionController(SupervisionService supervisionService) {
+    private final ResultRetentionService resultRetentionService;
+
+    public SupervisionController(SupervisionService supervisionService, ResultRetentionService resultRetentionService) {
         this.supervisionService = supervisionService;
+        this.resultRetentionService = resultRetentionService;
     }
 
     @GetMapping(value = "/results-count")
@@ -36,4 +41,11 @@ public class SupervisionController {
     public ResponseEntity<Integer> getResultsCount() {
         return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(supervisionService.getResultsCount());
     }
+
+    @GetMapping(value = "/results-retention/dry-run")
+    @Operation(summary = "Get the results that the retention policy would evict")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The count of results to evict by retention criterion")})
+    public ResponseEntity<ResultRetentionReport> getResultsRetentionDryRun() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(resultRetentionService.dryRun());
+    }
 }
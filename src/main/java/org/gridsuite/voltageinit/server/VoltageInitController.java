@@ -11,11 +11,21 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.gridsuite.voltageinit.server.dto.BusVoltage;
+import org.gridsuite.voltageinit.server.dto.ReactiveSlack;
+import org.gridsuite.voltageinit.server.dto.ResultRowsFilter;
 import org.gridsuite.voltageinit.server.dto.VoltageInitResult;
+import org.gridsuite.voltageinit.server.dto.VoltageInitResultSummary;
 import org.gridsuite.voltageinit.server.dto.VoltageInitStatus;
+import org.gridsuite.voltageinit.server.dto.VoltageLevelAggregate;
+import org.gridsuite.voltageinit.server.service.ResultCacheService;
 import org.gridsuite.voltageinit.server.service.VoltageInitRunContext;
 import org.gridsuite.voltageinit.server.service.VoltageInitService;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,6 +34,7 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.gridsuite.computation.service.NotificationService.HEADER_USER_ID;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
@@ -55,9 +66,13 @@ public class VoltageInitController {
                                            @Parameter(description = "parametersUuid") @RequestParam(name = "parametersUuid", required = false) UUID parametersUuid,
                                            @Parameter(description = "rootNetworkName") @RequestParam(name = "rootNetworkName") String rootNetworkName,
                                            @Parameter(description = "nodeName") @RequestParam(name = "nodeName") String nodeName,
+                                           @Parameter(description = "Start from the voltage profile of a previous result") @RequestParam(name = "warmStart", required = false, defaultValue = "false") boolean warmStart,
+                                           @Parameter(description = "Result used for the warm start, the last result on the same variant when absent") @RequestParam(name = "warmStartResultUuid", required = false) UUID warmStartResultUuid,
                                            @RequestHeader(HEADER_USER_ID) String userId) {
         VoltageInitRunContext runContext = new VoltageInitRunContext(networkUuid, variantId, receiver, reportUuid, reporterId, reportType, userId, parametersUuid, debug,
                                                                      rootNetworkName, nodeName);
+        runContext.setWarmStart(warmStart || warmStartResultUuid != null);
+        runContext.setWarmStartResultUuid(warmStartResultUuid);
         UUID resultUuid = voltageInitService.runAndSaveResult(runContext);
         return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(resultUuid);
     }
@@ -65,17 +80,131 @@ public class VoltageInitController {
     @GetMapping(value = "/results/{resultUuid}", produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a voltage init result from the database")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The voltage init result"),
+        @ApiResponse(responseCode = "304", description = "The voltage init result has not changed"),
         @ApiResponse(responseCode = "404", description = "Voltage init result has not been found")})
     public ResponseEntity<VoltageInitResult> getResult(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
                                                        @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
                                                        @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
-                                                       @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId) {
-        String decodedStringGlobalFilters = globalFilters != null ? URLDecoder.decode(globalFilters, StandardCharsets.UTF_8) : null;
+                                                       @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                       @Parameter(description = "Entity tag of the result already known by the client") @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (globalFilters == null) {
+            // only the unfiltered result has an entity tag, the global filters evaluation depending on the network
+            VoltageInitResult result = voltageInitService.getResult(resultUuid, null, networkUuid, variantId);
+            if (result == null) {
+                return ResponseEntity.notFound().build();
+            }
+            String eTag = ResultCacheService.computeETag(result);
+            return eTag.equals(ifNoneMatch) ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build()
+                : ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).eTag(eTag).body(result);
+        }
+        String decodedStringGlobalFilters = URLDecoder.decode(globalFilters, StandardCharsets.UTF_8);
         VoltageInitResult result = voltageInitService.getResult(resultUuid, decodedStringGlobalFilters, networkUuid, variantId);
         return result != null ? ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(result)
                 : ResponseEntity.notFound().build();
     }
 
+    @GetMapping(value = "/results/{resultUuid}/summary", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the summary of a voltage init result, without its bus voltages and reactive slacks")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The voltage init result summary"),
+        @ApiResponse(responseCode = "404", description = "Voltage init result has not been found")})
+    public ResponseEntity<VoltageInitResultSummary> getResultSummary(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid) {
+        VoltageInitResultSummary summary = voltageInitService.getResultSummary(resultUuid);
+        return summary != null ? ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(summary)
+                : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/bus-voltages", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a page of the bus voltages of a voltage init result")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The page of bus voltages"),
+        @ApiResponse(responseCode = "404", description = "Voltage init result has not been found")})
+    public ResponseEntity<Page<BusVoltage>> getBusVoltages(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                           @Parameter(description = "Part of the voltage level id") @RequestParam(name = "voltageLevelId", required = false) String voltageLevelId,
+                                                           @Parameter(description = "Part of the bus id") @RequestParam(name = "busId", required = false) String busId,
+                                                           @Parameter(description = "Minimal voltage") @RequestParam(name = "minV", required = false) Double minV,
+                                                           @Parameter(description = "Maximal voltage") @RequestParam(name = "maxV", required = false) Double maxV,
+                                                           @Parameter(description = "Minimal angle") @RequestParam(name = "minAngle", required = false) Double minAngle,
+                                                           @Parameter(description = "Maximal angle") @RequestParam(name = "maxAngle", required = false) Double maxAngle,
+                                                           @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                                           @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                                           @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                           @Parameter(description = "Pagination and sorting parameters") Pageable pageable) {
+        String decodedStringGlobalFilters = globalFilters != null ? URLDecoder.decode(globalFilters, StandardCharsets.UTF_8) : null;
+        ResultRowsFilter filter = ResultRowsFilter.builder()
+            .voltageLevelId(voltageLevelId)
+            .busId(busId)
+            .minValue(minV)
+            .maxValue(maxV)
+            .minAngle(minAngle)
+            .maxAngle(maxAngle)
+            .build();
+        Page<BusVoltage> busVoltages = voltageInitService.getBusVoltages(resultUuid, filter, decodedStringGlobalFilters, networkUuid, variantId, pageable);
+        return busVoltages != null ? ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(busVoltages)
+                : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/reactive-slacks", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a page of the reactive slacks of a voltage init result")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The page of reactive slacks"),
+        @ApiResponse(responseCode = "404", description = "Voltage init result has not been found")})
+    public ResponseEntity<Page<ReactiveSlack>> getReactiveSlacks(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                                 @Parameter(description = "Part of the voltage level id") @RequestParam(name = "voltageLevelId", required = false) String voltageLevelId,
+                                                                 @Parameter(description = "Part of the bus id") @RequestParam(name = "busId", required = false) String busId,
+                                                                 @Parameter(description = "Minimal slack") @RequestParam(name = "minSlack", required = false) Double minSlack,
+                                                                 @Parameter(description = "Maximal slack") @RequestParam(name = "maxSlack", required = false) Double maxSlack,
+                                                                 @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                                                 @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                                                 @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId,
+                                                                 @Parameter(description = "Pagination and sorting parameters") Pageable pageable) {
+        String decodedStringGlobalFilters = globalFilters != null ? URLDecoder.decode(globalFilters, StandardCharsets.UTF_8) : null;
+        ResultRowsFilter filter = ResultRowsFilter.builder()
+            .voltageLevelId(voltageLevelId)
+            .busId(busId)
+            .minValue(minSlack)
+            .maxValue(maxSlack)
+            .build();
+        Page<ReactiveSlack> reactiveSlacks = voltageInitService.getReactiveSlacks(resultUuid, filter, decodedStringGlobalFilters, networkUuid, variantId, pageable);
+        return reactiveSlacks != null ? ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(reactiveSlacks)
+                : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/reactive-slacks/top", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the largest reactive slacks in absolute value of a voltage init result")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The reactive slacks by decreasing absolute value"),
+        @ApiResponse(responseCode = "404", description = "Voltage init result has not been found")})
+    public ResponseEntity<List<ReactiveSlack>> getTopReactiveSlacks(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                                    @Parameter(description = "Maximal number of reactive slacks") @RequestParam(name = "count", defaultValue = "10") int count,
+                                                                    @Parameter(description = "Only the reactive slacks over the threshold of the result") @RequestParam(name = "overThresholdOnly", defaultValue = "false") boolean overThresholdOnly,
+                                                                    @Parameter(description = "Voltage level ids") @RequestParam(name = "voltageLevelIds", required = false) List<String> voltageLevelIds,
+                                                                    @Parameter(description = "Global Filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
+                                                                    @Parameter(description = "network Uuid") @RequestParam(name = "networkUuid", required = false) UUID networkUuid,
+                                                                    @Parameter(description = "variant Id") @RequestParam(name = "variantId", required = false) String variantId) {
+        String decodedStringGlobalFilters = globalFilters != null ? URLDecoder.decode(globalFilters, StandardCharsets.UTF_8) : null;
+        List<ReactiveSlack> reactiveSlacks = voltageInitService.getTopReactiveSlacks(resultUuid, count, overThresholdOnly, voltageLevelIds,
+            decodedStringGlobalFilters, networkUuid, variantId);
+        return reactiveSlacks != null ? ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(reactiveSlacks)
+                : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping(value = "/results/{resultUuid}/voltage-level-aggregates", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a page of the per voltage level aggregates of a voltage init result")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The page of voltage level aggregates"),
+        @ApiResponse(responseCode = "404", description = "Voltage init result has not been found")})
+    public ResponseEntity<Page<VoltageLevelAggregate>> getVoltageLevelAggregates(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid,
+                                                                                 @Parameter(description = "Pagination and sorting parameters") Pageable pageable) {
+        Page<VoltageLevelAggregate> aggregates = voltageInitService.getVoltageLevelAggregates(resultUuid, pageable);
+        return aggregates != null ? ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(aggregates)
+                : ResponseEntity.notFound().build();
+    }
+
+    @DeleteMapping(value = "/networks/{networkUuid}/filters-cache")
+    @Operation(summary = "Invalidate the cached filters evaluations of a network variant")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The cached filters evaluations have been invalidated")})
+    public ResponseEntity<Void> invalidateFiltersCache(@Parameter(description = "Network UUID") @PathVariable("networkUuid") UUID networkUuid,
+                                                       @Parameter(description = "Variant Id, all the variants of the network when absent") @RequestParam(name = "variantId", required = false) String variantId) {
+        voltageInitService.invalidateFiltersCache(networkUuid, variantId);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping(value = "/results", produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Delete voltage init results from the database")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "All voltage init results have been deleted")})
@@ -111,13 +240,17 @@ public class VoltageInitController {
     }
 
     @GetMapping(value = "/results/{resultUuid}/modifications-group-uuid", produces = APPLICATION_JSON_VALUE)
-    @Operation(summary = "Get the modifications group uuid associated to a result from the database")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The modifications group uuid"),
-        @ApiResponse(responseCode = "404", description = "The result has not been found")})
-    public ResponseEntity<UUID> getModificationsGroupUuid(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid) {
-        UUID modificationsGroupUuid = voltageInitService.getModificationsGroupUuid(resultUuid);
-        return modificationsGroupUuid != null ? ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(modificationsGroupUuid)
-                : ResponseEntity.notFound().build();
+    @Operation(summary = "Get the modifications group uuid associated to a result from the database",
+        description = "A group whose creation in the network modification server is still pending is created by this request, "
+            + "which is answered once the group is created, at most after the completion timeout")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "The modifications group uuid, the group being created"),
+        @ApiResponse(responseCode = "404", description = "The result has not been found"),
+        @ApiResponse(responseCode = "503", description = "The modifications group is not created yet, the request can be retried later")})
+    public CompletableFuture<ResponseEntity<UUID>> getModificationsGroupUuid(@Parameter(description = "Result UUID") @PathVariable("resultUuid") UUID resultUuid) {
+        // the request thread is released while the group is created
+        return voltageInitService.getModificationsGroupUuid(resultUuid).thenApply(modificationsGroupUuid ->
+            modificationsGroupUuid != null ? ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(modificationsGroupUuid)
+                : ResponseEntity.notFound().build());
     }
 
     @PutMapping(value = "/results/{resultUuid}/modifications-group-uuid", produces = APPLICATION_JSON_VALUE)
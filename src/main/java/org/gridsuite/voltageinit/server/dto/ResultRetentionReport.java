@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Results that the retention policy would evict, by criterion, a result matching several of them being counted once
+ * in the evictable count
+ *
+ * @author agent <agent at local>
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResultRetentionReport {
+
+    private Duration maxAge;
+
+    private int maxResultsPerNetwork;
+
+    private int maxResultsPerVariant;
+
+    private int expiredCount;
+
+    private int beyondNetworkCount;
+
+    private int beyondVariantCount;
+
+    private int evictableCount;
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Column filters of the bus voltages or reactive slacks of a result, the value is the voltage or the slack
+ *
+ * @author agent <agent at local>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResultRowsFilter {
+
+    @Schema(description = "part of the voltage level id")
+    private String voltageLevelId;
+
+    @Schema(description = "part of the bus id")
+    private String busId;
+
+    @Schema(description = "minimal value")
+    private Double minValue;
+
+    @Schema(description = "maximal value")
+    private Double maxValue;
+
+    @Schema(description = "minimal angle, bus voltages only")
+    private Double minAngle;
+
+    @Schema(description = "maximal angle, bus voltages only")
+    private Double maxAngle;
+
+    @Schema(description = "voltage levels the rows are restricted to, resolved from the global filters")
+    private List<String> voltageLevelIds;
+}
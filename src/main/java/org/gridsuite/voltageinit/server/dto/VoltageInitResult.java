@@ -40,4 +40,6 @@ public class VoltageInitResult {
     private boolean reactiveSlacksOverThreshold;
 
     private Double reactiveSlacksThreshold;
+
+    private boolean warmStart;
 }
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * @author agent <agent at local>
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class VoltageInitResultSummary {
+
+    private UUID resultUuid;
+
+    private VoltageInitStatus status;
+
+    private Instant writeTimeStamp;
+
+    private UUID modificationsGroupUuid;
+
+    private boolean reactiveSlacksOverThreshold;
+
+    private Double reactiveSlacksThreshold;
+
+    private Integer indicatorsCount;
+
+    private Double maxAbsReactiveSlack;
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author agent <agent at local>
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class VoltageLevelAggregate {
+
+    private String voltageLevelId;
+
+    private Double nominalV;
+
+    private int busCount;
+
+    private Double minV;
+
+    private Double maxV;
+
+    private Double meanV;
+
+    private double reactiveSlackSum;
+
+    private Double maxAbsReactiveSlack;
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.util.UUID;
+
+/**
+ * Read-only mapping of the bus voltages collection table, to query the bus voltages of a result page by page
+ * without loading the result
+ *
+ * @author agent <agent at local>
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@IdClass(ResultRowId.class)
+@Table(name = "voltage_init_result_entity_bus_voltages", indexes = {
+    @Index(name = "voltageInitResultEntity_busVoltages_busId_idx", columnList = "voltage_init_result_entity_result_uuid, bus_id"),
+    @Index(name = "voltageInitResultEntity_busVoltages_voltageLevelId_idx", columnList = "voltage_init_result_entity_result_uuid, voltage_level_id")
+})
+public class BusVoltageRowEntity {
+    @Id
+    @Column(name = "voltage_init_result_entity_result_uuid")
+    private UUID resultUuid;
+
+    @Id
+    @Column(name = "bus_id")
+    private String busId;
+
+    @Column(name = "voltage_level_id")
+    private String voltageLevelId;
+
+    @Column(name = "v")
+    private double v;
+
+    @Column(name = "angle")
+    private double angle;
+}
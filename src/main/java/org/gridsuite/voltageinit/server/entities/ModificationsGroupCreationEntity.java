@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Modifications group of a result, waiting for its creation in the network modification server.
+ * The row is written in the transaction inserting the result and removed once the group is created.
+ *
+ * @author agent <agent at local>
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "modifications_group_creation", indexes = {
+    @Index(name = "modificationsGroupCreation_nextAttemptAt_idx", columnList = "next_attempt_at"),
+    @Index(name = "modificationsGroupCreation_onDemand_nextAttemptAt_idx", columnList = "on_demand, next_attempt_at")
+})
+public class ModificationsGroupCreationEntity {
+    @Id
+    @Column(name = "modifications_group_uuid")
+    private UUID modificationsGroupUuid;
+
+    /**
+     * JSON body of the creation request, gzip compressed
+     */
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    /**
+     * Number of claimed attempts, a group is cleared before being created again after an attempt
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", columnDefinition = "timestamptz", nullable = false)
+    private Instant nextAttemptAt;
+
+    /**
+     * Created only when its uuid is first read, never by the background dispatch
+     */
+    @Column(name = "on_demand", nullable = false)
+    private boolean onDemand;
+
+    /**
+     * End of the lease of the attempt in progress, null when no attempt is in progress
+     */
+    @Column(name = "claimed_until", columnDefinition = "timestamptz")
+    private Instant claimedUntil;
+}
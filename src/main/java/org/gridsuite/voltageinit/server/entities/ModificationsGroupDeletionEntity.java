@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Modifications group of a deleted result, waiting for its deletion in the network modification server.
+ * The row is written in the transaction deleting the result and removed once the group is deleted.
+ *
+ * @author agent <agent at local>
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "modifications_group_deletion", indexes = {
+    @Index(name = "modificationsGroupDeletion_nextAttemptAt_idx", columnList = "next_attempt_at")
+})
+public class ModificationsGroupDeletionEntity {
+    @Id
+    @Column(name = "modifications_group_uuid")
+    private UUID modificationsGroupUuid;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", columnDefinition = "timestamptz", nullable = false)
+    private Instant nextAttemptAt;
+}
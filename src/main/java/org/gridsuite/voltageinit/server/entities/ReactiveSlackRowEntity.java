@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.util.UUID;
+
+/**
+ * Read-only mapping of the reactive slacks collection table, to query the reactive slacks of a result page by page
+ * without loading the result
+ *
+ * @author agent <agent at local>
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@IdClass(ResultRowId.class)
+@Table(name = "voltage_init_result_entity_reactive_slacks", indexes = {
+    @Index(name = "voltageInitResultEntity_reactiveSlacks_busId_idx", columnList = "voltage_init_result_entity_result_uuid, bus_id"),
+    @Index(name = "voltageInitResultEntity_reactiveSlacks_voltageLevelId_idx", columnList = "voltage_init_result_entity_result_uuid, voltage_level_id")
+})
+public class ReactiveSlackRowEntity {
+    @Id
+    @Column(name = "voltage_init_result_entity_result_uuid")
+    private UUID resultUuid;
+
+    @Id
+    @Column(name = "bus_id")
+    private String busId;
+
+    @Column(name = "voltage_level_id")
+    private String voltageLevelId;
+
+    @Column(name = "slack")
+    private double slack;
+}
@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.entities;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Columnar binary encoding of the bus voltages and reactive slacks of a result, stored in a single column instead
+ * of one row per bus.
+ * Identifiers are written once in a dictionary and referenced by their index, doubles are XOR-ed with the previous
+ * value of the column and written one byte plane after the other, and the whole blob is deflated.
+ * Strings are written as their UTF-8 bytes prefixed by their length, without any length limit.
+ * Blobs of the first formats, whose xors were written as variable length integers, are still read.
+ *
+ * @author agent <agent at local>
+ */
+public final class ResultBlobCodec {
+
+    private static final byte LEGACY_BUS_VOLTAGES_FORMAT = 1;
+    private static final byte LEGACY_REACTIVE_SLACKS_FORMAT = 2;
+    private static final byte BUS_VOLTAGES_FORMAT = 3;
+    private static final byte REACTIVE_SLACKS_FORMAT = 4;
+
+    private ResultBlobCodec() {
+    }
+
+    public static byte[] encodeBusVoltages(List<BusVoltageEmbeddable> busVoltages) {
+        return encode(BUS_VOLTAGES_FORMAT, out -> {
+            writeVarInt(out, busVoltages.size());
+            writeDictionaryColumn(out, busVoltages.stream().map(BusVoltageEmbeddable::getVoltageLevelId).toList());
+            writeDictionaryColumn(out, busVoltages.stream().map(BusVoltageEmbeddable::getBusId).toList());
+            writeXorColumn(out, busVoltages, BusVoltageEmbeddable::getV);
+            writeXorColumn(out, busVoltages, BusVoltageEmbeddable::getAngle);
+        });
+    }
+
+    public static List<BusVoltageEmbeddable> decodeBusVoltages(byte[] blob) {
+        return decode(blob, BUS_VOLTAGES_FORMAT, LEGACY_BUS_VOLTAGES_FORMAT, (in, legacy) -> {
+            int size = readVarInt(in);
+            String[] voltageLevelIds = readDictionaryColumn(in, size);
+            String[] busIds = readDictionaryColumn(in, size);
+            double[] v = legacy ? readLegacyXorColumn(in, size) : readXorColumn(in, size);
+            double[] angle = legacy ? readLegacyXorColumn(in, size) : readXorColumn(in, size);
+            List<BusVoltageEmbeddable> busVoltages = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                busVoltages.add(new BusVoltageEmbeddable(voltageLevelIds[i], busIds[i], v[i], angle[i]));
+            }
+            return busVoltages;
+        });
+    }
+
+    public static byte[] encodeReactiveSlacks(List<ReactiveSlackEmbeddable> reactiveSlacks) {
+        return encode(REACTIVE_SLACKS_FORMAT, out -> {
+            writeVarInt(out, reactiveSlacks.size());
+            writeDictionaryColumn(out, reactiveSlacks.stream().map(ReactiveSlackEmbeddable::getVoltageLevelId).toList());
+            writeDictionaryColumn(out, reactiveSlacks.stream().map(ReactiveSlackEmbeddable::getBusId).toList());
+            writeXorColumn(out, reactiveSlacks, ReactiveSlackEmbeddable::getSlack);
+        });
+    }
+
+    public static List<ReactiveSlackEmbeddable> decodeReactiveSlacks(byte[] blob) {
+        return decode(blob, REACTIVE_SLACKS_FORMAT, LEGACY_REACTIVE_SLACKS_FORMAT, (in, legacy) -> {
+            int size = readVarInt(in);
+            String[] voltageLevelIds = readDictionaryColumn(in, size);
+            String[] busIds = readDictionaryColumn(in, size);
+            double[] slacks = legacy ? readLegacyXorColumn(in, size) : readXorColumn(in, size);
+            List<ReactiveSlackEmbeddable> reactiveSlacks = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                reactiveSlacks.add(new ReactiveSlackEmbeddable(voltageLevelIds[i], busIds[i], slacks[i]));
+            }
+            return reactiveSlacks;
+        });
+    }
+
+    private interface ColumnsWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private interface ColumnsReader<T> {
+        T read(DataInputStream in, boolean legacy) throws IOException;
+    }
+
+    private static byte[] encode(byte format, ColumnsWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(format);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T> T decode(byte[] blob, byte format, byte legacyFormat, ColumnsReader<T> reader) {
+        if (blob.length == 0 || blob[0] != format && blob[0] != legacyFormat) {
+            throw new PowsyblException("Unsupported result blob format");
+        }
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(blob, 1, blob.length - 1)))) {
+            return reader.read(in, blob[0] == legacyFormat);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Distinct values in order of first appearance, then the dictionary index of each row
+     */
+    private static void writeDictionaryColumn(DataOutputStream out, List<String> values) throws IOException {
+        Map<String, Integer> indexes = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        int[] rows = new int[values.size()];
+        for (int i = 0; i < rows.length; i++) {
+            // index 0 stands for a null value
+            String value = values.get(i);
+            rows[i] = value == null ? 0 : indexes.computeIfAbsent(value, v -> {
+                dictionary.add(v);
+                return dictionary.size();
+            });
+        }
+        writeVarInt(out, dictionary.size());
+        for (String value : dictionary) {
+            writeString(out, value);
+        }
+        for (int row : rows) {
+            writeVarInt(out, row);
+        }
+    }
+
+    private static String[] readDictionaryColumn(DataInputStream in, int size) throws IOException {
+        String[] dictionary = new String[readVarInt(in) + 1];
+        for (int i = 1; i < dictionary.length; i++) {
+            dictionary[i] = readString(in);
+        }
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = dictionary[readVarInt(in)];
+        }
+        return values;
+    }
+
+    /**
+     * Unlike {@link DataOutputStream#writeUTF(String)}, not limited to 64KB per string
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The xor of each value with the previous one, on 8 bytes, the most significant byte of all the rows first.
+     * The sign, exponent and leading mantissa bits shared by close values give runs of zeros in the first planes,
+     * which the deflater compresses well, while the noisy last mantissa bits stay in the last planes: a change of
+     * sign or noisy mantissa bits cost at most the 8 bytes of the value, unlike a variable length integer.
+     */
+    private static <T> void writeXorColumn(DataOutputStream out, List<T> rows, ToDoubleFunction<T> column) throws IOException {
+        long[] xors = new long[rows.size()];
+        int index = 0;
+        long previous = 0;
+        for (T row : rows) {
+            long bits = Double.doubleToLongBits(column.applyAsDouble(row));
+            xors[index++] = bits ^ previous;
+            previous = bits;
+        }
+        byte[] plane = new byte[xors.length];
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            for (int i = 0; i < xors.length; i++) {
+                plane[i] = (byte) (xors[i] >>> shift);
+            }
+            out.write(plane);
+        }
+    }
+
+    private static double[] readXorColumn(DataInputStream in, int size) throws IOException {
+        long[] xors = new long[size];
+        byte[] plane = new byte[size];
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            in.readFully(plane);
+            for (int i = 0; i < size; i++) {
+                xors[i] |= (plane[i] & 0xFFL) << shift;
+            }
+        }
+        double[] values = new double[size];
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous ^= xors[i];
+            values[i] = Double.longBitsToDouble(previous);
+        }
+        return values;
+    }
+
+    /**
+     * Columns of the first formats: each xor with the previous value written as a variable length integer
+     */
+    private static double[] readLegacyXorColumn(DataInputStream in, int size) throws IOException {
+        double[] values = new double[size];
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous ^= readVarLong(in);
+            values[i] = Double.longBitsToDouble(previous);
+        }
+        return values;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, Integer.toUnsignedLong(value));
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.entities;
+
+/**
+ * Storage of the bus voltages and reactive slacks of a result
+ *
+ * @author agent <agent at local>
+ */
+public enum ResultStorageMode {
+    /**
+     * One row per bus in the collection tables
+     */
+    ELEMENT_COLLECTION,
+    /**
+     * Columnar compressed blobs in the result table, see {@link ResultBlobCodec}
+     */
+    BLOB
+}
@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Lock of a scheduled task shared by all the instances, held until the end of its lease unless released before.
+ *
+ * @author agent <agent at local>
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "scheduler_lock")
+public class SchedulerLockEntity {
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "locked_until", columnDefinition = "timestamptz", nullable = false)
+    private Instant lockedUntil;
+}
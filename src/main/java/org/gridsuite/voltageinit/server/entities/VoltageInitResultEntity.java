@@ -26,7 +26,10 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "voltage_init_result")
+@Table(name = "voltage_init_result", indexes = {
+    @Index(name = "voltageInitResultEntity_fingerprint_idx", columnList = "fingerprint"),
+    @Index(name = "voltageInitResultEntity_network_idx", columnList = "network_uuid, variant_id")
+})
 public class VoltageInitResultEntity {
     @Id
     private UUID resultUuid;
@@ -57,4 +60,67 @@ public class VoltageInitResultEntity {
 
     @Column(name = "debug_file_location")
     private String debugFileLocation;
+
+    /**
+     * Fingerprint of the computation inputs, used to reuse this result for an identical request
+     */
+    @Column(name = "fingerprint", length = 64)
+    private String fingerprint;
+
+    @Column(name = "network_uuid")
+    private UUID networkUuid;
+
+    @Column(name = "variant_id")
+    private String variantId;
+
+    /**
+     * Whether the computation started from the voltage profile of a previous result
+     */
+    @Column(name = "warm_start", nullable = false)
+    private boolean warmStart;
+
+    /**
+     * Bus voltages encoded by {@link ResultBlobCodec}, the collection is empty when set
+     */
+    @Column(name = "bus_voltages_blob")
+    private byte[] busVoltagesBlob;
+
+    /**
+     * Reactive slacks encoded by {@link ResultBlobCodec}, the collection is empty when set
+     */
+    @Column(name = "reactive_slacks_blob")
+    private byte[] reactiveSlacksBlob;
+
+    /**
+     * Number of indicators, kept on the result row for the summary
+     */
+    @Column(name = "indicators_count")
+    private Integer indicatorsCount;
+
+    /**
+     * Largest absolute reactive slack, kept on the result row for the summary
+     */
+    @Column(name = "max_abs_reactive_slack")
+    private Double maxAbsReactiveSlack;
+
+    /**
+     * Whether the computation report has voltage levels with limits out of their nominal voltage range, notified
+     * again when the result is reused
+     */
+    @Column(name = "voltage_level_limits_out_of_nominal_v_range", nullable = false)
+    private boolean voltageLevelLimitsOutOfNominalVRange;
+
+    /**
+     * @return the bus voltages, whatever the storage mode of the result
+     */
+    public List<BusVoltageEmbeddable> readBusVoltages() {
+        return busVoltagesBlob != null ? ResultBlobCodec.decodeBusVoltages(busVoltagesBlob) : busVoltages;
+    }
+
+    /**
+     * @return the reactive slacks, whatever the storage mode of the result
+     */
+    public List<ReactiveSlackEmbeddable> readReactiveSlacks() {
+        return reactiveSlacksBlob != null ? ResultBlobCodec.decodeReactiveSlacks(reactiveSlacksBlob) : reactiveSlacks;
+    }
 }
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Aggregates of the bus voltages and reactive slacks of a voltage level, computed when the result is saved.
+ * The rows are deleted with their result by the database.
+ *
+ * @author agent <agent at local>
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@IdClass(VoltageLevelAggregateId.class)
+@Table(name = "voltage_init_result_voltage_level_aggregate")
+public class VoltageLevelAggregateEntity {
+    @Id
+    @Column(name = "result_uuid")
+    private UUID resultUuid;
+
+    @Id
+    @Column(name = "voltage_level_id")
+    private String voltageLevelId;
+
+    @Column(name = "nominal_v")
+    private Double nominalV;
+
+    @Column(name = "bus_count", nullable = false)
+    private int busCount;
+
+    @Column(name = "min_v")
+    private Double minV;
+
+    @Column(name = "max_v")
+    private Double maxV;
+
+    @Column(name = "mean_v")
+    private Double meanV;
+
+    @Column(name = "reactive_slack_sum", nullable = false)
+    private double reactiveSlackSum;
+
+    /**
+     * Largest absolute reactive slack, null without slack in the voltage level
+     */
+    @Column(name = "max_abs_reactive_slack")
+    private Double maxAbsReactiveSlack;
+}
@@ -13,7 +13,10 @@ import com.powsybl.ws.commons.error.BusinessErrorCode;
  * @author Hugo Marcellin <hugo.marcelin at rte-france.com>
  */
 public enum VoltageInitBusinessErrorCode implements BusinessErrorCode {
-    MISSING_FILTER("voltageInit.missingFilter");
+    MISSING_FILTER("voltageInit.missingFilter"),
+    FILTERS_RESOLUTION_FAILED("voltageInit.filtersResolutionFailed"),
+    MODIFICATIONS_GROUP_CREATION_PENDING("voltageInit.modificationsGroupCreationPending"),
+    INVALID_SORT_PROPERTY("voltageInit.invalidSortProperty");
 
     private final String code;
 
@@ -23,6 +23,11 @@ public class VoltageInitException extends AbstractBusinessException {
         this.errorCode = Objects.requireNonNull(errorCode, "errorCode must not be null");
     }
 
+    public VoltageInitException(VoltageInitBusinessErrorCode errorCode, String message, Throwable cause) {
+        this(errorCode, message);
+        initCause(cause);
+    }
+
     @Override
     public @NonNull VoltageInitBusinessErrorCode getBusinessErrorCode() {
         return errorCode;
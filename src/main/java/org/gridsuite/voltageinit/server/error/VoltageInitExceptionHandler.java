@@ -33,7 +33,9 @@ public class VoltageInitExceptionHandler extends AbstractBusinessExceptionHandle
     @Override
     protected HttpStatus mapStatus(VoltageInitBusinessErrorCode businessErrorCode) {
         return switch (businessErrorCode) {
-            case MISSING_FILTER -> HttpStatus.INTERNAL_SERVER_ERROR;
+            case MISSING_FILTER, FILTERS_RESOLUTION_FAILED -> HttpStatus.INTERNAL_SERVER_ERROR;
+            case MODIFICATIONS_GROUP_CREATION_PENDING -> HttpStatus.SERVICE_UNAVAILABLE;
+            case INVALID_SORT_PROPERTY -> HttpStatus.BAD_REQUEST;
         };
     }
 
@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.repository;
+
+import org.gridsuite.voltageinit.server.entities.BusVoltageRowEntity;
+import org.gridsuite.voltageinit.server.entities.ResultRowId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author agent <agent at local>
+ */
+@Repository
+public interface BusVoltageRowRepository extends JpaRepository<BusVoltageRowEntity, ResultRowId>, JpaSpecificationExecutor<BusVoltageRowEntity> {
+
+    List<BusVoltageRowEntity> findByResultUuidAndVoltageLevelIdIn(UUID resultUuid, Collection<String> voltageLevelIds);
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.repository;
+
+import org.gridsuite.voltageinit.server.entities.ModificationsGroupCreationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author agent <agent at local>
+ */
+@Repository
+public interface ModificationsGroupCreationRepository extends JpaRepository<ModificationsGroupCreationEntity, UUID> {
+
+    /**
+     * @return the due creations to be done by the background dispatch, the on demand ones being left to their readers
+     */
+    @Query("SELECT c FROM ModificationsGroupCreationEntity c WHERE c.onDemand = false AND c.nextAttemptAt <= :now ORDER BY c.nextAttemptAt")
+    List<ModificationsGroupCreationEntity> findDue(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * @return the on demand creations not read nor attempted since the given time, and not claimed
+     */
+    @Query("SELECT c FROM ModificationsGroupCreationEntity c WHERE c.onDemand = true AND c.nextAttemptAt < :abandonedBefore"
+        + " AND (c.claimedUntil IS NULL OR c.claimedUntil < :abandonedBefore) ORDER BY c.nextAttemptAt")
+    List<ModificationsGroupCreationEntity> findAbandoned(@Param("abandonedBefore") Instant abandonedBefore, Pageable pageable);
+
+    /**
+     * Count an attempt and postpone the next one while the creation is processed, unless another thread or instance
+     * already did, or holds a lease not ended yet
+     *
+     * @return 1 when the creation is claimed, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ModificationsGroupCreationEntity c SET c.attempts = c.attempts + 1, c.nextAttemptAt = :leaseEnd, c.claimedUntil = :leaseEnd"
+        + " WHERE c.modificationsGroupUuid = :modificationsGroupUuid AND c.nextAttemptAt = :nextAttemptAt"
+        + " AND (c.claimedUntil IS NULL OR c.claimedUntil <= :now)")
+    int claim(@Param("modificationsGroupUuid") UUID modificationsGroupUuid, @Param("nextAttemptAt") Instant nextAttemptAt,
+              @Param("now") Instant now, @Param("leaseEnd") Instant leaseEnd);
+
+    /**
+     * Extend the lease of an attempt in progress, unless its claim has been taken over
+     *
+     * @return 1 when the lease is renewed, 0 when the claim is lost
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ModificationsGroupCreationEntity c SET c.nextAttemptAt = :renewedLeaseEnd, c.claimedUntil = :renewedLeaseEnd"
+        + " WHERE c.modificationsGroupUuid = :modificationsGroupUuid AND c.claimedUntil = :leaseEnd")
+    int renew(@Param("modificationsGroupUuid") UUID modificationsGroupUuid, @Param("leaseEnd") Instant leaseEnd,
+              @Param("renewedLeaseEnd") Instant renewedLeaseEnd);
+
+    /**
+     * Release the claim of a failed attempt and postpone the next one, unless its claim has been taken over
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ModificationsGroupCreationEntity c SET c.nextAttemptAt = :nextAttemptAt, c.claimedUntil = NULL"
+        + " WHERE c.modificationsGroupUuid = :modificationsGroupUuid AND c.claimedUntil = :leaseEnd")
+    int reschedule(@Param("modificationsGroupUuid") UUID modificationsGroupUuid, @Param("leaseEnd") Instant leaseEnd,
+                   @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    /**
+     * Remove an abandoned creation, unless it has been claimed since it was read
+     *
+     * @return 1 when the creation is removed, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ModificationsGroupCreationEntity c WHERE c.modificationsGroupUuid = :modificationsGroupUuid AND c.nextAttemptAt = :nextAttemptAt")
+    int removeAbandoned(@Param("modificationsGroupUuid") UUID modificationsGroupUuid, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    /**
+     * @return 1 when the creation was still pending, 0 when it has been removed meanwhile with its result
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ModificationsGroupCreationEntity c WHERE c.modificationsGroupUuid = :modificationsGroupUuid")
+    int remove(@Param("modificationsGroupUuid") UUID modificationsGroupUuid);
+}
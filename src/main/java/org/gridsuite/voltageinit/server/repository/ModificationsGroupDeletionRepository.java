@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.repository;
+
+import org.gridsuite.voltageinit.server.entities.ModificationsGroupDeletionEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author agent <agent at local>
+ */
+@Repository
+public interface ModificationsGroupDeletionRepository extends JpaRepository<ModificationsGroupDeletionEntity, UUID> {
+
+    @Query("SELECT d FROM ModificationsGroupDeletionEntity d WHERE d.nextAttemptAt <= :now ORDER BY d.nextAttemptAt")
+    List<ModificationsGroupDeletionEntity> findDue(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * Queue the deletion of a modifications group, ignored when it is already queued, possibly by another instance
+     *
+     * @return 1 when the deletion is queued, 0 when it already was
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO modifications_group_deletion (modifications_group_uuid, attempts, next_attempt_at)"
+        + " VALUES (:modificationsGroupUuid, 0, :nextAttemptAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int enqueue(@Param("modificationsGroupUuid") UUID modificationsGroupUuid, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    /**
+     * Postpone the next attempt of a deletion while it is processed, unless another instance already did
+     *
+     * @return 1 when the deletion is claimed, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ModificationsGroupDeletionEntity d SET d.nextAttemptAt = :leaseEnd"
+        + " WHERE d.modificationsGroupUuid = :modificationsGroupUuid AND d.nextAttemptAt = :nextAttemptAt")
+    int claim(@Param("modificationsGroupUuid") UUID modificationsGroupUuid, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("leaseEnd") Instant leaseEnd);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ModificationsGroupDeletionEntity d SET d.attempts = d.attempts + 1, d.nextAttemptAt = :nextAttemptAt"
+        + " WHERE d.modificationsGroupUuid = :modificationsGroupUuid")
+    int reschedule(@Param("modificationsGroupUuid") UUID modificationsGroupUuid, @Param("nextAttemptAt") Instant nextAttemptAt);
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.repository;
+
+import org.gridsuite.voltageinit.server.entities.ReactiveSlackRowEntity;
+import org.gridsuite.voltageinit.server.entities.ResultRowId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author agent <agent at local>
+ */
+@Repository
+public interface ReactiveSlackRowRepository extends JpaRepository<ReactiveSlackRowEntity, ResultRowId>, JpaSpecificationExecutor<ReactiveSlackRowEntity> {
+
+    List<ReactiveSlackRowEntity> findByResultUuidAndVoltageLevelIdIn(UUID resultUuid, Collection<String> voltageLevelIds);
+
+    /**
+     * @return the largest reactive slacks in absolute value above the given one, served by the absolute slack index
+     * on PostgreSQL
+     */
+    @Query("SELECT r FROM ReactiveSlackRowEntity r WHERE r.resultUuid = :resultUuid AND ABS(r.slack) > :minAbsSlack ORDER BY ABS(r.slack) DESC")
+    List<ReactiveSlackRowEntity> findTopByAbsSlack(@Param("resultUuid") UUID resultUuid, @Param("minAbsSlack") double minAbsSlack, Pageable pageable);
+
+    @Query("SELECT r FROM ReactiveSlackRowEntity r WHERE r.resultUuid = :resultUuid AND r.voltageLevelId IN :voltageLevelIds"
+        + " AND ABS(r.slack) > :minAbsSlack ORDER BY ABS(r.slack) DESC")
+    List<ReactiveSlackRowEntity> findTopByAbsSlack(@Param("resultUuid") UUID resultUuid, @Param("voltageLevelIds") Collection<String> voltageLevelIds,
+                                                   @Param("minAbsSlack") double minAbsSlack, Pageable pageable);
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.repository;
+
+import org.gridsuite.voltageinit.server.entities.BusVoltageEmbeddable;
+import org.gridsuite.voltageinit.server.entities.ReactiveSlackEmbeddable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Bulk insertion of the collections of a result, bypassing the row by row flush of the element collections.
+ * On PostgreSQL each chunk of rows is inserted by a single statement unnesting one array parameter per column, other
+ * databases use JDBC batches. Only standard JDBC is used, the PostgreSQL driver is not needed at compile time.
+ * The rows are written with the connection of the current transaction, the result row must have been flushed before.
+ *
+ * @author agent <agent at local>
+ */
+@Repository
+public class ResultBulkWriter {
+
+    private static final String RESULT_UUID_COLUMN = "voltage_init_result_entity_result_uuid";
+
+    private static final String INDICATORS_TABLE = "voltage_init_result_entity_indicators(" + RESULT_UUID_COLUMN + ", indicators_key, indicators)";
+    private static final String REACTIVE_SLACKS_TABLE = "voltage_init_result_entity_reactive_slacks(" + RESULT_UUID_COLUMN + ", voltage_level_id, bus_id, slack)";
+    private static final String BUS_VOLTAGES_TABLE = "voltage_init_result_entity_bus_voltages(" + RESULT_UUID_COLUMN + ", voltage_level_id, bus_id, v, angle)";
+
+    private static final String POSTGRESQL_PRODUCT_NAME = "PostgreSQL";
+
+    private static final String TEXT_TYPE = "text";
+    private static final String FLOAT8_TYPE = "float8";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int batchSize;
+
+    public ResultBulkWriter(JdbcTemplate jdbcTemplate,
+                            @Value("${voltage-init.result-storage.bulk-insert.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * A column of the inserted rows, bound as an array of the given PostgreSQL element type
+     */
+    private record UnnestColumn<T>(String type, Function<T, Object> value) { }
+
+    public void write(UUID resultUuid, Map<String, String> indicators, List<ReactiveSlackEmbeddable> reactiveSlacks, List<BusVoltageEmbeddable> busVoltages) {
+        Objects.requireNonNull(resultUuid);
+        List<Map.Entry<String, String>> indicatorRows = new ArrayList<>(indicators.entrySet());
+        boolean postgresql = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+            POSTGRESQL_PRODUCT_NAME.equals(connection.getMetaData().getDatabaseProductName())));
+        if (postgresql) {
+            unnestInsert(INDICATORS_TABLE, resultUuid, indicatorRows, List.of(
+                new UnnestColumn<>(TEXT_TYPE, Map.Entry::getKey),
+                new UnnestColumn<>(TEXT_TYPE, Map.Entry::getValue)));
+            unnestInsert(REACTIVE_SLACKS_TABLE, resultUuid, reactiveSlacks, List.of(
+                new UnnestColumn<>(TEXT_TYPE, ReactiveSlackEmbeddable::getVoltageLevelId),
+                new UnnestColumn<>(TEXT_TYPE, ReactiveSlackEmbeddable::getBusId),
+                new UnnestColumn<>(FLOAT8_TYPE, ReactiveSlackEmbeddable::getSlack)));
+            unnestInsert(BUS_VOLTAGES_TABLE, resultUuid, busVoltages, List.of(
+                new UnnestColumn<>(TEXT_TYPE, BusVoltageEmbeddable::getVoltageLevelId),
+                new UnnestColumn<>(TEXT_TYPE, BusVoltageEmbeddable::getBusId),
+                new UnnestColumn<>(FLOAT8_TYPE, BusVoltageEmbeddable::getV),
+                new UnnestColumn<>(FLOAT8_TYPE, BusVoltageEmbeddable::getAngle)));
+        } else {
+            batchInsert(INDICATORS_TABLE, 3, indicatorRows, (ps, row) -> {
+                ps.setObject(1, resultUuid);
+                ps.setString(2, row.getKey());
+                ps.setString(3, row.getValue());
+            });
+            batchInsert(REACTIVE_SLACKS_TABLE, 4, reactiveSlacks, (ps, row) -> {
+                ps.setObject(1, resultUuid);
+                ps.setString(2, row.getVoltageLevelId());
+                ps.setString(3, row.getBusId());
+                ps.setDouble(4, row.getSlack());
+            });
+            batchInsert(BUS_VOLTAGES_TABLE, 5, busVoltages, (ps, row) -> {
+                ps.setObject(1, resultUuid);
+                ps.setString(2, row.getVoltageLevelId());
+                ps.setString(3, row.getBusId());
+                ps.setDouble(4, row.getV());
+                ps.setDouble(5, row.getAngle());
+            });
+        }
+    }
+
+    private <T> void batchInsert(String table, int columnsCount, List<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+        if (!rows.isEmpty()) {
+            String placeholders = String.join(", ", Collections.nCopies(columnsCount, "?"));
+            jdbcTemplate.batchUpdate("INSERT INTO " + table + " VALUES (" + placeholders + ")", rows, batchSize, setter);
+        }
+    }
+
+    /**
+     * INSERT INTO table SELECT uuid, * FROM unnest(column1[], column2[], ...), a single round trip per chunk
+     */
+    private <T> void unnestInsert(String table, UUID resultUuid, List<T> rows, List<UnnestColumn<T>> columns) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String arrays = String.join(", ", columns.stream().map(column -> "CAST(? AS " + column.type() + "[])").toList());
+        String sql = "INSERT INTO " + table + " SELECT CAST(? AS uuid), * FROM unnest(" + arrays + ")";
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                for (int from = 0; from < rows.size(); from += batchSize) {
+                    List<T> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+                    ps.setObject(1, resultUuid);
+                    List<Array> arraysParameters = new ArrayList<>(columns.size());
+                    for (int i = 0; i < columns.size(); i++) {
+                        Array array = createArray(connection, columns.get(i), chunk);
+                        arraysParameters.add(array);
+                        ps.setArray(i + 2, array);
+                    }
+                    ps.executeUpdate();
+                    for (Array array : arraysParameters) {
+                        array.free();
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private static <T> Array createArray(Connection connection, UnnestColumn<T> column, List<T> rows) throws SQLException {
+        Object[] values = new Object[rows.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = column.value().apply(rows.get(i));
+        }
+        return connection.createArrayOf(column.type(), values);
+    }
+}
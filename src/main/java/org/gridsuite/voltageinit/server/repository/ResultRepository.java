@@ -7,12 +7,16 @@
 package org.gridsuite.voltageinit.server.repository;
 
 import org.gridsuite.voltageinit.server.entities.VoltageInitResultEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,6 +31,112 @@ public interface ResultRepository extends JpaRepository<VoltageInitResultEntity,
 
     void deleteByResultUuid(UUID resultUuid);
 
+    @Query("SELECT r FROM VoltageInitResultEntity r, GlobalStatusEntity s WHERE r.fingerprint = :fingerprint AND s.resultUuid = r.resultUuid"
+        + " AND s.status = :status AND r.modificationsGroupUuid IS NOT NULL ORDER BY r.writeTimeStamp DESC")
+    List<VoltageInitResultEntity> findByFingerprintAndStatus(@Param("fingerprint") String fingerprint, @Param("status") String status, Pageable pageable);
+
+    @Query("SELECT r FROM VoltageInitResultEntity r, GlobalStatusEntity s WHERE r.networkUuid = :networkUuid"
+        + " AND (r.variantId = :variantId OR (:variantId IS NULL AND r.variantId IS NULL))"
+        + " AND s.resultUuid = r.resultUuid AND s.status = :status ORDER BY r.writeTimeStamp DESC")
+    List<VoltageInitResultEntity> findByNetworkAndStatus(@Param("networkUuid") UUID networkUuid, @Param("variantId") String variantId, @Param("status") String status, Pageable pageable);
+
+    @Query("SELECT r.resultUuid FROM VoltageInitResultEntity r WHERE r.networkUuid = :networkUuid"
+        + " AND (r.variantId = :variantId OR (:variantId IS NULL AND r.variantId IS NULL)) ORDER BY r.writeTimeStamp DESC")
+    List<UUID> findLastResultUuids(@Param("networkUuid") UUID networkUuid, @Param("variantId") String variantId, Pageable pageable);
+
+    @Query("SELECT r.resultUuid FROM VoltageInitResultEntity r WHERE r.networkUuid = :networkUuid ORDER BY r.writeTimeStamp DESC")
+    List<UUID> findLastNetworkResultUuids(@Param("networkUuid") UUID networkUuid, Pageable pageable);
+
+    /**
+     * @return the bus voltages blob of the result, a null element when stored in the collection
+     */
+    @Query("SELECT r.busVoltagesBlob FROM VoltageInitResultEntity r WHERE r.resultUuid = :resultUuid")
+    List<byte[]> findBusVoltagesBlob(@Param("resultUuid") UUID resultUuid);
+
+    /**
+     * @return the reactive slacks blob of the result, a null element when stored in the collection
+     */
+    @Query("SELECT r.reactiveSlacksBlob FROM VoltageInitResultEntity r WHERE r.resultUuid = :resultUuid")
+    List<byte[]> findReactiveSlacksBlob(@Param("resultUuid") UUID resultUuid);
+
+    @Query("SELECT s.resultUuid AS resultUuid, s.status AS status, r.writeTimeStamp AS writeTimeStamp,"
+        + " r.modificationsGroupUuid AS modificationsGroupUuid, r.reactiveSlacksOverThreshold AS reactiveSlacksOverThreshold,"
+        + " r.reactiveSlacksThreshold AS reactiveSlacksThreshold, r.indicatorsCount AS indicatorsCount, r.maxAbsReactiveSlack AS maxAbsReactiveSlack"
+        + " FROM GlobalStatusEntity s LEFT JOIN VoltageInitResultEntity r ON r.resultUuid = s.resultUuid WHERE s.resultUuid = :resultUuid")
+    Optional<ResultSummaryProjection> findSummary(@Param("resultUuid") UUID resultUuid);
+
+    @Query("SELECT r.modificationsGroupUuid FROM VoltageInitResultEntity r WHERE r.resultUuid = :resultUuid")
+    Optional<UUID> findModificationsGroupUuid(@Param("resultUuid") UUID resultUuid);
+
+    @Query("SELECT r.modificationsGroupUuid FROM VoltageInitResultEntity r WHERE r.modificationsGroupUuid IS NOT NULL")
+    List<UUID> findAllModificationsGroupUuids();
+
+    @Query("SELECT r.modificationsGroupUuid FROM VoltageInitResultEntity r WHERE r.resultUuid IN :resultUuids AND r.modificationsGroupUuid IS NOT NULL")
+    List<UUID> findModificationsGroupUuids(@Param("resultUuids") Collection<UUID> resultUuids);
+
+    boolean existsByModificationsGroupUuid(UUID modificationsGroupUuid);
+
+    @Query("SELECT r.resultUuid FROM VoltageInitResultEntity r WHERE r.modificationsGroupUuid = :modificationsGroupUuid")
+    Optional<UUID> findResultUuidByModificationsGroupUuid(@Param("modificationsGroupUuid") UUID modificationsGroupUuid);
+
+    /**
+     * @return the results written before the given time, or without write time
+     */
+    @Query("SELECT r.resultUuid FROM VoltageInitResultEntity r WHERE r.writeTimeStamp < :writtenBefore OR r.writeTimeStamp IS NULL")
+    List<UUID> findResultUuidsWrittenBefore(@Param("writtenBefore") Instant writtenBefore);
+
+    /**
+     * @return the results of a network beyond the given count of its most recent ones, the results without write
+     * time being the oldest
+     */
+    @Query(value = "SELECT result_uuid FROM (SELECT result_uuid,"
+        + " ROW_NUMBER() OVER (PARTITION BY network_uuid ORDER BY write_time_stamp DESC NULLS LAST) AS result_rank"
+        + " FROM voltage_init_result WHERE network_uuid IS NOT NULL) ranked_results WHERE result_rank > :maxCount", nativeQuery = true)
+    List<UUID> findResultUuidsBeyondNetworkCount(@Param("maxCount") int maxCount);
+
+    /**
+     * @return the results of a network variant beyond the given count of its most recent ones, the results without
+     * write time being the oldest
+     */
+    @Query(value = "SELECT result_uuid FROM (SELECT result_uuid,"
+        + " ROW_NUMBER() OVER (PARTITION BY network_uuid, variant_id ORDER BY write_time_stamp DESC NULLS LAST) AS result_rank"
+        + " FROM voltage_init_result WHERE network_uuid IS NOT NULL) ranked_results WHERE result_rank > :maxCount", nativeQuery = true)
+    List<UUID> findResultUuidsBeyondVariantCount(@Param("maxCount") int maxCount);
+
+    @Modifying
+    @Query(value = "DELETE FROM voltage_init_result_entity_indicators WHERE voltage_init_result_entity_result_uuid IN (:resultUuids)", nativeQuery = true)
+    void deleteIndicators(@Param("resultUuids") Collection<UUID> resultUuids);
+
+    @Modifying
+    @Query(value = "DELETE FROM voltage_init_result_entity_reactive_slacks WHERE voltage_init_result_entity_result_uuid IN (:resultUuids)", nativeQuery = true)
+    void deleteReactiveSlacks(@Param("resultUuids") Collection<UUID> resultUuids);
+
+    @Modifying
+    @Query(value = "DELETE FROM voltage_init_result_entity_bus_voltages WHERE voltage_init_result_entity_result_uuid IN (:resultUuids)", nativeQuery = true)
+    void deleteBusVoltages(@Param("resultUuids") Collection<UUID> resultUuids);
+
+    @Modifying
+    @Query(value = "DELETE FROM voltage_init_result_entity_indicators", nativeQuery = true)
+    void deleteAllIndicators();
+
+    @Modifying
+    @Query(value = "DELETE FROM voltage_init_result_entity_reactive_slacks", nativeQuery = true)
+    void deleteAllReactiveSlacks();
+
+    @Modifying
+    @Query(value = "DELETE FROM voltage_init_result_entity_bus_voltages", nativeQuery = true)
+    void deleteAllBusVoltages();
+
+    @Query("SELECT r.reactiveSlacksThreshold FROM VoltageInitResultEntity r WHERE r.resultUuid = :resultUuid")
+    Optional<Double> findReactiveSlacksThreshold(@Param("resultUuid") UUID resultUuid);
+
+    @Query("SELECT r.debugFileLocation FROM VoltageInitResultEntity r WHERE r.resultUuid = :resultUuid")
+    Optional<String> findDebugFileLocation(@Param("resultUuid") UUID resultUuid);
+
+    @Modifying
+    @Query("UPDATE VoltageInitResultEntity r SET r.modificationsGroupUuid = NULL WHERE r.resultUuid = :resultUuid")
+    int resetModificationsGroupUuid(@Param("resultUuid") UUID resultUuid);
+
     @Modifying
     @Query("UPDATE VoltageInitResultEntity r SET r.debugFileLocation = :debugFileLocation WHERE r.resultUuid = :resultUuid")
     int updateDebugFileLocation(@Param("resultUuid") UUID resultUuid, @Param("debugFileLocation") String debugFileLocation);
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.gridsuite.voltageinit.server.dto.ResultRowsFilter;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filters of the rows of a result collection, evaluated by the database
+ *
+ * @author agent <agent at local>
+ */
+public final class ResultRowSpecifications {
+
+    private static final String RESULT_UUID = "resultUuid";
+    private static final String VOLTAGE_LEVEL_ID = "voltageLevelId";
+    private static final String BUS_ID = "busId";
+
+    /**
+     * Voltage level ids bound in a single IN restriction, to stay within the bind parameters limit of the database
+     */
+    public static final int VOLTAGE_LEVEL_IDS_CHUNK_SIZE = 1000;
+
+    private static final char LIKE_ESCAPE_CHAR = '\\';
+
+    private ResultRowSpecifications() {
+    }
+
+    /**
+     * @return the pattern of the values containing the given text, case insensitive, its wildcards matched literally
+     */
+    private static String containsPattern(String text) {
+        String escapedText = text.toUpperCase()
+            .replace(String.valueOf(LIKE_ESCAPE_CHAR), String.valueOf(LIKE_ESCAPE_CHAR) + LIKE_ESCAPE_CHAR)
+            .replace("%", LIKE_ESCAPE_CHAR + "%")
+            .replace("_", LIKE_ESCAPE_CHAR + "_");
+        return "%" + escapedText + "%";
+    }
+
+    /**
+     * Large voltage level lists are split into several IN restrictions
+     */
+    private static Predicate voltageLevelIdIn(Path<String> voltageLevelId, Collection<String> voltageLevelIds, CriteriaBuilder criteriaBuilder) {
+        List<String> distinctIds = voltageLevelIds.stream().distinct().toList();
+        List<Predicate> chunks = new ArrayList<>();
+        for (int i = 0; i < distinctIds.size(); i += VOLTAGE_LEVEL_IDS_CHUNK_SIZE) {
+            chunks.add(voltageLevelId.in(distinctIds.subList(i, Math.min(i + VOLTAGE_LEVEL_IDS_CHUNK_SIZE, distinctIds.size()))));
+        }
+        return criteriaBuilder.or(chunks.toArray(new Predicate[0]));
+    }
+
+    /**
+     * @param valueField field filtered by the min and max values of the filter
+     * @param angleField field filtered by the min and max angles of the filter, null when there is none
+     */
+    public static <T> Specification<T> of(UUID resultUuid, ResultRowsFilter filter, String valueField, String angleField) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(criteriaBuilder.equal(root.get(RESULT_UUID), resultUuid));
+            if (filter.getVoltageLevelIds() != null) {
+                // an empty disjunction matches no row
+                predicates.add(voltageLevelIdIn(root.<String>get(VOLTAGE_LEVEL_ID), filter.getVoltageLevelIds(), criteriaBuilder));
+            }
+            if (filter.getVoltageLevelId() != null) {
+                predicates.add(criteriaBuilder.like(criteriaBuilder.upper(root.<String>get(VOLTAGE_LEVEL_ID)), containsPattern(filter.getVoltageLevelId()), LIKE_ESCAPE_CHAR));
+            }
+            if (filter.getBusId() != null) {
+                predicates.add(criteriaBuilder.like(criteriaBuilder.upper(root.<String>get(BUS_ID)), containsPattern(filter.getBusId()), LIKE_ESCAPE_CHAR));
+            }
+            if (filter.getMinValue() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.<Double>get(valueField), filter.getMinValue()));
+            }
+            if (filter.getMaxValue() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.<Double>get(valueField), filter.getMaxValue()));
+            }
+            if (angleField != null && filter.getMinAngle() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.<Double>get(angleField), filter.getMinAngle()));
+            }
+            if (angleField != null && filter.getMaxAngle() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.<Double>get(angleField), filter.getMaxAngle()));
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
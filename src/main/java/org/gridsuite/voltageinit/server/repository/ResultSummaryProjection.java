@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Columns of the status and result rows of a result, the result ones being null while it is not computed
+ *
+ * @author agent <agent at local>
+ */
+public interface ResultSummaryProjection {
+
+    UUID getResultUuid();
+
+    String getStatus();
+
+    Instant getWriteTimeStamp();
+
+    UUID getModificationsGroupUuid();
+
+    Boolean getReactiveSlacksOverThreshold();
+
+    Double getReactiveSlacksThreshold();
+
+    Integer getIndicatorsCount();
+
+    Double getMaxAbsReactiveSlack();
+}
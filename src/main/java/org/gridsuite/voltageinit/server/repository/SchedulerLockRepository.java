@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.repository;
+
+import org.gridsuite.voltageinit.server.entities.SchedulerLockEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * @author agent <agent at local>
+ */
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLockEntity, String> {
+
+    /**
+     * Create the lock released, unless it already exists
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_lock (name, locked_until) VALUES (:name, :lockedUntil) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int create(@Param("name") String name, @Param("lockedUntil") Instant lockedUntil);
+
+    /**
+     * Hold the lock until the end of the lease, unless another instance holds it
+     *
+     * @return 1 when the lock is acquired, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLockEntity l SET l.lockedUntil = :leaseEnd WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name, @Param("now") Instant now, @Param("leaseEnd") Instant leaseEnd);
+
+    /**
+     * Extend the lease of the lock, unless its lease has ended and another instance acquired it since
+     *
+     * @return 1 when the lease is renewed, 0 when the lock is lost
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLockEntity l SET l.lockedUntil = :renewedLeaseEnd WHERE l.name = :name AND l.lockedUntil = :leaseEnd")
+    int renew(@Param("name") String name, @Param("leaseEnd") Instant leaseEnd, @Param("renewedLeaseEnd") Instant renewedLeaseEnd);
+
+    /**
+     * Release the lock, unless its lease has ended and another instance acquired it since
+     *
+     * @return 1 when the lock is released, 0 when it was lost
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLockEntity l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedUntil = :leaseEnd")
+    int release(@Param("name") String name, @Param("leaseEnd") Instant leaseEnd, @Param("now") Instant now);
+}
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.repository;
+
+import org.gridsuite.voltageinit.server.entities.VoltageLevelAggregateEntity;
+import org.gridsuite.voltageinit.server.entities.VoltageLevelAggregateId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author agent <agent at local>
+ */
+@Repository
+public interface VoltageLevelAggregateRepository extends JpaRepository<VoltageLevelAggregateEntity, VoltageLevelAggregateId> {
+
+    Page<VoltageLevelAggregateEntity> findByResultUuid(UUID resultUuid, Pageable pageable);
+
+    List<VoltageLevelAggregateEntity> findByResultUuid(UUID resultUuid);
+
+    long countByResultUuid(UUID resultUuid);
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Network;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bus view of a network indexed once per run, right after the computation: each bus gets a slot giving access
+ * to its voltage level id, nominal voltage and current voltage, without walking the bus view again nor calling the
+ * network from the threads building the modifications.
+ *
+ * @author agent <agent at local>
+ */
+public final class BusIndex {
+
+    public static final int NO_SLOT = -1;
+
+    private final Map<String, Integer> slots;
+
+    private final String[] busIds;
+
+    private final String[] voltageLevelIds;
+
+    private final double[] nominalVs;
+
+    private final double[] vs;
+
+    private final double[] angles;
+
+    private BusIndex(List<Bus> buses) {
+        int size = buses.size();
+        slots = HashMap.newHashMap(size);
+        busIds = new String[size];
+        voltageLevelIds = new String[size];
+        nominalVs = new double[size];
+        vs = new double[size];
+        angles = new double[size];
+        for (int slot = 0; slot < size; slot++) {
+            Bus bus = buses.get(slot);
+            slots.put(bus.getId(), slot);
+            busIds[slot] = bus.getId();
+            voltageLevelIds[slot] = bus.getVoltageLevel().getId();
+            nominalVs[slot] = bus.getVoltageLevel().getNominalV();
+            vs[slot] = bus.getV();
+            angles[slot] = bus.getAngle();
+        }
+    }
+
+    public static BusIndex of(Network network) {
+        List<Bus> buses = new ArrayList<>();
+        network.getBusView().getBuses().forEach(buses::add);
+        return new BusIndex(buses);
+    }
+
+    public int size() {
+        return busIds.length;
+    }
+
+    /**
+     * @return the slot of the bus, {@link #NO_SLOT} when the bus is not in the bus view
+     */
+    public int getSlot(String busId) {
+        Integer slot = busId != null ? slots.get(busId) : null;
+        return slot != null ? slot : NO_SLOT;
+    }
+
+    public String getBusId(int slot) {
+        return busIds[slot];
+    }
+
+    public String getVoltageLevelId(int slot) {
+        return voltageLevelIds[slot];
+    }
+
+    public double getNominalV(int slot) {
+        return nominalVs[slot];
+    }
+
+    /**
+     * @return the voltage of the bus in the network when indexed, in kV
+     */
+    public double getV(int slot) {
+        return vs[slot];
+    }
+
+    /**
+     * @return the angle of the bus in the network when indexed, in degrees
+     */
+    public double getAngle(int slot) {
+        return angles[slot];
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.powsybl.iidm.network.StaticVarCompensator;
+import org.gridsuite.voltageinit.server.dto.BusModificationInfos;
+import org.gridsuite.voltageinit.server.dto.GeneratorModificationInfos;
+import org.gridsuite.voltageinit.server.dto.ShuntCompensatorModificationInfos;
+import org.gridsuite.voltageinit.server.dto.StaticVarCompensatorModificationInfos;
+import org.gridsuite.voltageinit.server.dto.TransformerModificationInfos;
+import org.gridsuite.voltageinit.server.dto.VscConverterStationModificationInfos;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Comparison of the modifications proposed by OpenReac with the current state of the network, so that only the
+ * changes are sent to the network modification server. The current state is read from a
+ * {@link NetworkStateSnapshot} and the {@link BusIndex}, so that the comparisons can run concurrently.
+ * The values left unchanged within the configured tolerances are removed from a modification, and a modification
+ * is dropped when none of its values changes anything. Setpoints of static var compensators and VSC converter
+ * stations are only considered unchanged when the matching regulation is already active, since applying them also
+ * switches the regulation mode.
+ *
+ * @author agent <agent at local>
+ */
+@Service
+public class ModificationsDeltaService {
+
+    private final boolean enabled;
+
+    private final double voltageTolerance;
+
+    private final double reactivePowerTolerance;
+
+    private final double angleTolerance;
+
+    public ModificationsDeltaService(@Value("${voltage-init.modifications-delta.enabled:false}") boolean enabled,
+                                     @Value("${voltage-init.modifications-delta.voltage-tolerance:1e-3}") double voltageTolerance,
+                                     @Value("${voltage-init.modifications-delta.reactive-power-tolerance:1e-3}") double reactivePowerTolerance,
+                                     @Value("${voltage-init.modifications-delta.angle-tolerance:1e-3}") double angleTolerance) {
+        this.enabled = enabled;
+        this.voltageTolerance = voltageTolerance;
+        this.reactivePowerTolerance = reactivePowerTolerance;
+        this.angleTolerance = angleTolerance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private static boolean isUnchanged(double current, Double proposed, double tolerance) {
+        // NaN current values, as the voltages of a bus never computed, are always changed
+        return proposed == null || Math.abs(current - proposed) <= tolerance;
+    }
+
+    /**
+     * @return false when the modification leaves the generator unchanged, otherwise its unchanged values are removed
+     */
+    public boolean retain(NetworkStateSnapshot.GeneratorState generator, GeneratorModificationInfos modification) {
+        if (generator == null) {
+            return true;
+        }
+        if (isUnchanged(generator.targetV(), modification.getTargetV(), voltageTolerance)) {
+            modification.setTargetV(null);
+        }
+        if (isUnchanged(generator.targetQ(), modification.getTargetQ(), reactivePowerTolerance)) {
+            modification.setTargetQ(null);
+        }
+        return modification.getTargetV() != null || modification.getTargetQ() != null;
+    }
+
+    /**
+     * @return false when the modification leaves the ratio tap changer unchanged, otherwise its unchanged values are removed
+     */
+    public boolean retain(NetworkStateSnapshot.RatioTapChangerState ratioTapChanger, TransformerModificationInfos modification) {
+        if (ratioTapChanger == null) {
+            return true;
+        }
+        if (modification.getRatioTapChangerPosition() != null && modification.getRatioTapChangerPosition() == ratioTapChanger.tapPosition()) {
+            modification.setRatioTapChangerPosition(null);
+        }
+        if (isUnchanged(ratioTapChanger.targetV(), modification.getRatioTapChangerTargetV(), voltageTolerance)) {
+            modification.setRatioTapChangerTargetV(null);
+        }
+        return modification.getRatioTapChangerPosition() != null || modification.getRatioTapChangerTargetV() != null;
+    }
+
+    public boolean retain(NetworkStateSnapshot.StaticVarCompensatorState staticVarCompensator, StaticVarCompensatorModificationInfos modification) {
+        if (staticVarCompensator == null) {
+            return true;
+        }
+        StaticVarCompensator.RegulationMode regulationMode = staticVarCompensator.regulationMode();
+        boolean voltageSetpointUnchanged = modification.getVoltageSetpoint() == null
+            || regulationMode == StaticVarCompensator.RegulationMode.VOLTAGE && isUnchanged(staticVarCompensator.voltageSetpoint(), modification.getVoltageSetpoint(), voltageTolerance);
+        boolean reactivePowerSetpointUnchanged = modification.getReactivePowerSetpoint() == null
+            || regulationMode == StaticVarCompensator.RegulationMode.REACTIVE_POWER && isUnchanged(staticVarCompensator.reactivePowerSetpoint(), modification.getReactivePowerSetpoint(), reactivePowerTolerance);
+        return !voltageSetpointUnchanged || !reactivePowerSetpointUnchanged;
+    }
+
+    public boolean retain(NetworkStateSnapshot.VscConverterStationState vscConverterStation, VscConverterStationModificationInfos modification) {
+        if (vscConverterStation == null) {
+            return true;
+        }
+        boolean voltageSetpointUnchanged = modification.getVoltageSetpoint() == null
+            || vscConverterStation.voltageRegulatorOn() && isUnchanged(vscConverterStation.voltageSetpoint(), modification.getVoltageSetpoint(), voltageTolerance);
+        boolean reactivePowerSetpointUnchanged = modification.getReactivePowerSetpoint() == null
+            || !vscConverterStation.voltageRegulatorOn() && isUnchanged(vscConverterStation.reactivePowerSetpoint(), modification.getReactivePowerSetpoint(), reactivePowerTolerance);
+        return !voltageSetpointUnchanged || !reactivePowerSetpointUnchanged;
+    }
+
+    public boolean retain(NetworkStateSnapshot.ShuntCompensatorState shuntCompensator, ShuntCompensatorModificationInfos modification) {
+        if (shuntCompensator == null) {
+            return true;
+        }
+        boolean sectionCountUnchanged = modification.getSectionCount() == null || modification.getSectionCount() == shuntCompensator.sectionCount();
+        boolean connectionUnchanged = modification.getConnect() == null || modification.getConnect() == shuntCompensator.connected();
+        return !sectionCountUnchanged || !connectionUnchanged || !isUnchanged(shuntCompensator.targetV(), modification.getTargetV(), voltageTolerance);
+    }
+
+    /**
+     * @param v the voltage of the bus in the network, in kV
+     * @param angle the angle of the bus in the network, in degrees
+     */
+    public boolean retain(double v, double angle, BusModificationInfos modification) {
+        return !isUnchanged(v, modification.getV(), voltageTolerance)
+            || !isUnchanged(angle, modification.getAngle(), angleTolerance);
+    }
+}
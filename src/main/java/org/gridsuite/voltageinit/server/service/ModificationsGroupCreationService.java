@@ -0,0 +1,364 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.powsybl.commons.PowsyblException;
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.computation.service.UuidGeneratorService;
+import org.gridsuite.voltageinit.server.entities.ModificationsGroupCreationEntity;
+import org.gridsuite.voltageinit.server.error.VoltageInitException;
+import org.gridsuite.voltageinit.server.repository.ModificationsGroupCreationRepository;
+import org.gridsuite.voltageinit.server.repository.ModificationsGroupDeletionRepository;
+import org.gridsuite.voltageinit.server.repository.ResultRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.gridsuite.voltageinit.server.error.VoltageInitBusinessErrorCode.MODIFICATIONS_GROUP_CREATION_PENDING;
+
+/**
+ * Creates the modifications groups of the results in the network modification server, from the outbox filled by
+ * {@link VoltageInitResultService} in the transaction inserting the result.
+ * Each dispatch claims due creations for the free threads of a fixed pool, without waiting for them, a failed
+ * creation is retried later with an exponential backoff. The group uuid is the idempotency key of a creation: a group
+ * is cleared before being created again after an attempt, which may have failed once the modifications were applied.
+ * A group still pending when its uuid is read is created on the spot by {@link #complete}, the concurrent readers of
+ * an instance waiting for the same creation without holding a thread. In on demand mode the groups are only created
+ * this way, so that the groups of the results never applied are never posted.
+ * An attempt holds its claim for the claim lease, renewed while the group is uploaded: an attempt in progress is
+ * never cleared nor created again, a claim is only taken over once its lease has ended, when the instance holding it
+ * stopped.
+ * The on demand creations not read within their time to live are dropped, the results of the never applied
+ * modifications no longer referencing a group.
+ *
+ * @author agent <agent at local>
+ */
+@Service
+public class ModificationsGroupCreationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModificationsGroupCreationService.class);
+
+    private static final Duration COMPLETION_POLL_INTERVAL = Duration.ofMillis(200);
+
+    private final ModificationsGroupCreationRepository modificationsGroupCreationRepository;
+
+    private final ModificationsGroupDeletionRepository modificationsGroupDeletionRepository;
+
+    private final ResultRepository resultRepository;
+
+    private final NetworkModificationService networkModificationService;
+
+    private final VoltageInitResultService resultService;
+
+    private final ExecutorService executorService;
+
+    /**
+     * Renews the leases of the attempts in progress and schedules the next polls of the completions
+     */
+    private final ScheduledExecutorService leaseScheduler;
+
+    private final int parallelism;
+
+    /**
+     * Creations claimed by the dispatch and not done yet
+     */
+    private final AtomicInteger dispatchedCreations = new AtomicInteger();
+
+    private final int batchSize;
+
+    private final Duration retryDelay;
+
+    private final Duration maxRetryDelay;
+
+    private final Duration completionTimeout;
+
+    /**
+     * Delay before a claimed creation may be claimed again if its lease is not renewed, the instance processing it
+     * having stopped
+     */
+    private final Duration claimLease;
+
+    private final boolean onDemand;
+
+    /**
+     * Delay after which an on demand creation not read nor attempted is abandoned
+     */
+    private final Duration onDemandTtl;
+
+    private final UuidGeneratorService uuidGeneratorService;
+
+    /**
+     * Creations completed by a reader of this instance, joined by the other readers of the same group
+     */
+    private final Map<UUID, CompletableFuture<Void>> completions = new ConcurrentHashMap<>();
+
+    public ModificationsGroupCreationService(ModificationsGroupCreationRepository modificationsGroupCreationRepository,
+                                             ModificationsGroupDeletionRepository modificationsGroupDeletionRepository,
+                                             ResultRepository resultRepository,
+                                             NetworkModificationService networkModificationService,
+                                             VoltageInitResultService resultService,
+                                             UuidGeneratorService uuidGeneratorService,
+                                             @Value("${voltage-init.modifications-group-creation.parallelism:4}") int parallelism,
+                                             @Value("${voltage-init.modifications-group-creation.batch-size:20}") int batchSize,
+                                             @Value("${voltage-init.modifications-group-creation.retry-delay:PT10S}") Duration retryDelay,
+                                             @Value("${voltage-init.modifications-group-creation.max-retry-delay:PT10M}") Duration maxRetryDelay,
+                                             @Value("${voltage-init.modifications-group-creation.completion-timeout:PT30S}") Duration completionTimeout,
+                                             @Value("${voltage-init.modifications-group-creation.claim-lease:PT20S}") Duration claimLease,
+                                             @Value("${voltage-init.modifications-group-creation.on-demand:false}") boolean onDemand,
+                                             @Value("${voltage-init.modifications-group-creation.on-demand-ttl:P30D}") Duration onDemandTtl) {
+        this.modificationsGroupCreationRepository = modificationsGroupCreationRepository;
+        this.modificationsGroupDeletionRepository = modificationsGroupDeletionRepository;
+        this.resultRepository = resultRepository;
+        this.networkModificationService = networkModificationService;
+        this.resultService = resultService;
+        this.uuidGeneratorService = uuidGeneratorService;
+        this.executorService = Executors.newFixedThreadPool(parallelism);
+        this.leaseScheduler = Executors.newSingleThreadScheduledExecutor();
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+        this.completionTimeout = completionTimeout;
+        this.claimLease = claimLease;
+        if (claimLease.compareTo(completionTimeout) >= 0) {
+            LOGGER.warn("Modifications group creation claim lease {} not shorter than the completion timeout {}: "
+                + "the readers cannot take over the claims of a stopped instance", claimLease, completionTimeout);
+        }
+        this.onDemand = onDemand;
+        this.onDemandTtl = onDemandTtl;
+    }
+
+    public boolean isOnDemand() {
+        return onDemand;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseScheduler.shutdown();
+        executorService.shutdown();
+    }
+
+    /**
+     * @return the end of a lease starting now, truncated to the precision of the database as the lease end
+     * identifies the claim
+     */
+    private Instant leaseEnd(Instant now) {
+        return now.plus(claimLease).truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    @Scheduled(fixedDelayString = "${voltage-init.modifications-group-creation.dispatch-delay:1000}")
+    public void dispatch() {
+        dispatchDue();
+    }
+
+    /**
+     * Claim due creations for the free threads only, the claims waiting for a thread would lose their lease
+     *
+     * @return the creations dispatched, not waited for by the scheduled dispatch
+     */
+    CompletableFuture<Void> dispatchDue() {
+        int freeThreads = parallelism - dispatchedCreations.get();
+        if (freeThreads <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Instant now = Instant.now();
+        Instant leaseEnd = leaseEnd(now);
+        List<CompletableFuture<Boolean>> creations = new ArrayList<>();
+        for (ModificationsGroupCreationEntity creation : modificationsGroupCreationRepository.findDue(now, PageRequest.of(0, Math.min(batchSize, freeThreads)))) {
+            if (modificationsGroupCreationRepository.claim(creation.getModificationsGroupUuid(), creation.getNextAttemptAt(), now, leaseEnd) == 1) {
+                dispatchedCreations.incrementAndGet();
+                creations.add(CompletableFuture.supplyAsync(() -> create(creation, leaseEnd), executorService)
+                    .whenComplete((created, e) -> dispatchedCreations.decrementAndGet()));
+            }
+        }
+        return CompletableFuture.allOf(creations.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Drop the on demand creations abandoned for longer than their time to live, including those left by a switch
+     * from the on demand mode
+     *
+     * @return the number of dropped creations
+     */
+    @Scheduled(fixedDelayString = "${voltage-init.modifications-group-creation.purge-delay:3600000}")
+    public int purgeAbandoned() {
+        Instant abandonedBefore = Instant.now().minus(onDemandTtl);
+        int dropped = 0;
+        List<ModificationsGroupCreationEntity> abandoned;
+        int droppedInBatch;
+        do {
+            abandoned = modificationsGroupCreationRepository.findAbandoned(abandonedBefore, PageRequest.of(0, batchSize));
+            droppedInBatch = 0;
+            for (ModificationsGroupCreationEntity creation : abandoned) {
+                if (resultService.dropAbandonedModificationsGroupCreation(creation)) {
+                    droppedInBatch++;
+                }
+            }
+            dropped += droppedInBatch;
+            // the creations claimed meanwhile are no longer found, a batch without any drop ends the purge anyway
+        } while (abandoned.size() == batchSize && droppedInBatch > 0);
+        if (dropped > 0) {
+            LOGGER.info("{} abandoned on demand modifications group creations dropped", dropped);
+        }
+        return dropped;
+    }
+
+    /**
+     * Create the group now if its creation is still pending, waiting for a creation in progress elsewhere
+     *
+     * @return the completion, failed with a {@link VoltageInitException} with the MODIFICATIONS_GROUP_CREATION_PENDING
+     * code when the group is not created within the completion timeout, or when the attempt fails, the creation being
+     * retried later
+     */
+    public CompletableFuture<Void> complete(UUID modificationsGroupUuid) {
+        CompletableFuture<Void> newCompletion = new CompletableFuture<>();
+        CompletableFuture<Void> completion = completions.putIfAbsent(modificationsGroupUuid, newCompletion);
+        if (completion == null) {
+            completion = newCompletion;
+            newCompletion.whenComplete((result, e) -> completions.remove(modificationsGroupUuid, newCompletion));
+            long deadline = System.nanoTime() + completionTimeout.toNanos();
+            executorService.execute(() -> tryComplete(modificationsGroupUuid, newCompletion, deadline));
+        }
+        // the attempt goes on after the timeout of its readers
+        return completion.copy()
+            .orTimeout(completionTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .exceptionally(e -> {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof TimeoutException) {
+                    throw new VoltageInitException(MODIFICATIONS_GROUP_CREATION_PENDING, "Creation of modifications group " + modificationsGroupUuid + " still in progress", cause);
+                }
+                throw cause instanceof RuntimeException runtimeException ? runtimeException : new PowsyblException("Error creating modifications group", cause);
+            });
+    }
+
+    private void tryComplete(UUID modificationsGroupUuid, CompletableFuture<Void> completion, long deadline) {
+        try {
+            Optional<ModificationsGroupCreationEntity> creation = modificationsGroupCreationRepository.findById(modificationsGroupUuid);
+            if (creation.isEmpty()) {
+                completion.complete(null);
+                return;
+            }
+            // a creation waiting for its next attempt is tried immediately, one in progress only once its lease has ended
+            Instant now = Instant.now();
+            Instant leaseEnd = leaseEnd(now);
+            if (modificationsGroupCreationRepository.claim(modificationsGroupUuid, creation.get().getNextAttemptAt(), now, leaseEnd) == 1) {
+                if (create(creation.get(), leaseEnd)) {
+                    completion.complete(null);
+                } else {
+                    completion.completeExceptionally(new VoltageInitException(MODIFICATIONS_GROUP_CREATION_PENDING, "Creation of modifications group " + modificationsGroupUuid + " failed, retried later"));
+                }
+            } else if (System.nanoTime() > deadline) {
+                completion.completeExceptionally(new VoltageInitException(MODIFICATIONS_GROUP_CREATION_PENDING, "Creation of modifications group " + modificationsGroupUuid + " still in progress"));
+            } else {
+                leaseScheduler.schedule(() -> executorService.execute(() -> tryComplete(modificationsGroupUuid, completion, deadline)),
+                    COMPLETION_POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (RuntimeException e) {
+            completion.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * @return the uuid of a new group with the modifications of the source group, copied from the outbox without
+     * calling the network modification server when the source group is not created yet
+     */
+    public UUID duplicate(UUID sourceGroupUuid) {
+        Optional<ModificationsGroupCreationEntity> source = modificationsGroupCreationRepository.findById(sourceGroupUuid);
+        if (source.isEmpty()) {
+            return networkModificationService.duplicateModificationsGroup(sourceGroupUuid);
+        }
+        UUID modificationsGroupUuid = uuidGeneratorService.generate();
+        modificationsGroupCreationRepository.save(new ModificationsGroupCreationEntity(modificationsGroupUuid, source.get().getPayload(), 0, Instant.now(), onDemand, null));
+        return modificationsGroupUuid;
+    }
+
+    /**
+     * Drop a duplicate no longer referenced by any result: its creation is removed if still pending, the group possibly
+     * duplicated in the network modification server being queued for deletion
+     */
+    public void discard(UUID modificationsGroupUuid) {
+        modificationsGroupCreationRepository.remove(modificationsGroupUuid);
+        modificationsGroupDeletionRepository.enqueue(modificationsGroupUuid, Instant.now());
+    }
+
+    /**
+     * Renew the lease of an attempt, the lease end being cleared once the claim is lost
+     */
+    private void renewLease(UUID modificationsGroupUuid, AtomicReference<Instant> lease) {
+        synchronized (lease) {
+            Instant leaseEnd = lease.get();
+            if (leaseEnd == null) {
+                return;
+            }
+            Instant renewedLeaseEnd = leaseEnd(Instant.now());
+            if (modificationsGroupCreationRepository.renew(modificationsGroupUuid, leaseEnd, renewedLeaseEnd) == 1) {
+                lease.set(renewedLeaseEnd);
+            } else {
+                lease.set(null);
+                LOGGER.warn("Claim of the creation of modifications group {} lost during its upload", modificationsGroupUuid);
+            }
+        }
+    }
+
+    /**
+     * @return the end of the lease once no more renewed, null when the claim has been lost
+     */
+    private static Instant stopRenewal(ScheduledFuture<?> renewal, AtomicReference<Instant> lease) {
+        synchronized (lease) {
+            renewal.cancel(false);
+            return lease.getAndSet(null);
+        }
+    }
+
+    /**
+     * @param creation the creation as read before being claimed
+     * @param leaseEnd the end of the lease of the claim
+     * @return true when the group has been created
+     */
+    private boolean create(ModificationsGroupCreationEntity creation, Instant leaseEnd) {
+        UUID modificationsGroupUuid = creation.getModificationsGroupUuid();
+        AtomicReference<Instant> lease = new AtomicReference<>(leaseEnd);
+        long renewalPeriod = Math.max(1, claimLease.toMillis() / 3);
+        ScheduledFuture<?> renewal = leaseScheduler.scheduleAtFixedRate(() -> renewLease(modificationsGroupUuid, lease), renewalPeriod, renewalPeriod, TimeUnit.MILLISECONDS);
+        try {
+            // the previous attempt is over: it released its claim, or stopped renewing its lease
+            if (creation.getAttempts() > 0) {
+                networkModificationService.deleteModificationsGroup(modificationsGroupUuid);
+            }
+            networkModificationService.createModificationsGroup(modificationsGroupUuid, creation.getPayload());
+        } catch (RuntimeException e) {
+            Instant currentLeaseEnd = stopRenewal(renewal, lease);
+            Duration delay = retryDelay.multipliedBy(1L << Math.min(creation.getAttempts(), 16));
+            if (delay.compareTo(maxRetryDelay) > 0) {
+                delay = maxRetryDelay;
+            }
+            LOGGER.warn("Creation of modifications group {} failed, attempt {}, next one in {}", modificationsGroupUuid, creation.getAttempts() + 1, delay, e);
+            // a lost claim is left to the attempt which took it over
+            if (currentLeaseEnd != null) {
+                modificationsGroupCreationRepository.reschedule(modificationsGroupUuid, currentLeaseEnd, Instant.now().plus(delay));
+            }
+            return false;
+        }
+        stopRenewal(renewal, lease);
+        if (modificationsGroupCreationRepository.remove(modificationsGroupUuid) == 0 && !resultRepository.existsByModificationsGroupUuid(modificationsGroupUuid)) {
+            // the result has been deleted during the creation, after its group deletion was queued
+            modificationsGroupDeletionRepository.enqueue(modificationsGroupUuid, Instant.now());
+        }
+        return true;
+    }
+}
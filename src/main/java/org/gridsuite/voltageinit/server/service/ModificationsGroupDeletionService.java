@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.voltageinit.server.entities.ModificationsGroupDeletionEntity;
+import org.gridsuite.voltageinit.server.repository.ModificationsGroupDeletionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deletes the modifications groups of the deleted results in the network modification server, from the outbox
+ * filled by {@link VoltageInitResultService}.
+ * Each dispatch claims due deletions for the free threads of a fixed pool, without waiting for them, a failed
+ * deletion is retried later with an exponential backoff.
+ *
+ * @author agent <agent at local>
+ */
+@Service
+public class ModificationsGroupDeletionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModificationsGroupDeletionService.class);
+
+    /**
+     * Delay before a claimed deletion may be claimed again, if the instance processing it stops
+     */
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+
+    private final ModificationsGroupDeletionRepository modificationsGroupDeletionRepository;
+
+    private final NetworkModificationService networkModificationService;
+
+    private final ExecutorService executorService;
+
+    private final int parallelism;
+
+    /**
+     * Deletions claimed by the dispatch and not done yet
+     */
+    private final AtomicInteger dispatchedDeletions = new AtomicInteger();
+
+    private final int batchSize;
+
+    private final Duration retryDelay;
+
+    private final Duration maxRetryDelay;
+
+    public ModificationsGroupDeletionService(ModificationsGroupDeletionRepository modificationsGroupDeletionRepository,
+                                             NetworkModificationService networkModificationService,
+                                             @Value("${voltage-init.modifications-group-deletion.parallelism:4}") int parallelism,
+                                             @Value("${voltage-init.modifications-group-deletion.batch-size:100}") int batchSize,
+                                             @Value("${voltage-init.modifications-group-deletion.retry-delay:PT30S}") Duration retryDelay,
+                                             @Value("${voltage-init.modifications-group-deletion.max-retry-delay:PT1H}") Duration maxRetryDelay) {
+        this.modificationsGroupDeletionRepository = modificationsGroupDeletionRepository;
+        this.networkModificationService = networkModificationService;
+        this.executorService = Executors.newFixedThreadPool(parallelism);
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${voltage-init.modifications-group-deletion.dispatch-delay:5000}")
+    public void dispatch() {
+        dispatchDue();
+    }
+
+    /**
+     * Claim due deletions for the free threads only, the claims waiting for a thread would lose their lease
+     *
+     * @return the deletions dispatched, not waited for by the scheduled dispatch
+     */
+    CompletableFuture<Void> dispatchDue() {
+        int freeThreads = parallelism - dispatchedDeletions.get();
+        if (freeThreads <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Instant now = Instant.now();
+        List<CompletableFuture<Void>> deletions = new ArrayList<>();
+        for (ModificationsGroupDeletionEntity deletion : modificationsGroupDeletionRepository.findDue(now, PageRequest.of(0, Math.min(batchSize, freeThreads)))) {
+            if (modificationsGroupDeletionRepository.claim(deletion.getModificationsGroupUuid(), deletion.getNextAttemptAt(), now.plus(CLAIM_LEASE)) == 1) {
+                dispatchedDeletions.incrementAndGet();
+                deletions.add(CompletableFuture.runAsync(() -> delete(deletion.getModificationsGroupUuid(), deletion.getAttempts()), executorService)
+                    .whenComplete((deleted, e) -> dispatchedDeletions.decrementAndGet()));
+            }
+        }
+        return CompletableFuture.allOf(deletions.toArray(CompletableFuture[]::new));
+    }
+
+    private void delete(UUID modificationsGroupUuid, int attempts) {
+        try {
+            networkModificationService.deleteModificationsGroup(modificationsGroupUuid);
+            modificationsGroupDeletionRepository.deleteById(modificationsGroupUuid);
+        } catch (RuntimeException e) {
+            Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts, 16));
+            if (delay.compareTo(maxRetryDelay) > 0) {
+                delay = maxRetryDelay;
+            }
+            LOGGER.warn("Deletion of modifications group {} failed, attempt {}, next one in {}", modificationsGroupUuid, attempts + 1, delay, e);
+            modificationsGroupDeletionRepository.reschedule(modificationsGroupUuid, Instant.now().plus(delay));
+        }
+    }
+}
@@ -6,10 +6,11 @@
  */
 package org.gridsuite.voltageinit.server.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.Bus;
 import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Network;
@@ -17,6 +18,7 @@ import com.powsybl.iidm.network.ShuntCompensator;
 import com.powsybl.iidm.network.Terminal;
 import com.powsybl.iidm.network.TwoWindingsTransformer;
 import com.powsybl.openreac.parameters.output.OpenReacResult;
+import jakarta.annotation.PreDestroy;
 import org.gridsuite.computation.service.UuidGeneratorService;
 import org.gridsuite.voltageinit.server.dto.BusModificationInfos;
 import org.gridsuite.voltageinit.server.dto.GeneratorModificationInfos;
@@ -25,20 +27,37 @@ import org.gridsuite.voltageinit.server.dto.StaticVarCompensatorModificationInfo
 import org.gridsuite.voltageinit.server.dto.TransformerModificationInfos;
 import org.gridsuite.voltageinit.server.dto.VoltageInitModificationInfos;
 import org.gridsuite.voltageinit.server.dto.VscConverterStationModificationInfos;
-import org.jgrapht.alg.util.Pair;
+import org.gridsuite.voltageinit.server.entities.ModificationsGroupCreationEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static com.powsybl.iidm.network.IdentifiableType.TWO_WINDINGS_TRANSFORMER;
 
@@ -47,12 +66,18 @@ import static com.powsybl.iidm.network.IdentifiableType.TWO_WINDINGS_TRANSFORMER
  */
 @Service
 public class NetworkModificationService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkModificationService.class);
+
     private static final String NETWORK_MODIFICATION_API_VERSION = "v1";
     private static final String DELIMITER = "/";
-    private static final String GROUP_PATH = "groups" + DELIMITER + "{groupUuid}";
+    private static final String GROUPS_PATH = "groups";
+    private static final String GROUP_PATH = GROUPS_PATH + DELIMITER + "{groupUuid}";
     private static final String NETWORK_MODIFICATIONS_PATH = "network-modifications";
     private static final String QUERY_PARAM_GROUP_UUID = "groupUuid";
+    private static final String QUERY_PARAM_DUPLICATE_FROM = "duplicateFrom";
     public static final String QUERY_PARAM_ERROR_ON_GROUP_NOT_FOUND = "errorOnGroupNotFound";
+    private static final String GZIP_ENCODING = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 65536;
 
     private String networkModificationServerBaseUri;
 
@@ -62,13 +87,34 @@ public class NetworkModificationService {
 
     private final UuidGeneratorService uuidGeneratorService;
 
+    private final ModificationsDeltaService modificationsDeltaService;
+
+    private final boolean gzipRequests;
+
+    /**
+     * Pool building the modifications of the equipment types concurrently, bounded to not compete with the other
+     * computations of the server
+     */
+    private final ForkJoinPool buildingPool;
+
     NetworkModificationService(@Value("${gridsuite.services.network-modification-server.base-uri:http://network-modification-server/}") String networkModificationServerBaseUri,
                                ObjectMapper objectMapper, UuidGeneratorService uuidGeneratorService,
-                               RestTemplate restTemplate) {
+                               RestTemplate restTemplate, ModificationsDeltaService modificationsDeltaService,
+                               @Value("${gridsuite.services.network-modification-server.gzip-requests:false}") boolean gzipRequests,
+                               @Value("${voltage-init.modifications-building.parallelism:0}") int buildingParallelism) {
         this.networkModificationServerBaseUri = networkModificationServerBaseUri;
         this.objectMapper = objectMapper;
         this.uuidGeneratorService = uuidGeneratorService;
         this.restTemplate = restTemplate;
+        this.modificationsDeltaService = modificationsDeltaService;
+        this.gzipRequests = gzipRequests;
+        // as many threads as processors by default
+        this.buildingPool = new ForkJoinPool(buildingParallelism > 0 ? buildingParallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buildingPool.shutdown();
     }
 
     public void setNetworkModificationServerBaseUri(String networkModificationServerBaseUri) {
@@ -93,138 +139,305 @@ public class NetworkModificationService {
         }
     }
 
-    private Optional<Bus> getRegulatingBus(Terminal terminal) {
-        return terminal != null && terminal.getBusView().getBus() != null ? Optional.of(terminal.getBusView().getBus()) : Optional.empty();
+    /**
+     * Duplicate the modifications of a group into a new group
+     */
+    public UUID duplicateModificationsGroup(UUID sourceGroupUuid) {
+        Objects.requireNonNull(sourceGroupUuid);
+        UUID modificationsGroupUuid = uuidGeneratorService.generate();
+        var path = UriComponentsBuilder.fromPath(GROUPS_PATH)
+            .queryParam(QUERY_PARAM_GROUP_UUID, modificationsGroupUuid)
+            .queryParam(QUERY_PARAM_DUPLICATE_FROM, sourceGroupUuid)
+            .buildAndExpand()
+            .toUriString();
+
+        try {
+            restTemplate.exchange(getNetworkModificationServerURI() + path, HttpMethod.POST, null, Void.class);
+        } catch (HttpStatusCodeException e) {
+            throw new PowsyblException("Error duplicating modifications group", e);
+        }
+        return modificationsGroupUuid;
     }
 
-    public UUID createVoltageInitModificationGroup(Network network, OpenReacResult result, boolean isUpdateBusVoltage, String rootNetworkName, String nodeName, Set<String> constantQGeneratorsIds) {
-        UUID modificationsGroupUuid = uuidGeneratorService.generate();
+    /**
+     * Create a modifications group from a payload prepared by {@link #prepareVoltageInitModificationGroup}
+     */
+    public void createModificationsGroup(UUID modificationsGroupUuid, byte[] payload) {
+        Objects.requireNonNull(modificationsGroupUuid);
+        var path = UriComponentsBuilder
+            .fromUriString(getNetworkModificationServerURI() + NETWORK_MODIFICATIONS_PATH)
+            .queryParam(QUERY_PARAM_GROUP_UUID, modificationsGroupUuid)
+            .buildAndExpand()
+            .toUriString();
 
         try {
-            VoltageInitModificationInfos voltageInitModificationInfos = new VoltageInitModificationInfos();
+            restTemplate.execute(path, HttpMethod.POST, payloadRequestCallback(payload), null);
+        } catch (HttpStatusCodeException e) {
+            throw new PowsyblException("Error creating modifications group", e);
+        }
+    }
 
-            Map<String, Pair<Double, Double>> voltageProfile = result.getVoltageProfile();
-
-            // generator modifications
-            result.getGeneratorModifications().forEach(gm -> {
-                Double targetV = gm.getModifs().getTargetV();
-                // skip targetQ modification for constant Q generators
-                Double targetQ = constantQGeneratorsIds.contains(gm.getGeneratorId()) ? null : gm.getModifs().getTargetQ();
-                if (targetV != null || targetQ != null) {
-                    GeneratorModificationInfos.GeneratorModificationInfosBuilder builder = GeneratorModificationInfos.builder()
-                        .generatorId(gm.getGeneratorId())
-                        .targetV(targetV)
-                        .targetQ(targetQ);
-                    voltageInitModificationInfos.addGeneratorModification(builder.build());
-                }
-            });
-
-            // transformer modifications
-            AtomicReference<Double> targetV = new AtomicReference<>();
-            result.getTapPositionModifications().forEach(tp -> {
-                targetV.set(null);
-                Identifiable<?> identifiable = network.getIdentifiable(tp.getTransformerId());
-                if (identifiable != null && identifiable.getType() == TWO_WINDINGS_TRANSFORMER) {  // Only for 2WT
-                    TwoWindingsTransformer twoWindingsTransformer = (TwoWindingsTransformer) identifiable;
-                    if (twoWindingsTransformer.getRatioTapChanger() != null) {
-                        Optional<Bus> bus = getRegulatingBus(twoWindingsTransformer.getRatioTapChanger().getRegulationTerminal());
-                        bus.ifPresent(b -> {
-                            Pair<Double, Double> busUpdate = voltageProfile.get(b.getId());
-                            if (busUpdate != null) {
-                                targetV.set(busUpdate.getFirst() * b.getVoltageLevel().getNominalV());
-                            }
-                        });
+    /**
+     * Request body streaming the JSON payload to the connection output stream, gzip encoded when configured
+     */
+    private RequestCallback payloadRequestCallback(byte[] payload) {
+        return request -> {
+            request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            if (gzipRequests) {
+                request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+            }
+            if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+                streamingRequest.setBody(outputStream -> writePayload(outputStream, payload));
+            } else {
+                writePayload(request.getBody(), payload);
+            }
+        };
+    }
+
+    private static boolean isGzipped(byte[] payload) {
+        return payload.length >= 2 && (payload[0] & 0xFF) == (GZIPInputStream.GZIP_MAGIC & 0xFF) && (payload[1] & 0xFF) == (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
+    /**
+     * The payload is stored gzip compressed and sent as is when the requests are gzip encoded, otherwise it is
+     * inflated while being written to the connection. A payload stored uncompressed by a previous version is
+     * compressed while being written when the requests are gzip encoded.
+     */
+    private void writePayload(OutputStream outputStream, byte[] payload) throws IOException {
+        boolean gzipped = isGzipped(payload);
+        if (gzipped == gzipRequests) {
+            outputStream.write(payload);
+        } else if (gzipped) {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload), GZIP_BUFFER_SIZE)) {
+                in.transferTo(outputStream);
+            }
+        } else {
+            try (OutputStream out = new GZIPOutputStream(StreamUtils.nonClosing(outputStream), GZIP_BUFFER_SIZE)) {
+                out.write(payload);
+            }
+        }
+    }
+
+    /**
+     * @return the JSON serialization of the value, gzip compressed while it is generated so that the uncompressed
+     * JSON is never held in memory nor stored
+     */
+    private byte[] toPayload(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(new GZIPOutputStream(bytes, GZIP_BUFFER_SIZE))) {
+            objectMapper.writeValue(generator, value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Double getRegulatingTargetV(Terminal terminal, VoltageProfile voltageProfile) {
+        if (terminal == null) {
+            return null;
+        }
+        Bus bus = terminal.getBusView().getBus();
+        int row = bus != null ? voltageProfile.getRow(bus.getId()) : VoltageProfile.NO_ROW;
+        return row != VoltageProfile.NO_ROW ? voltageProfile.getV(row) : null;
+    }
+
+    /**
+     * Regulated voltages of the transformers and shunt compensators, read from the network on the calling thread since
+     * the bus of a regulating terminal may be computed when first accessed
+     */
+    private static Map<String, Double> getTransformersTargetV(Network network, OpenReacResult result, VoltageProfile voltageProfile) {
+        Map<String, Double> targetVs = new HashMap<>();
+        result.getTapPositionModifications().forEach(tp -> {
+            Identifiable<?> identifiable = network.getIdentifiable(tp.getTransformerId());
+            if (identifiable != null && identifiable.getType() == TWO_WINDINGS_TRANSFORMER) {  // Only for 2WT
+                TwoWindingsTransformer twoWindingsTransformer = (TwoWindingsTransformer) identifiable;
+                if (twoWindingsTransformer.getRatioTapChanger() != null) {
+                    Double targetV = getRegulatingTargetV(twoWindingsTransformer.getRatioTapChanger().getRegulationTerminal(), voltageProfile);
+                    if (targetV != null) {
+                        targetVs.put(tp.getTransformerId(), targetV);
                     }
                 }
-                TransformerModificationInfos.TransformerModificationInfosBuilder builder = TransformerModificationInfos.builder()
-                    .transformerId(tp.getTransformerId())
-                    .ratioTapChangerPosition(tp.getTapPosition())
-                    .ratioTapChangerTargetV(targetV.get())
-                    .legSide(tp.getLegSide());
-                voltageInitModificationInfos.addTransformerModification(builder.build());
-            });
-
-            // static var compensator modifications
-            result.getSvcModifications().forEach(staticVarCompensatorModification -> {
-                if (staticVarCompensatorModification.getVoltageSetpoint() != null || staticVarCompensatorModification.getReactivePowerSetpoint() != null) {
-                    StaticVarCompensatorModificationInfos.StaticVarCompensatorModificationInfosBuilder builder = StaticVarCompensatorModificationInfos.builder()
-                        .staticVarCompensatorId(staticVarCompensatorModification.getStaticVarCompensatorId())
-                        .voltageSetpoint(staticVarCompensatorModification.getVoltageSetpoint())
-                        .reactivePowerSetpoint(staticVarCompensatorModification.getReactivePowerSetpoint());
-                    voltageInitModificationInfos.addStaticVarCompensatorModification(builder.build());
-                }
-            });
-
-            // vsc converter station modifications
-            result.getVscModifications().forEach(vscConverterStationModification -> {
-                if (vscConverterStationModification.getVoltageSetpoint() != null || vscConverterStationModification.getReactivePowerSetpoint() != null) {
-                    VscConverterStationModificationInfos.VscConverterStationModificationInfosBuilder builder = VscConverterStationModificationInfos.builder()
-                        .vscConverterStationId(vscConverterStationModification.getVscConverterStationId())
-                        .voltageSetpoint(vscConverterStationModification.getVoltageSetpoint())
-                        .reactivePowerSetpoint(vscConverterStationModification.getReactivePowerSetpoint());
-                    voltageInitModificationInfos.addVscConverterStationModification(builder.build());
+            }
+        });
+        return targetVs;
+    }
+
+    private static Map<String, Double> getShuntCompensatorsTargetV(Network network, OpenReacResult result, VoltageProfile voltageProfile) {
+        Map<String, Double> targetVs = new HashMap<>();
+        result.getShuntsModifications().forEach(shuntCompensatorModification -> {
+            ShuntCompensator shuntCompensator = network.getShuntCompensator(shuntCompensatorModification.getShuntCompensatorId());
+            if (shuntCompensator != null) {
+                Double targetV = getRegulatingTargetV(shuntCompensator.getRegulatingTerminal(), voltageProfile);
+                if (targetV != null) {
+                    targetVs.put(shuntCompensatorModification.getShuntCompensatorId(), targetV);
                 }
-            });
-
-            // shunt compensator modifications
-            result.getShuntsModifications().forEach(shuntCompensatorModification -> {
-                targetV.set(null);
-                ShuntCompensator shuntCompensator = network.getShuntCompensator(shuntCompensatorModification.getShuntCompensatorId());
-                if (shuntCompensator != null) {
-                    Optional<Bus> bus = getRegulatingBus(shuntCompensator.getRegulatingTerminal());
-                    bus.ifPresent(b -> {
-                        Pair<Double, Double> busUpdate = voltageProfile.get(b.getId());
-                        if (busUpdate != null) {
-                            targetV.set(busUpdate.getFirst() * b.getVoltageLevel().getNominalV());
-                        }
-                    });
+            }
+        });
+        return targetVs;
+    }
+
+    private static List<GeneratorModificationInfos> buildGeneratorModifications(OpenReacResult result, Set<String> constantQGeneratorsIds) {
+        List<GeneratorModificationInfos> modifications = new ArrayList<>();
+        result.getGeneratorModifications().forEach(gm -> {
+            Double targetV = gm.getModifs().getTargetV();
+            // skip targetQ modification for constant Q generators
+            Double targetQ = constantQGeneratorsIds.contains(gm.getGeneratorId()) ? null : gm.getModifs().getTargetQ();
+            if (targetV != null || targetQ != null) {
+                modifications.add(GeneratorModificationInfos.builder()
+                    .generatorId(gm.getGeneratorId())
+                    .targetV(targetV)
+                    .targetQ(targetQ)
+                    .build());
+            }
+        });
+        return modifications;
+    }
+
+    private static List<TransformerModificationInfos> buildTransformerModifications(OpenReacResult result, Map<String, Double> transformersTargetV) {
+        return result.getTapPositionModifications().stream()
+            .map(tp -> TransformerModificationInfos.builder()
+                .transformerId(tp.getTransformerId())
+                .ratioTapChangerPosition(tp.getTapPosition())
+                .ratioTapChangerTargetV(transformersTargetV.get(tp.getTransformerId()))
+                .legSide(tp.getLegSide())
+                .build())
+            .toList();
+    }
+
+    private static List<StaticVarCompensatorModificationInfos> buildStaticVarCompensatorModifications(OpenReacResult result) {
+        return result.getSvcModifications().stream()
+            .filter(svcModification -> svcModification.getVoltageSetpoint() != null || svcModification.getReactivePowerSetpoint() != null)
+            .map(svcModification -> StaticVarCompensatorModificationInfos.builder()
+                .staticVarCompensatorId(svcModification.getStaticVarCompensatorId())
+                .voltageSetpoint(svcModification.getVoltageSetpoint())
+                .reactivePowerSetpoint(svcModification.getReactivePowerSetpoint())
+                .build())
+            .toList();
+    }
+
+    private static List<VscConverterStationModificationInfos> buildVscConverterStationModifications(OpenReacResult result) {
+        return result.getVscModifications().stream()
+            .filter(vscModification -> vscModification.getVoltageSetpoint() != null || vscModification.getReactivePowerSetpoint() != null)
+            .map(vscModification -> VscConverterStationModificationInfos.builder()
+                .vscConverterStationId(vscModification.getVscConverterStationId())
+                .voltageSetpoint(vscModification.getVoltageSetpoint())
+                .reactivePowerSetpoint(vscModification.getReactivePowerSetpoint())
+                .build())
+            .toList();
+    }
+
+    private static List<ShuntCompensatorModificationInfos> buildShuntCompensatorModifications(OpenReacResult result, Map<String, Double> shuntCompensatorsTargetV) {
+        return result.getShuntsModifications().stream()
+            .map(shuntModification -> ShuntCompensatorModificationInfos.builder()
+                .shuntCompensatorId(shuntModification.getShuntCompensatorId())
+                .sectionCount(shuntModification.getSectionCount())
+                .connect(shuntModification.getConnect())
+                .targetV(shuntCompensatorsTargetV.get(shuntModification.getShuntCompensatorId()))
+                .build())
+            .toList();
+    }
+
+    /**
+     * The rows are split between the threads of the building pool, the stream being run by one of its tasks.
+     * In delta mode, the buses are compared with the voltages of the network kept by the bus index of the profile.
+     */
+    private List<BusModificationInfos> buildBusModifications(VoltageProfile voltageProfile, boolean delta, AtomicInteger skippedModifications) {
+        return IntStream.range(0, voltageProfile.size()).parallel()
+            .mapToObj(row -> {
+                BusModificationInfos modification = BusModificationInfos.builder()
+                    .voltageLevelId(voltageProfile.getVoltageLevelId(row))
+                    .busId(voltageProfile.getBusId(row))
+                    .v(voltageProfile.getV(row))
+                    .angle(voltageProfile.getAngle(row))
+                    .build();
+                if (delta && !modificationsDeltaService.retain(voltageProfile.getNetworkV(row), voltageProfile.getNetworkAngle(row), modification)) {
+                    skippedModifications.incrementAndGet();
+                    return null;
                 }
-                ShuntCompensatorModificationInfos.ShuntCompensatorModificationInfosBuilder builder = ShuntCompensatorModificationInfos.builder()
-                    .shuntCompensatorId(shuntCompensatorModification.getShuntCompensatorId())
-                    .sectionCount(shuntCompensatorModification.getSectionCount())
-                    .connect(shuntCompensatorModification.getConnect())
-                    .targetV(targetV.get());
-                voltageInitModificationInfos.addShuntCompensatorModification(builder.build());
-            });
-
-            // update bus voltage
-            if (isUpdateBusVoltage) {
-                result.getVoltageProfile().forEach((busId, voltage) -> {
-                    Bus bus = network.getBusView().getBus(busId);
-                    if (bus != null) {
-                        BusModificationInfos.BusModificationInfosBuilder builder = BusModificationInfos.builder()
-                            .voltageLevelId(bus.getVoltageLevel().getId())
-                            .busId(busId)
-                            .v(voltage.getFirst() * bus.getVoltageLevel().getNominalV())
-                            .angle(Math.toDegrees(voltage.getSecond()));
-                        voltageInitModificationInfos.addBusModification(builder.build());
-                    }
-                });
+                return modification;
+            })
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * In delta mode, the modifications leaving the network unchanged are removed
+     */
+    private static <T> List<T> retain(List<T> modifications, boolean delta, Predicate<T> retain, AtomicInteger skippedModifications) {
+        if (!delta) {
+            return modifications;
+        }
+        List<T> retained = modifications.stream().filter(retain).toList();
+        skippedModifications.addAndGet(modifications.size() - retained.size());
+        return retained;
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new PowsyblException("Error building modifications", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException("Interrupted while building modifications", e);
+        }
+    }
+
+    /**
+     * Build the voltage init modification of a result into a new modifications group, its JSON serialization being
+     * kept until the group is created by {@link ModificationsGroupCreationService}.
+     * The network attributes needed are read first on the calling thread, then the modifications of each equipment
+     * type are built concurrently on the building pool. In delta mode, each task also compares its modifications with
+     * a snapshot of the network read first, the network store client never being called from the building pool.
+     *
+     * @param onDemand true when the group is only created once its uuid is read
+     */
+    public ModificationsGroupCreationEntity prepareVoltageInitModificationGroup(Network network, VoltageProfile voltageProfile, OpenReacResult result, boolean isUpdateBusVoltage, String rootNetworkName, String nodeName, Set<String> constantQGeneratorsIds,
+                                                                                ReportNode reportNode, boolean onDemand) {
+        UUID modificationsGroupUuid = uuidGeneratorService.generate();
+
+        try {
+            Map<String, Double> transformersTargetV = getTransformersTargetV(network, result, voltageProfile);
+            Map<String, Double> shuntCompensatorsTargetV = getShuntCompensatorsTargetV(network, result, voltageProfile);
+
+            // in delta mode, the modifications leaving the network unchanged are skipped, the tasks comparing them with
+            // a snapshot of the network read here
+            boolean delta = modificationsDeltaService.isEnabled();
+            NetworkStateSnapshot networkState = delta ? NetworkStateSnapshot.of(network, result) : null;
+            AtomicInteger skippedModifications = new AtomicInteger();
+            Future<List<GeneratorModificationInfos>> generators = buildingPool.submit(() -> retain(buildGeneratorModifications(result, constantQGeneratorsIds), delta,
+                modification -> modificationsDeltaService.retain(networkState.getGenerator(modification.getGeneratorId()), modification), skippedModifications));
+            Future<List<TransformerModificationInfos>> transformers = buildingPool.submit(() -> retain(buildTransformerModifications(result, transformersTargetV), delta,
+                modification -> modificationsDeltaService.retain(networkState.getRatioTapChanger(modification.getTransformerId()), modification), skippedModifications));
+            Future<List<StaticVarCompensatorModificationInfos>> staticVarCompensators = buildingPool.submit(() -> retain(buildStaticVarCompensatorModifications(result), delta,
+                modification -> modificationsDeltaService.retain(networkState.getStaticVarCompensator(modification.getStaticVarCompensatorId()), modification), skippedModifications));
+            Future<List<VscConverterStationModificationInfos>> vscConverterStations = buildingPool.submit(() -> retain(buildVscConverterStationModifications(result), delta,
+                modification -> modificationsDeltaService.retain(networkState.getVscConverterStation(modification.getVscConverterStationId()), modification), skippedModifications));
+            Future<List<ShuntCompensatorModificationInfos>> shuntCompensators = buildingPool.submit(() -> retain(buildShuntCompensatorModifications(result, shuntCompensatorsTargetV), delta,
+                modification -> modificationsDeltaService.retain(networkState.getShuntCompensator(modification.getShuntCompensatorId()), modification), skippedModifications));
+            Future<List<BusModificationInfos>> buses = isUpdateBusVoltage ? buildingPool.submit(() -> buildBusModifications(voltageProfile, delta, skippedModifications)) : CompletableFuture.completedFuture(List.of());
+
+            VoltageInitModificationInfos voltageInitModificationInfos = new VoltageInitModificationInfos();
+            join(generators).forEach(voltageInitModificationInfos::addGeneratorModification);
+            join(transformers).forEach(voltageInitModificationInfos::addTransformerModification);
+            join(staticVarCompensators).forEach(voltageInitModificationInfos::addStaticVarCompensatorModification);
+            join(vscConverterStations).forEach(voltageInitModificationInfos::addVscConverterStationModification);
+            join(shuntCompensators).forEach(voltageInitModificationInfos::addShuntCompensatorModification);
+            join(buses).forEach(voltageInitModificationInfos::addBusModification);
+            if (delta) {
+                LOGGER.info("Delta mode : {} modifications leaving the network unchanged skipped", skippedModifications.get());
+                reportNode.newReportNode()
+                    .withMessageTemplate("voltage.init.server.unchangedModificationsSkipped")
+                    .withUntypedValue("nbSkippedModifications", skippedModifications.get())
+                    .add();
             }
 
             voltageInitModificationInfos.setRootNetworkName(rootNetworkName);
             voltageInitModificationInfos.setNodeName(nodeName);
             voltageInitModificationInfos.setComputationDate(Instant.now());
 
-            var uriComponentsBuilder = UriComponentsBuilder
-                    .fromUriString(getNetworkModificationServerURI() + NETWORK_MODIFICATIONS_PATH)
-                    .queryParam(QUERY_PARAM_GROUP_UUID, modificationsGroupUuid);
-            var path = uriComponentsBuilder
-                    .buildAndExpand()
-                    .toUriString();
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<String> httpEntity = new HttpEntity<>(objectMapper.writeValueAsString(org.springframework.data.util.Pair.of(voltageInitModificationInfos, List.of())), headers);
-
-            restTemplate.exchange(path, HttpMethod.POST, httpEntity, Void.class);
-        } catch (JsonProcessingException e) {
+            byte[] payload = toPayload(org.springframework.data.util.Pair.of(voltageInitModificationInfos, List.of()));
+            return new ModificationsGroupCreationEntity(modificationsGroupUuid, payload, 0, Instant.now(), onDemand, null);
+        } catch (IOException e) {
             throw new PowsyblException("Error generating json modifications", e);
-        } catch (HttpStatusCodeException e) {
-            throw new PowsyblException("Error creating modifications group", e);
         }
-
-        return modificationsGroupUuid;
     }
 }
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Current state of the equipments modified by an OpenReac result, read once from the network on the worker thread:
+ * the network store client is not thread safe, so the delta mode comparisons run on the building pool against
+ * this snapshot only. The bus voltages are kept by the {@link BusIndex}.
+ *
+ * @author agent <agent at local>
+ */
+public final class NetworkStateSnapshot {
+
+    public record GeneratorState(double targetV, double targetQ) {
+    }
+
+    public record RatioTapChangerState(int tapPosition, double targetV) {
+    }
+
+    public record StaticVarCompensatorState(StaticVarCompensator.RegulationMode regulationMode, double voltageSetpoint, double reactivePowerSetpoint) {
+    }
+
+    public record VscConverterStationState(boolean voltageRegulatorOn, double voltageSetpoint, double reactivePowerSetpoint) {
+    }
+
+    public record ShuntCompensatorState(int sectionCount, boolean connected, double targetV) {
+    }
+
+    private final Map<String, GeneratorState> generators = new HashMap<>();
+
+    private final Map<String, RatioTapChangerState> ratioTapChangers = new HashMap<>();
+
+    private final Map<String, StaticVarCompensatorState> staticVarCompensators = new HashMap<>();
+
+    private final Map<String, VscConverterStationState> vscConverterStations = new HashMap<>();
+
+    private final Map<String, ShuntCompensatorState> shuntCompensators = new HashMap<>();
+
+    private NetworkStateSnapshot() {
+    }
+
+    private static RatioTapChangerState getRatioTapChangerState(Identifiable<?> transformer, ThreeSides legSide) {
+        RatioTapChanger ratioTapChanger = null;
+        if (transformer instanceof TwoWindingsTransformer twoWindingsTransformer) {
+            ratioTapChanger = twoWindingsTransformer.getRatioTapChanger();
+        } else if (transformer instanceof ThreeWindingsTransformer threeWindingsTransformer && legSide != null) {
+            ratioTapChanger = threeWindingsTransformer.getLeg(legSide).getRatioTapChanger();
+        }
+        return ratioTapChanger != null ? new RatioTapChangerState(ratioTapChanger.getTapPosition(), ratioTapChanger.getTargetV()) : null;
+    }
+
+    /**
+     * @return the state of the equipments modified by the result, the equipments missing from the network being left out
+     */
+    public static NetworkStateSnapshot of(Network network, OpenReacResult result) {
+        NetworkStateSnapshot snapshot = new NetworkStateSnapshot();
+        result.getGeneratorModifications().forEach(gm -> {
+            Generator generator = network.getGenerator(gm.getGeneratorId());
+            if (generator != null) {
+                snapshot.generators.put(gm.getGeneratorId(), new GeneratorState(generator.getTargetV(), generator.getTargetQ()));
+            }
+        });
+        result.getTapPositionModifications().forEach(tp -> {
+            RatioTapChangerState state = getRatioTapChangerState(network.getIdentifiable(tp.getTransformerId()), tp.getLegSide());
+            if (state != null) {
+                snapshot.ratioTapChangers.put(tp.getTransformerId(), state);
+            }
+        });
+        result.getSvcModifications().forEach(svcModification -> {
+            StaticVarCompensator staticVarCompensator = network.getStaticVarCompensator(svcModification.getStaticVarCompensatorId());
+            if (staticVarCompensator != null) {
+                snapshot.staticVarCompensators.put(svcModification.getStaticVarCompensatorId(), new StaticVarCompensatorState(
+                    staticVarCompensator.getRegulationMode(), staticVarCompensator.getVoltageSetpoint(), staticVarCompensator.getReactivePowerSetpoint()));
+            }
+        });
+        result.getVscModifications().forEach(vscModification -> {
+            VscConverterStation vscConverterStation = network.getVscConverterStation(vscModification.getVscConverterStationId());
+            if (vscConverterStation != null) {
+                snapshot.vscConverterStations.put(vscModification.getVscConverterStationId(), new VscConverterStationState(
+                    vscConverterStation.isVoltageRegulatorOn(), vscConverterStation.getVoltageSetpoint(), vscConverterStation.getReactivePowerSetpoint()));
+            }
+        });
+        result.getShuntsModifications().forEach(shuntModification -> {
+            ShuntCompensator shuntCompensator = network.getShuntCompensator(shuntModification.getShuntCompensatorId());
+            if (shuntCompensator != null) {
+                snapshot.shuntCompensators.put(shuntModification.getShuntCompensatorId(), new ShuntCompensatorState(
+                    shuntCompensator.getSectionCount(), shuntCompensator.getTerminal().isConnected(), shuntCompensator.getTargetV()));
+            }
+        });
+        return snapshot;
+    }
+
+    public GeneratorState getGenerator(String generatorId) {
+        return generators.get(generatorId);
+    }
+
+    public RatioTapChangerState getRatioTapChanger(String transformerId) {
+        return ratioTapChangers.get(transformerId);
+    }
+
+    public StaticVarCompensatorState getStaticVarCompensator(String staticVarCompensatorId) {
+        return staticVarCompensators.get(staticVarCompensatorId);
+    }
+
+    public VscConverterStationState getVscConverterStation(String vscConverterStationId) {
+        return vscConverterStations.get(vscConverterStationId);
+    }
+
+    public ShuntCompensatorState getShuntCompensator(String shuntCompensatorId) {
+        return shuntCompensators.get(shuntCompensatorId);
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.gridsuite.voltageinit.server.dto.VoltageInitResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache of the unfiltered results, weighted by their estimated memory size.
+ * A cached result must not be modified. The entries are invalidated by the result service on any change of a
+ * result, and again once the change is committed. Each invalidation increments a generation: a result read from the
+ * database is only cached when no invalidation happened since the read started, so that a read running concurrently
+ * with a change does not cache the old result, nor a deleted one.
+ * The invalidations only reach the local instance, the cache is therefore disabled by default and must only be
+ * enabled when a single instance of the server serves the results.
+ *
+ * @author agent <agent at local>
+ */
+@Service
+public class ResultCacheService {
+
+    /**
+     * Estimated size of a result without its rows, and of a bus voltage, reactive slack or indicator with its identifiers
+     */
+    private static final int RESULT_WEIGHT = 512;
+    private static final int ROW_WEIGHT = 128;
+
+    private final boolean enabled;
+
+    private final Cache<UUID, VoltageInitResult> resultsCache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResultCacheService(MeterRegistry meterRegistry,
+                              @Value("${voltage-init.result-cache.enabled:false}") boolean enabled,
+                              @Value("${voltage-init.result-cache.maximum-size:256MB}") DataSize maximumSize,
+                              @Value("${voltage-init.result-cache.expire-after-access:PT30M}") Duration expireAfterAccess) {
+        this.enabled = enabled;
+        this.resultsCache = GuavaCacheMetrics.monitor(meterRegistry, CacheBuilder.newBuilder()
+            .maximumWeight(maximumSize.toBytes())
+            .weigher((UUID resultUuid, VoltageInitResult result) -> weigh(result))
+            .expireAfterAccess(expireAfterAccess)
+            .recordStats()
+            .<UUID, VoltageInitResult>build(), "voltageinit.results");
+    }
+
+    private static int weigh(VoltageInitResult result) {
+        long rows = (long) result.getBusVoltages().size() + result.getReactiveSlacks().size() + result.getIndicators().size();
+        return (int) Math.min(Integer.MAX_VALUE, RESULT_WEIGHT + rows * ROW_WEIGHT);
+    }
+
+    /**
+     * @return an entity tag changing with the result content: only its modifications group can change once written
+     */
+    public static String computeETag(VoltageInitResult result) {
+        String version = result.getResultUuid() + "/" + result.getWriteTimeStamp() + "/" + result.getModificationsGroupUuid();
+        return "\"" + UUID.nameUUIDFromBytes(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public VoltageInitResult get(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        return enabled ? resultsCache.getIfPresent(resultUuid) : null;
+    }
+
+    /**
+     * @return the generation to give to {@link #put(VoltageInitResult, long)}, to be read before the result
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Cache the result unless the cache is disabled or an invalidation happened since the given generation was read
+     */
+    public VoltageInitResult put(VoltageInitResult result, long readGeneration) {
+        if (enabled && generation.get() == readGeneration) {
+            resultsCache.put(result.getResultUuid(), result);
+            // an invalidation may have run between the check and the put, the generation is incremented before
+            if (generation.get() != readGeneration) {
+                resultsCache.invalidate(result.getResultUuid());
+            }
+        }
+        return result;
+    }
+
+    public void invalidate(UUID resultUuid) {
+        invalidate(List.of(resultUuid));
+    }
+
+    public void invalidate(Collection<UUID> resultUuids) {
+        List<UUID> invalidatedUuids = List.copyOf(resultUuids);
+        Runnable invalidation = () -> {
+            generation.incrementAndGet();
+            resultsCache.invalidateAll(invalidatedUuids);
+        };
+        invalidation.run();
+        afterCommit(invalidation);
+    }
+
+    public void invalidateAll() {
+        Runnable invalidation = () -> {
+            generation.incrementAndGet();
+            resultsCache.invalidateAll();
+        };
+        invalidation.run();
+        afterCommit(invalidation);
+    }
+
+    private static void afterCommit(Runnable invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
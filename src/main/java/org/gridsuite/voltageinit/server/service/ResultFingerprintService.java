@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.openreac.OpenReacRunner;
+import org.gridsuite.voltageinit.server.dto.parameters.FilterEquipments;
+import org.gridsuite.voltageinit.server.dto.parameters.VoltageInitParametersInfos;
+import org.gridsuite.voltageinit.server.dto.parameters.VoltageLimitInfos;
+import org.gridsuite.voltageinit.server.service.parameters.FilterService;
+import org.gridsuite.voltageinit.server.service.parameters.VoltageInitParametersService;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Fingerprint of the inputs of a voltage init computation: network variant, parameters content, equipments
+ * resolved by the parameters filters and OpenReac version. Two requests with the same fingerprint give the same result.
+ * Only the parameters values used by the computation are hashed, not their id, date, name or filter names.
+ *
+ * @author agent <agent at local>
+ */
+@Service
+public class ResultFingerprintService {
+
+    private static final String OPENREAC_VERSION = Objects.requireNonNullElse(OpenReacRunner.class.getPackage().getImplementationVersion(), "unknown");
+
+    private final VoltageInitParametersService voltageInitParametersService;
+
+    private final FilterService filterService;
+
+    private final ObjectMapper objectMapper;
+
+    public ResultFingerprintService(VoltageInitParametersService voltageInitParametersService, FilterService filterService, ObjectMapper objectMapper) {
+        this.voltageInitParametersService = voltageInitParametersService;
+        this.filterService = filterService;
+        this.objectMapper = objectMapper;
+    }
+
+    private static List<UUID> toFiltersUuids(List<FilterEquipments> filters) {
+        return filters == null ? List.of() : filters.stream().map(FilterEquipments::getFilterId).filter(Objects::nonNull).sorted().toList();
+    }
+
+    private static List<Map<String, Object>> toVoltageLimitsInputs(List<VoltageLimitInfos> voltageLimits) {
+        return voltageLimits == null ? List.of() : voltageLimits.stream()
+            .map(voltageLimit -> {
+                Map<String, Object> voltageLimitInputs = new LinkedHashMap<>();
+                voltageLimitInputs.put("priority", voltageLimit.getPriority());
+                voltageLimitInputs.put("lowVoltageLimit", voltageLimit.getLowVoltageLimit());
+                voltageLimitInputs.put("highVoltageLimit", voltageLimit.getHighVoltageLimit());
+                voltageLimitInputs.put("filters", toFiltersUuids(voltageLimit.getFilters()));
+                return voltageLimitInputs;
+            })
+            .toList();
+    }
+
+    private static Map<String, Object> toComputationInputs(VoltageInitParametersInfos parameters) {
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        inputs.put("voltageLimitsModification", toVoltageLimitsInputs(parameters.getVoltageLimitsModification()));
+        inputs.put("voltageLimitsDefault", toVoltageLimitsInputs(parameters.getVoltageLimitsDefault()));
+        inputs.put("variableQGenerators", toFiltersUuids(parameters.getVariableQGenerators()));
+        inputs.put("generatorsSelectionType", parameters.getGeneratorsSelectionType());
+        inputs.put("variableTwoWindingsTransformers", toFiltersUuids(parameters.getVariableTwoWindingsTransformers()));
+        inputs.put("twoWindingsTransformersSelectionType", parameters.getTwoWindingsTransformersSelectionType());
+        inputs.put("variableShuntCompensators", toFiltersUuids(parameters.getVariableShuntCompensators()));
+        inputs.put("shuntCompensatorsSelectionType", parameters.getShuntCompensatorsSelectionType());
+        inputs.put("reactiveSlacksThreshold", parameters.getReactiveSlacksThreshold());
+        inputs.put("shuntCompensatorActivationThreshold", parameters.getShuntCompensatorActivationThreshold());
+        inputs.put("updateBusVoltage", parameters.isUpdateBusVoltage());
+        return inputs;
+    }
+
+    public String computeFingerprint(VoltageInitRunContext runContext) {
+        VoltageInitParametersInfos parameters = voltageInitParametersService.resolveParametersSnapshot(runContext.getParametersUuid());
+        Map<UUID, List<String>> equipmentIdsByFilter = new TreeMap<>();
+        if (parameters != null) {
+            filterService.exportEquipmentIdsByFilter(VoltageInitParametersService.getReferencedFiltersUuids(parameters), runContext.getNetworkUuid(), runContext.getVariantId())
+                .forEach((filterUuid, equipmentIds) -> equipmentIdsByFilter.put(filterUuid, equipmentIds.stream().sorted().toList()));
+        }
+
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        inputs.put("networkUuid", runContext.getNetworkUuid());
+        inputs.put("variantId", runContext.getVariantId());
+        inputs.put("openReacVersion", OPENREAC_VERSION);
+        inputs.put("parameters", parameters != null ? toComputationInputs(parameters) : null);
+        inputs.put("filters", equipmentIdsByFilter);
+        inputs.put("voltageLevelsIdsRestricted", runContext.getVoltageLevelsIdsRestricted() != null ? new TreeMap<>(runContext.getVoltageLevelsIdsRestricted()) : null);
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(inputs)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new PowsyblException("Error computing the result fingerprint", e);
+        }
+    }
+}
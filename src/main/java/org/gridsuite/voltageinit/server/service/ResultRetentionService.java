@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import org.gridsuite.voltageinit.server.dto.ResultRetentionReport;
+import org.gridsuite.voltageinit.server.repository.ResultRepository;
+import org.gridsuite.voltageinit.server.repository.SchedulerLockRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.gridsuite.computation.service.NotificationService.RESULT_UUID_HEADER;
+
+/**
+ * Evicts the results beyond the retention policy: older than a maximum age, or beyond a maximum count of the most
+ * recent results of a network or of a network variant, a variant holding the results of a node.
+ * The criteria are independent, a result matching any of them is evicted.
+ * The eviction deletes the results chunk by chunk, each chunk in its own transaction, the modifications groups being
+ * deleted by {@link ModificationsGroupDeletionService}. A result deleted message is sent for each evicted result.
+ * A single instance evicts at a time, holding a lock shared through the database. The lease of the lock is renewed
+ * before each chunk, the eviction stopping when the lock has been lost.
+ *
+ * @author agent <agent at local>
+ */
+@Service
+public class ResultRetentionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultRetentionService.class);
+
+    public static final String LOCK_NAME = "resultRetention";
+
+    public static final String RESULT_DELETED_BINDING = "publishResultDeleted-out-0";
+
+    private final ResultRepository resultRepository;
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    private final StreamBridge streamBridge;
+
+    private final VoltageInitResultService resultService;
+
+    private final VoltageInitObserver voltageInitObserver;
+
+    private final boolean enabled;
+
+    /**
+     * No maximum age when null
+     */
+    private final Duration maxAge;
+
+    /**
+     * No maximum count when 0
+     */
+    private final int maxResultsPerNetwork;
+
+    /**
+     * No maximum count when 0
+     */
+    private final int maxResultsPerVariant;
+
+    private final int chunkSize;
+
+    private final Duration lockLease;
+
+    public ResultRetentionService(ResultRepository resultRepository,
+                                  SchedulerLockRepository schedulerLockRepository,
+                                  StreamBridge streamBridge,
+                                  VoltageInitResultService resultService,
+                                  VoltageInitObserver voltageInitObserver,
+                                  @Value("${voltage-init.result-retention.enabled:false}") boolean enabled,
+                                  @Value("${voltage-init.result-retention.max-age:#{null}}") Duration maxAge,
+                                  @Value("${voltage-init.result-retention.max-results-per-network:0}") int maxResultsPerNetwork,
+                                  @Value("${voltage-init.result-retention.max-results-per-variant:0}") int maxResultsPerVariant,
+                                  @Value("${voltage-init.result-retention.chunk-size:100}") int chunkSize,
+                                  @Value("${voltage-init.result-retention.lock-lease:PT30M}") Duration lockLease) {
+        this.resultRepository = resultRepository;
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.streamBridge = streamBridge;
+        this.resultService = resultService;
+        this.voltageInitObserver = voltageInitObserver;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.maxResultsPerNetwork = maxResultsPerNetwork;
+        this.maxResultsPerVariant = maxResultsPerVariant;
+        this.chunkSize = chunkSize;
+        this.lockLease = lockLease;
+    }
+
+    @Scheduled(fixedDelayString = "${voltage-init.result-retention.eviction-delay:3600000}")
+    public void scheduledEviction() {
+        if (enabled) {
+            evict();
+        }
+    }
+
+    /**
+     * @return the number of evicted results, 0 when another instance is evicting
+     */
+    /**
+     * @return the end of a lease starting now, truncated to the precision of the database as the lease end
+     * identifies the holder of the lock
+     */
+    private Instant leaseEnd(Instant now) {
+        return now.plus(lockLease).truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    public int evict() {
+        Instant now = Instant.now();
+        Instant leaseEnd = leaseEnd(now);
+        schedulerLockRepository.create(LOCK_NAME, Instant.EPOCH);
+        if (schedulerLockRepository.acquire(LOCK_NAME, now, leaseEnd) == 0) {
+            LOGGER.debug("Results eviction skipped, already running on another instance");
+            return 0;
+        }
+        AtomicReference<Instant> lease = new AtomicReference<>(leaseEnd);
+        try {
+            return evictLocked(lease);
+        } finally {
+            if (lease.get() != null && schedulerLockRepository.release(LOCK_NAME, lease.get(), Instant.now()) == 0) {
+                LOGGER.warn("Results eviction lock lost before its release");
+            }
+        }
+    }
+
+    /**
+     * @param lease the end of the lease of the lock, renewed before each chunk, null once the lock has been lost
+     */
+    private int evictLocked(AtomicReference<Instant> lease) {
+        long startTime = System.nanoTime();
+        // the criteria are evaluated once, the deletions of a chunk do not change the results evicted by the next ones
+        List<UUID> resultUuids = List.copyOf(findEvictableResultUuids());
+        int evicted = 0;
+        for (int i = 0; i < resultUuids.size(); i += chunkSize) {
+            Instant renewedLeaseEnd = leaseEnd(Instant.now());
+            if (schedulerLockRepository.renew(LOCK_NAME, lease.get(), renewedLeaseEnd) == 0) {
+                lease.set(null);
+                LOGGER.warn("Results eviction lock lost, eviction stopped after {} of {} results", evicted, resultUuids.size());
+                break;
+            }
+            lease.set(renewedLeaseEnd);
+            List<UUID> chunk = resultUuids.subList(i, Math.min(i + chunkSize, resultUuids.size()));
+            resultService.delete(chunk);
+            chunk.forEach(this::sendResultDeletedMessage);
+            evicted += chunk.size();
+        }
+        voltageInitObserver.recordResultsEviction(evicted, System.nanoTime() - startTime);
+        if (evicted > 0) {
+            LOGGER.info("{} results evicted by the retention policy", evicted);
+        }
+        return evicted;
+    }
+
+    private void sendResultDeletedMessage(UUID resultUuid) {
+        streamBridge.send(RESULT_DELETED_BINDING, MessageBuilder.withPayload("")
+            .setHeader(RESULT_UUID_HEADER, resultUuid.toString())
+            .build());
+    }
+
+    @Transactional(readOnly = true)
+    public ResultRetentionReport dryRun() {
+        List<UUID> expired = findExpiredResultUuids();
+        List<UUID> beyondNetworkCount = findResultUuidsBeyondNetworkCount();
+        List<UUID> beyondVariantCount = findResultUuidsBeyondVariantCount();
+        return new ResultRetentionReport(maxAge, maxResultsPerNetwork, maxResultsPerVariant,
+            expired.size(), beyondNetworkCount.size(), beyondVariantCount.size(), union(expired, beyondNetworkCount, beyondVariantCount).size());
+    }
+
+    private Set<UUID> findEvictableResultUuids() {
+        return union(findExpiredResultUuids(), findResultUuidsBeyondNetworkCount(), findResultUuidsBeyondVariantCount());
+    }
+
+    private static Set<UUID> union(List<UUID> expired, List<UUID> beyondNetworkCount, List<UUID> beyondVariantCount) {
+        Set<UUID> resultUuids = new LinkedHashSet<>(expired);
+        resultUuids.addAll(beyondNetworkCount);
+        resultUuids.addAll(beyondVariantCount);
+        return resultUuids;
+    }
+
+    private List<UUID> findExpiredResultUuids() {
+        return maxAge != null ? resultRepository.findResultUuidsWrittenBefore(Instant.now().minus(maxAge)) : List.of();
+    }
+
+    private List<UUID> findResultUuidsBeyondNetworkCount() {
+        return maxResultsPerNetwork > 0 ? resultRepository.findResultUuidsBeyondNetworkCount(maxResultsPerNetwork) : List.of();
+    }
+
+    private List<UUID> findResultUuidsBeyondVariantCount() {
+        return maxResultsPerVariant > 0 ? resultRepository.findResultUuidsBeyondVariantCount(maxResultsPerVariant) : List.of();
+    }
+}
@@ -0,0 +1,327 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.gridsuite.computation.service.NotificationService;
+import org.gridsuite.voltageinit.server.repository.ResultRepository;
+import org.gridsuite.voltageinit.server.repository.VoltageLevelAggregateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.gridsuite.computation.service.NotificationService.NETWORK_UUID_HEADER;
+import static org.gridsuite.computation.service.NotificationService.RESULT_UUID_HEADER;
+import static org.gridsuite.computation.service.NotificationService.VARIANT_ID_HEADER;
+
+/**
+ * Admission control of the run messages consumed by the worker, disabled by default.
+ * The memory footprint of a run is estimated from the number of voltage levels of the last result of the same
+ * network variant, or of the same network for a variant never computed, counted in the database without any call to
+ * the network store. A run is admitted when the heap headroom can hold it, otherwise the message is sent back to the
+ * run queue after the retry delay to be consumed again, until the maximum waiting delay after which it is forced.
+ * A run is always admitted when no other run is in progress.
+ * The consumer thread is not held during the retry delay: the deferred message is acknowledged and kept in memory
+ * until it is sent back, immediately when the instance stops. A run cancelled while deferred is dropped.
+ *
+ * @author agent <agent at local>
+ */
+@Service
+public class RunAdmissionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RunAdmissionService.class);
+
+    public static final String ADMISSION_COUNTER_NAME = "voltageinit.run.admission";
+    public static final String ADMISSION_WAIT_TIMER_NAME = "voltageinit.run.admission.wait";
+    public static final String RESERVED_MEMORY_GAUGE_NAME = "voltageinit.run.admission.reserved.bytes";
+    public static final String DECISION_TAG_NAME = "decision";
+    public static final String ADMITTED = "admitted";
+    public static final String DEFERRED = "deferred";
+    public static final String DELAYED = "delayed";
+    public static final String FORCED = "forced";
+    public static final String CANCELLED = "cancelled";
+
+    /**
+     * Time of the first admission attempt of a deferred message, in epoch milliseconds
+     */
+    public static final String DEFERRED_SINCE_HEADER = "admissionDeferredSince";
+
+    /**
+     * Footprint estimated at the first admission attempt, not estimated again when the message is consumed again
+     */
+    public static final String ESTIMATED_BYTES_HEADER = "admissionEstimatedBytes";
+
+    private final ResultRepository resultRepository;
+
+    private final VoltageLevelAggregateRepository voltageLevelAggregateRepository;
+
+    private final NotificationService notificationService;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+
+    private final long bytesPerVoltageLevel;
+
+    private final Duration retryDelay;
+
+    private final Duration maxWait;
+
+    private final AtomicLong reservedBytes = new AtomicLong();
+
+    private final AtomicInteger runningRuns = new AtomicInteger();
+
+    private final Object admissionLock = new Object();
+
+    /**
+     * Deferred messages waiting for their retry delay, by result uuid
+     */
+    private final Map<UUID, Message<String>> deferredMessages = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService requeueScheduler = Executors.newSingleThreadScheduledExecutor();
+
+    /**
+     * Runs cancelled during their maximum waiting delay, the cancel messages being received by every instance
+     */
+    private final Cache<UUID, Boolean> cancelledRuns;
+
+    public RunAdmissionService(ResultRepository resultRepository,
+                               VoltageLevelAggregateRepository voltageLevelAggregateRepository,
+                               NotificationService notificationService,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${voltage-init.admission.enabled:false}") boolean enabled,
+                               @Value("${voltage-init.admission.bytes-per-voltage-level:524288}") long bytesPerVoltageLevel,
+                               @Value("${voltage-init.admission.retry-delay:PT1S}") Duration retryDelay,
+                               @Value("${voltage-init.admission.max-wait:PT10M}") Duration maxWait) {
+        this.resultRepository = resultRepository;
+        this.voltageLevelAggregateRepository = voltageLevelAggregateRepository;
+        this.notificationService = notificationService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.bytesPerVoltageLevel = bytesPerVoltageLevel;
+        this.retryDelay = retryDelay;
+        this.maxWait = maxWait;
+        this.cancelledRuns = CacheBuilder.newBuilder()
+            .expireAfterWrite(maxWait.plus(retryDelay))
+            .build();
+        Gauge.builder(RESERVED_MEMORY_GAUGE_NAME, reservedBytes, AtomicLong::get)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * The deferred messages are sent back at once, not to be lost with the instance
+     */
+    @PreDestroy
+    public void shutdown() {
+        requeueScheduler.shutdownNow();
+        List.copyOf(deferredMessages.keySet()).forEach(this::requeue);
+    }
+
+    /**
+     * @return a consumer running the given one once the message has been admitted
+     */
+    public Consumer<Message<String>> withAdmission(Consumer<Message<String>> runConsumer) {
+        if (!enabled) {
+            return runConsumer;
+        }
+        return message -> {
+            Long deferredSince = getLongHeader(message, DEFERRED_SINCE_HEADER);
+            if (deferredSince != null && isCancelled(getResultUuid(message))) {
+                dropCancelled(getResultUuid(message));
+                return;
+            }
+            long estimatedBytes = getEstimatedFootprint(message);
+            long now = System.currentTimeMillis();
+            String decision = deferredSince == null ? ADMITTED : DELAYED;
+            if (!tryReserve(estimatedBytes)) {
+                if (deferredSince == null || now - deferredSince < maxWait.toMillis()) {
+                    defer(message, deferredSince != null ? deferredSince : now, estimatedBytes);
+                    return;
+                }
+                LOGGER.warn("Run forced after waiting {}s for {} bytes of heap headroom", maxWait.toSeconds(), estimatedBytes);
+                reserve(estimatedBytes);
+                decision = FORCED;
+            }
+            countDecision(decision);
+            Timer.builder(ADMISSION_WAIT_TIMER_NAME)
+                .register(meterRegistry)
+                .record(deferredSince != null ? now - deferredSince : 0, TimeUnit.MILLISECONDS);
+            try {
+                runConsumer.accept(message);
+            } finally {
+                reservedBytes.addAndGet(-estimatedBytes);
+                runningRuns.decrementAndGet();
+            }
+        };
+    }
+
+    /**
+     * @return a consumer recording the cancelled runs before running the given one
+     */
+    public Consumer<Message<String>> withCancellation(Consumer<Message<String>> cancelConsumer) {
+        if (!enabled) {
+            return cancelConsumer;
+        }
+        return message -> {
+            UUID resultUuid = getResultUuid(message);
+            if (resultUuid != null) {
+                cancelledRuns.put(resultUuid, Boolean.TRUE);
+                if (deferredMessages.remove(resultUuid) != null) {
+                    dropCancelled(resultUuid);
+                }
+            }
+            cancelConsumer.accept(message);
+        };
+    }
+
+    private static UUID getResultUuid(Message<String> message) {
+        Object resultUuid = message.getHeaders().get(RESULT_UUID_HEADER);
+        return resultUuid != null ? UUID.fromString(resultUuid.toString()) : null;
+    }
+
+    private boolean isCancelled(UUID resultUuid) {
+        return resultUuid != null && cancelledRuns.getIfPresent(resultUuid) != null;
+    }
+
+    private void dropCancelled(UUID resultUuid) {
+        LOGGER.info("Deferred run {} cancelled, dropped", resultUuid);
+        countDecision(CANCELLED);
+    }
+
+    /**
+     * Send the message back to the run queue once the retry delay has elapsed, acknowledging the consumed one, so that
+     * a single deferred message does not loop on the queue. Only the run headers are copied, the headers of the
+     * consumed message being left out.
+     */
+    private void defer(Message<String> message, long deferredSince, long estimatedBytes) {
+        VoltageInitResultContext resultContext = VoltageInitResultContext.fromMessage(message, objectMapper);
+        Message<String> deferredMessage = MessageBuilder.withPayload(message.getPayload())
+            .copyHeaders(resultContext.toMessage(objectMapper).getHeaders())
+            .setHeader(DEFERRED_SINCE_HEADER, Long.toString(deferredSince))
+            .setHeader(ESTIMATED_BYTES_HEADER, Long.toString(estimatedBytes))
+            .build();
+        deferredMessages.put(resultContext.getResultUuid(), deferredMessage);
+        requeueScheduler.schedule(() -> requeue(resultContext.getResultUuid()), retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+        countDecision(DEFERRED);
+    }
+
+    /**
+     * Send a deferred message back to the run queue, unless its run has been cancelled meanwhile
+     */
+    private void requeue(UUID resultUuid) {
+        Message<String> message = deferredMessages.remove(resultUuid);
+        if (message == null) {
+            return;
+        }
+        if (isCancelled(resultUuid)) {
+            dropCancelled(resultUuid);
+            return;
+        }
+        try {
+            notificationService.sendRunMessage(message);
+        } catch (RuntimeException e) {
+            LOGGER.error("Deferred run {} not sent back to the run queue", resultUuid, e);
+        }
+    }
+
+    private void countDecision(String decision) {
+        Counter.builder(ADMISSION_COUNTER_NAME)
+            .tag(DECISION_TAG_NAME, decision)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private boolean tryReserve(long estimatedBytes) {
+        synchronized (admissionLock) {
+            if (runningRuns.get() == 0 || estimatedBytes <= getHeapHeadroom()) {
+                reserve(estimatedBytes);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private void reserve(long estimatedBytes) {
+        reservedBytes.addAndGet(estimatedBytes);
+        runningRuns.incrementAndGet();
+    }
+
+    /**
+     * The runs in progress may not have loaded their network yet: the memory they hold is the largest
+     * between the used heap and their reserved footprint.
+     */
+    private long getHeapHeadroom() {
+        Runtime runtime = Runtime.getRuntime();
+        long usedMemory = runtime.totalMemory() - runtime.freeMemory();
+        return runtime.maxMemory() - Math.max(usedMemory, reservedBytes.get());
+    }
+
+    private static Long getLongHeader(Message<String> message, String name) {
+        Object header = message.getHeaders().get(name);
+        return header != null ? Long.valueOf(header.toString()) : null;
+    }
+
+    private long getEstimatedFootprint(Message<String> message) {
+        Long estimatedBytes = getLongHeader(message, ESTIMATED_BYTES_HEADER);
+        return estimatedBytes != null ? estimatedBytes : estimateFootprint(message);
+    }
+
+    /**
+     * A network variant never computed is estimated from the last result of another variant of the network, the
+     * variants of a network sharing most of their voltage levels. A network never computed is estimated as empty: its
+     * run is only held by the memory already used.
+     */
+    private long estimateFootprint(Message<String> message) {
+        String networkUuid = (String) message.getHeaders().get(NETWORK_UUID_HEADER);
+        if (networkUuid == null) {
+            return 0;
+        }
+        String variantId = (String) message.getHeaders().get(VARIANT_ID_HEADER);
+        try {
+            List<UUID> lastResultUuids = resultRepository.findLastResultUuids(UUID.fromString(networkUuid), variantId, PageRequest.of(0, 1));
+            if (lastResultUuids.isEmpty()) {
+                lastResultUuids = resultRepository.findLastNetworkResultUuids(UUID.fromString(networkUuid), PageRequest.of(0, 1));
+            }
+            return lastResultUuids.stream()
+                .findFirst()
+                .map(voltageLevelAggregateRepository::countByResultUuid)
+                .orElse(0L) * bytesPerVoltageLevel;
+        } catch (RuntimeException e) {
+            // the run itself will report its errors
+            LOGGER.warn("Unable to estimate the memory footprint of network {}", networkUuid, e);
+            return 0;
+        }
+    }
+}
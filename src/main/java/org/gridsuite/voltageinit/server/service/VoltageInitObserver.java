@@ -9,13 +9,17 @@ package org.gridsuite.voltageinit.server.service;
 import com.powsybl.openreac.parameters.output.OpenReacResult;
 import com.powsybl.openreac.parameters.output.OpenReacStatus;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.NonNull;
 import org.gridsuite.computation.service.AbstractComputationObserver;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author AJELLAL Ali <ali.ajellal@rte-france.com>
  */
@@ -27,6 +31,16 @@ public class VoltageInitObserver extends AbstractComputationObserver<OpenReacRes
 
     private static final String NOK = "NOK";
 
+    public static final String OPENREAC_RUN_TIMER_NAME = "voltageinit.openreac.run";
+    public static final String OPENREAC_ITERATIONS_SUMMARY_NAME = "voltageinit.openreac.iterations";
+    public static final String WARM_START_TAG_NAME = "warmStart";
+    public static final String RESULTS_EVICTION_TIMER_NAME = "voltageinit.results.eviction";
+    public static final String RESULTS_EVICTED_COUNTER_NAME = "voltageinit.results.evicted";
+    /**
+     * Indicator of OpenReac giving the number of iterations of the last optimization
+     */
+    public static final String ITERATIONS_INDICATOR = "nb_iter_last";
+
     public VoltageInitObserver(@NonNull ObservationRegistry observationRegistry, @NonNull MeterRegistry meterRegistry) {
         super(observationRegistry, meterRegistry);
     }
@@ -45,6 +59,40 @@ public class VoltageInitObserver extends AbstractComputationObserver<OpenReacRes
         return result;
     }
 
+    /**
+     * Record the duration and the number of iterations of an OpenReac run, tagged with the use of a warm start
+     */
+    public void recordOpenReacRun(OpenReacResult result, long durationNanos, boolean warmStart) {
+        String warmStartTag = Boolean.toString(warmStart);
+        Timer.builder(OPENREAC_RUN_TIMER_NAME)
+                .tag(WARM_START_TAG_NAME, warmStartTag)
+                .register(getMeterRegistry())
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        String iterations = result.getIndicators().get(ITERATIONS_INDICATOR);
+        if (iterations != null) {
+            try {
+                DistributionSummary.builder(OPENREAC_ITERATIONS_SUMMARY_NAME)
+                        .tag(WARM_START_TAG_NAME, warmStartTag)
+                        .register(getMeterRegistry())
+                        .record(Double.parseDouble(iterations.trim()));
+            } catch (NumberFormatException e) {
+                // indicator not reported as a number by this OpenReac version
+            }
+        }
+    }
+
+    /**
+     * Record the duration and the number of evicted results of a retention policy eviction
+     */
+    public void recordResultsEviction(int evictedCount, long durationNanos) {
+        Timer.builder(RESULTS_EVICTION_TIMER_NAME)
+                .register(getMeterRegistry())
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        Counter.builder(RESULTS_EVICTED_COUNTER_NAME)
+                .register(getMeterRegistry())
+                .increment(evictedCount);
+    }
+
     private Observation createObservation(String name) {
         return Observation.createNotStarted(OBSERVATION_PREFIX + name, getObservationRegistry())
                 .lowCardinalityKeyValue(PROVIDER_TAG_NAME, COMPUTATION_TYPE)
@@ -31,6 +31,9 @@ public class VoltageInitResultContext extends AbstractResultContext<VoltageInitR
     public static final String VOLTAGE_LEVELS_IDS_RESTRICTED = "voltageLevelsIdsRestricted";
     public static final String ROOT_NETWORK_NAME_HEADER = "rootNetworkName";
     public static final String NODE_NAME_HEADER = "nodeName";
+    public static final String FINGERPRINT_HEADER = "fingerprint";
+    public static final String WARM_START_HEADER = "warmStart";
+    public static final String WARM_START_RESULT_UUID_HEADER = "warmStartResultUuid";
 
     public VoltageInitResultContext(UUID resultUuid, VoltageInitRunContext runContext) {
         super(resultUuid, runContext);
@@ -74,6 +77,11 @@ public class VoltageInitResultContext extends AbstractResultContext<VoltageInitR
         VoltageInitRunContext runContext = new VoltageInitRunContext(
                 networkUuid, variantId, receiver, reportUuid, reporterId, reportType, userId, parametersUuid, voltageLevelsIdsRestricted, debug,
                 rootNetworkName, nodeName);
+        runContext.setFingerprint((String) headers.get(FINGERPRINT_HEADER));
+        runContext.setWarmStart(Boolean.parseBoolean((String) headers.get(WARM_START_HEADER)));
+        runContext.setWarmStartResultUuid(Optional.ofNullable((String) headers.get(WARM_START_RESULT_UUID_HEADER))
+                .map(UUID::fromString)
+                .orElse(null));
         return new VoltageInitResultContext(resultUuid, runContext);
     }
 
@@ -93,6 +101,15 @@ public class VoltageInitResultContext extends AbstractResultContext<VoltageInitR
             specificMsgHeaders.put(ROOT_NETWORK_NAME_HEADER, getRunContext().getRootNetworkName());
             specificMsgHeaders.put(NODE_NAME_HEADER, getRunContext().getNodeName());
         }
+        if (getRunContext().getFingerprint() != null) {
+            specificMsgHeaders.put(FINGERPRINT_HEADER, getRunContext().getFingerprint());
+        }
+        if (getRunContext().isWarmStart()) {
+            specificMsgHeaders.put(WARM_START_HEADER, Boolean.TRUE.toString());
+            if (getRunContext().getWarmStartResultUuid() != null) {
+                specificMsgHeaders.put(WARM_START_RESULT_UUID_HEADER, getRunContext().getWarmStartResultUuid().toString());
+            }
+        }
 
         return specificMsgHeaders;
     }
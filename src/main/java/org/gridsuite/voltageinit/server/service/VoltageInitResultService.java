@@ -6,24 +6,50 @@
  */
 package org.gridsuite.voltageinit.server.service;
 
-import com.powsybl.iidm.network.Bus;
 import com.powsybl.openreac.parameters.output.OpenReacResult;
+import jakarta.persistence.EntityManager;
 import org.gridsuite.computation.service.AbstractComputationResultService;
+import org.gridsuite.voltageinit.server.dto.BusVoltage;
+import org.gridsuite.voltageinit.server.dto.ReactiveSlack;
+import org.gridsuite.voltageinit.server.dto.ResultRowsFilter;
+import org.gridsuite.voltageinit.server.dto.VoltageInitResultSummary;
 import org.gridsuite.voltageinit.server.dto.VoltageInitStatus;
+import org.gridsuite.voltageinit.server.dto.VoltageLevelAggregate;
 import org.gridsuite.voltageinit.server.entities.BusVoltageEmbeddable;
 import org.gridsuite.voltageinit.server.entities.GlobalStatusEntity;
+import org.gridsuite.voltageinit.server.entities.ModificationsGroupCreationEntity;
 import org.gridsuite.voltageinit.server.entities.ReactiveSlackEmbeddable;
+import org.gridsuite.voltageinit.server.entities.ResultBlobCodec;
+import org.gridsuite.voltageinit.server.entities.ResultStorageMode;
 import org.gridsuite.voltageinit.server.entities.VoltageInitResultEntity;
+import org.gridsuite.voltageinit.server.entities.VoltageLevelAggregateEntity;
+import org.gridsuite.voltageinit.server.error.VoltageInitException;
+import org.gridsuite.voltageinit.server.repository.BusVoltageRowRepository;
 import org.gridsuite.voltageinit.server.repository.GlobalStatusRepository;
+import org.gridsuite.voltageinit.server.repository.ModificationsGroupCreationRepository;
+import org.gridsuite.voltageinit.server.repository.ModificationsGroupDeletionRepository;
+import org.gridsuite.voltageinit.server.repository.ReactiveSlackRowRepository;
+import org.gridsuite.voltageinit.server.repository.ResultBulkWriter;
 import org.gridsuite.voltageinit.server.repository.ResultRepository;
-import org.jgrapht.alg.util.Pair;
+import org.gridsuite.voltageinit.server.repository.ResultRowSpecifications;
+import org.gridsuite.voltageinit.server.repository.VoltageLevelAggregateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static org.gridsuite.voltageinit.server.error.VoltageInitBusinessErrorCode.INVALID_SORT_PROPERTY;
+
 /**
  * @author Etienne Homer <etienne.homer at rte-france.com
  */
@@ -33,47 +59,213 @@ public class VoltageInitResultService extends AbstractComputationResultService<V
     private GlobalStatusRepository globalStatusRepository;
     private ResultRepository resultRepository;
 
+    private final ResultBulkWriter resultBulkWriter;
+
+    private final BusVoltageRowRepository busVoltageRowRepository;
+
+    private final ReactiveSlackRowRepository reactiveSlackRowRepository;
+
+    private final VoltageLevelAggregateRepository voltageLevelAggregateRepository;
+
+    private final ModificationsGroupDeletionRepository modificationsGroupDeletionRepository;
+
+    private final ModificationsGroupCreationRepository modificationsGroupCreationRepository;
+
+    private final ResultCacheService resultCacheService;
+
+    private final EntityManager entityManager;
+
+    private static final Map<String, Comparator<BusVoltage>> BUS_VOLTAGE_COMPARATORS = Map.of(
+        "voltageLevelId", Comparator.comparing(BusVoltage::getVoltageLevelId, Comparator.nullsFirst(Comparator.naturalOrder())),
+        "busId", Comparator.comparing(BusVoltage::getBusId),
+        "v", Comparator.comparingDouble(BusVoltage::getV),
+        "angle", Comparator.comparingDouble(BusVoltage::getAngle));
+
+    private static final Map<String, Comparator<ReactiveSlack>> REACTIVE_SLACK_COMPARATORS = Map.of(
+        "voltageLevelId", Comparator.comparing(ReactiveSlack::getVoltageLevelId, Comparator.nullsFirst(Comparator.naturalOrder())),
+        "busId", Comparator.comparing(ReactiveSlack::getBusId),
+        "slack", Comparator.comparingDouble(ReactiveSlack::getSlack));
+
+    private static final Set<String> VOLTAGE_LEVEL_AGGREGATE_SORT_PROPERTIES = Set.of("voltageLevelId", "nominalV", "busCount",
+        "minV", "maxV", "meanV", "reactiveSlackSum", "maxAbsReactiveSlack");
+
+    /**
+     * Results deleted by a single set of statements
+     */
+    private static final int DELETION_CHUNK_SIZE = 1000;
+
+    private final ResultStorageMode storageMode;
+
+    private final boolean bulkInsertEnabled;
+
     public VoltageInitResultService(GlobalStatusRepository globalStatusRepository,
-                                    ResultRepository resultRepository) {
+                                    ResultRepository resultRepository,
+                                    ResultBulkWriter resultBulkWriter,
+                                    BusVoltageRowRepository busVoltageRowRepository,
+                                    ReactiveSlackRowRepository reactiveSlackRowRepository,
+                                    VoltageLevelAggregateRepository voltageLevelAggregateRepository,
+                                    ModificationsGroupDeletionRepository modificationsGroupDeletionRepository,
+                                    ModificationsGroupCreationRepository modificationsGroupCreationRepository,
+                                    ResultCacheService resultCacheService,
+                                    EntityManager entityManager,
+                                    @Value("${voltage-init.result-storage.mode:ELEMENT_COLLECTION}") ResultStorageMode storageMode,
+                                    @Value("${voltage-init.result-storage.bulk-insert.enabled:true}") boolean bulkInsertEnabled) {
         this.globalStatusRepository = globalStatusRepository;
         this.resultRepository = resultRepository;
+        this.resultBulkWriter = resultBulkWriter;
+        this.busVoltageRowRepository = busVoltageRowRepository;
+        this.reactiveSlackRowRepository = reactiveSlackRowRepository;
+        this.voltageLevelAggregateRepository = voltageLevelAggregateRepository;
+        this.modificationsGroupDeletionRepository = modificationsGroupDeletionRepository;
+        this.modificationsGroupCreationRepository = modificationsGroupCreationRepository;
+        this.resultCacheService = resultCacheService;
+        this.entityManager = entityManager;
+        this.storageMode = storageMode;
+        this.bulkInsertEnabled = bulkInsertEnabled;
     }
 
-    private static VoltageInitResultEntity toVoltageInitResultEntity(UUID resultUuid, OpenReacResult result, Map<String, Bus> networkBuses, UUID modificationsGroupUuid,
-                                                                     boolean isReactiveSlacksOverThreshold, Double reactiveSlacksThreshold) {
+    /**
+     * Save a result according to the storage mode: in blob storage mode, the bus voltages and reactive slacks are moved
+     * from the collections to the blob columns, otherwise the collections may be written by the bulk writer once the
+     * result row is flushed.
+     * The summary columns are computed beforehand, while the collections are still filled.
+     */
+    private void saveResultEntity(VoltageInitResultEntity resultEntity) {
+        resultEntity.setIndicatorsCount(resultEntity.getIndicators().size());
+        OptionalDouble maxAbsReactiveSlack = resultEntity.getReactiveSlacks().stream().mapToDouble(rs -> Math.abs(rs.getSlack())).max();
+        resultEntity.setMaxAbsReactiveSlack(maxAbsReactiveSlack.isPresent() ? maxAbsReactiveSlack.getAsDouble() : null);
+        if (storageMode == ResultStorageMode.BLOB) {
+            resultEntity.setBusVoltagesBlob(ResultBlobCodec.encodeBusVoltages(resultEntity.getBusVoltages()));
+            resultEntity.setReactiveSlacksBlob(ResultBlobCodec.encodeReactiveSlacks(resultEntity.getReactiveSlacks()));
+            resultEntity.setBusVoltages(new ArrayList<>());
+            resultEntity.setReactiveSlacks(new ArrayList<>());
+            resultRepository.save(resultEntity);
+        } else if (bulkInsertEnabled) {
+            Map<String, String> indicators = resultEntity.getIndicators();
+            List<ReactiveSlackEmbeddable> reactiveSlacks = resultEntity.getReactiveSlacks();
+            List<BusVoltageEmbeddable> busVoltages = resultEntity.getBusVoltages();
+            resultEntity.setIndicators(new HashMap<>());
+            resultEntity.setReactiveSlacks(new ArrayList<>());
+            resultEntity.setBusVoltages(new ArrayList<>());
+            // the uuid being assigned, the entity is merged: the managed entity is the returned copy
+            VoltageInitResultEntity managedResultEntity = resultRepository.saveAndFlush(resultEntity);
+            resultBulkWriter.write(resultEntity.getResultUuid(), indicators, reactiveSlacks, busVoltages);
+            // the managed entity holds empty collections, the next reads of this transaction must load the written rows
+            entityManager.detach(managedResultEntity);
+        } else {
+            resultRepository.save(resultEntity);
+        }
+    }
+
+    private static VoltageInitResultEntity toVoltageInitResultEntity(UUID resultUuid, VoltageInitRunContext runContext, OpenReacResult result, VoltageProfile voltageProfile,
+                                                                     UUID modificationsGroupUuid, boolean isReactiveSlacksOverThreshold) {
         Map<String, String> indicators = result.getIndicators();
         List<ReactiveSlackEmbeddable> reactiveSlacks = result.getReactiveSlacks().stream().map(rs ->
                 new ReactiveSlackEmbeddable(rs.getVoltageLevelId(), rs.getBusId(), rs.getSlack()))
             .collect(Collectors.toList());
-        Map<String, Pair<Double, Double>> voltageProfile = result.getVoltageProfile();
-        List<BusVoltageEmbeddable> busVoltages = voltageProfile.entrySet().stream()
-            .map(vp -> {
-                Bus b = networkBuses.get(vp.getKey());
-                if (b != null) {
-                    return new BusVoltageEmbeddable(b.getVoltageLevel().getId(), vp.getKey(),
-                        vp.getValue().getFirst() * b.getVoltageLevel().getNominalV(),
-                        Math.toDegrees(vp.getValue().getSecond()));
-                } else {
-                    return null;
-                }
-            }
-        ).filter(Objects::nonNull).toList();
+        List<BusVoltageEmbeddable> busVoltages = new ArrayList<>(voltageProfile.size());
+        for (int row = 0; row < voltageProfile.size(); row++) {
+            busVoltages.add(new BusVoltageEmbeddable(voltageProfile.getVoltageLevelId(row), voltageProfile.getBusId(row),
+                voltageProfile.getV(row), voltageProfile.getAngle(row)));
+        }
         return new VoltageInitResultEntity(resultUuid, Instant.now(), indicators, reactiveSlacks, busVoltages, modificationsGroupUuid,
-                                           isReactiveSlacksOverThreshold, reactiveSlacksThreshold, null);
+                                           isReactiveSlacksOverThreshold, runContext.getReactiveSlacksThreshold(), null, runContext.getFingerprint(),
+                                           runContext.getNetworkUuid(), runContext.getVariantId(), runContext.isWarmStartUsed(), null, null, null, null, runContext.isVoltageLevelLimitsOutOfNominalVRange());
+    }
+
+    /**
+     * Running min, max and sum of the voltages and sum and max of the absolute reactive slacks of a voltage level
+     */
+    private static final class VoltageLevelAccumulator {
+        private Double nominalV;
+        private int busCount;
+        private double minV = Double.POSITIVE_INFINITY;
+        private double maxV = Double.NEGATIVE_INFINITY;
+        private double sumV;
+        private double reactiveSlackSum;
+        private Double maxAbsReactiveSlack;
+
+        private VoltageLevelAggregateEntity toEntity(UUID resultUuid, String voltageLevelId) {
+            return new VoltageLevelAggregateEntity(resultUuid, voltageLevelId, nominalV, busCount,
+                busCount > 0 ? minV : null, busCount > 0 ? maxV : null, busCount > 0 ? sumV / busCount : null,
+                reactiveSlackSum, maxAbsReactiveSlack);
+        }
+    }
+
+    /**
+     * One pass over the voltage profile and the reactive slacks, buses without voltage level are left out
+     */
+    private static List<VoltageLevelAggregateEntity> toVoltageLevelAggregates(UUID resultUuid, OpenReacResult result, VoltageProfile voltageProfile) {
+        Map<String, VoltageLevelAccumulator> accumulators = new HashMap<>();
+        for (int row = 0; row < voltageProfile.size(); row++) {
+            if (voltageProfile.getVoltageLevelId(row) != null) {
+                VoltageLevelAccumulator accumulator = accumulators.computeIfAbsent(voltageProfile.getVoltageLevelId(row), id -> new VoltageLevelAccumulator());
+                double v = voltageProfile.getV(row);
+                accumulator.nominalV = voltageProfile.getNominalV(row);
+                accumulator.busCount++;
+                accumulator.minV = Math.min(accumulator.minV, v);
+                accumulator.maxV = Math.max(accumulator.maxV, v);
+                accumulator.sumV += v;
+            }
+        }
+        result.getReactiveSlacks().stream().filter(rs -> rs.getVoltageLevelId() != null).forEach(rs -> {
+            VoltageLevelAccumulator accumulator = accumulators.computeIfAbsent(rs.getVoltageLevelId(), id -> new VoltageLevelAccumulator());
+            accumulator.reactiveSlackSum += rs.getSlack();
+            accumulator.maxAbsReactiveSlack = accumulator.maxAbsReactiveSlack == null ? Math.abs(rs.getSlack())
+                : Math.max(accumulator.maxAbsReactiveSlack, Math.abs(rs.getSlack()));
+        });
+        return accumulators.entrySet().stream().map(e -> e.getValue().toEntity(resultUuid, e.getKey())).toList();
+    }
+
+    /**
+     * The aggregates reference the result row without a mapped association, which must then be flushed first
+     */
+    private void saveVoltageLevelAggregates(List<VoltageLevelAggregateEntity> aggregates) {
+        if (!aggregates.isEmpty()) {
+            resultRepository.flush();
+            voltageLevelAggregateRepository.saveAll(aggregates);
+        }
     }
 
     @Override
     @Transactional
     public void delete(UUID resultUuid) {
         Objects.requireNonNull(resultUuid);
-        globalStatusRepository.deleteByResultUuid(resultUuid);
-        resultRepository.deleteByResultUuid(resultUuid);
+        delete(List.of(resultUuid));
+    }
+
+    /**
+     * Delete the results with set-based statements, their modifications groups being queued for deletion in the
+     * network modification server by {@link ModificationsGroupDeletionService} and their pending creations dropped
+     */
+    @Transactional
+    public void delete(Collection<UUID> resultUuids) {
+        List<UUID> distinctUuids = resultUuids.stream().distinct().toList();
+        resultCacheService.invalidate(distinctUuids);
+        for (int i = 0; i < distinctUuids.size(); i += DELETION_CHUNK_SIZE) {
+            List<UUID> chunk = distinctUuids.subList(i, Math.min(i + DELETION_CHUNK_SIZE, distinctUuids.size()));
+            List<UUID> modificationsGroupUuids = resultRepository.findModificationsGroupUuids(chunk);
+            queueModificationsGroupDeletions(modificationsGroupUuids);
+            modificationsGroupCreationRepository.deleteAllByIdInBatch(modificationsGroupUuids);
+            resultRepository.deleteIndicators(chunk);
+            resultRepository.deleteReactiveSlacks(chunk);
+            resultRepository.deleteBusVoltages(chunk);
+            // the voltage level aggregates are deleted by the database with their result
+            resultRepository.deleteAllByIdInBatch(chunk);
+            globalStatusRepository.deleteAllByIdInBatch(chunk);
+        }
+    }
+
+    private void queueModificationsGroupDeletions(List<UUID> modificationsGroupUuids) {
+        Instant now = Instant.now();
+        modificationsGroupUuids.forEach(modificationsGroupUuid -> modificationsGroupDeletionRepository.enqueue(modificationsGroupUuid, now));
     }
 
     @Transactional
     @Override
     public void insertStatus(List<UUID> resultUuids, VoltageInitStatus status) {
         Objects.requireNonNull(resultUuids);
+        resultCacheService.invalidate(resultUuids);
         globalStatusRepository.saveAll(resultUuids.stream()
                 .map(uuid -> toStatusEntity(uuid, status.name())).collect(Collectors.toList()));
     }
@@ -97,12 +289,72 @@ public class VoltageInitResultService extends AbstractComputationResultService<V
     @Transactional
     @Override
     public void deleteAll() {
-        globalStatusRepository.deleteAll();
-        resultRepository.deleteAll();
+        resultCacheService.invalidateAll();
+        queueModificationsGroupDeletions(resultRepository.findAllModificationsGroupUuids());
+        modificationsGroupCreationRepository.deleteAllInBatch();
+        resultRepository.deleteAllIndicators();
+        resultRepository.deleteAllReactiveSlacks();
+        resultRepository.deleteAllBusVoltages();
+        resultRepository.deleteAllInBatch();
+        globalStatusRepository.deleteAllInBatch();
     }
 
-    public List<VoltageInitResultEntity> findAll() {
-        return resultRepository.findAll();
+    @Transactional(readOnly = true)
+    public boolean exists(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        return resultRepository.existsById(resultUuid);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<UUID> findModificationsGroupUuid(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        return resultRepository.findModificationsGroupUuid(resultUuid);
+    }
+
+    /**
+     * The creation of the group is dropped if still pending, the group being no longer referenced by the result.
+     * A creation in progress queues the deletion of the group once done.
+     */
+    @Transactional
+    public void resetModificationsGroupUuid(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        resultCacheService.invalidate(resultUuid);
+        resultRepository.findModificationsGroupUuid(resultUuid).ifPresent(modificationsGroupCreationRepository::remove);
+        resultRepository.resetModificationsGroupUuid(resultUuid);
+    }
+
+    /**
+     * Drop an on demand creation abandoned by the readers of its result, the result no longer referencing its group.
+     * A group left by a failed attempt is queued for deletion.
+     *
+     * @return true when the creation is dropped, false when it has been claimed since it was read
+     */
+    @Transactional
+    public boolean dropAbandonedModificationsGroupCreation(ModificationsGroupCreationEntity creation) {
+        UUID modificationsGroupUuid = creation.getModificationsGroupUuid();
+        if (modificationsGroupCreationRepository.removeAbandoned(modificationsGroupUuid, creation.getNextAttemptAt()) == 0) {
+            return false;
+        }
+        resultRepository.findResultUuidByModificationsGroupUuid(modificationsGroupUuid).ifPresent(resultUuid -> {
+            resultCacheService.invalidate(resultUuid);
+            resultRepository.resetModificationsGroupUuid(resultUuid);
+        });
+        if (creation.getAttempts() > 0) {
+            modificationsGroupDeletionRepository.enqueue(modificationsGroupUuid, Instant.now());
+        }
+        return true;
+    }
+
+    /**
+     * @return the summary of a result, read from the status and result rows only, empty when the result is unknown
+     */
+    @Transactional(readOnly = true)
+    public Optional<VoltageInitResultSummary> findSummary(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        return resultRepository.findSummary(resultUuid).map(summary -> new VoltageInitResultSummary(summary.getResultUuid(),
+            VoltageInitStatus.valueOf(summary.getStatus()), summary.getWriteTimeStamp(), summary.getModificationsGroupUuid(),
+            Boolean.TRUE.equals(summary.getReactiveSlacksOverThreshold()), summary.getReactiveSlacksThreshold(),
+            summary.getIndicatorsCount(), summary.getMaxAbsReactiveSlack()));
     }
 
     @Transactional(readOnly = true)
@@ -111,38 +363,300 @@ public class VoltageInitResultService extends AbstractComputationResultService<V
         return resultRepository.findByResultUuid(resultUuid);
     }
 
+    /**
+     * Insert a result, with the creation of its modifications group queued in the same transaction for
+     * {@link ModificationsGroupCreationService}
+     */
     @Transactional
-    public void insert(UUID resultUuid, OpenReacResult result, Map<String, Bus> networkBuses, UUID modificationsGroupUuid,
-                       String status, boolean isReactiveSlacksOverThreshold, Double reactiveSlacksThreshold) {
+    public void insert(UUID resultUuid, VoltageInitRunContext runContext, OpenReacResult result, VoltageProfile voltageProfile, ModificationsGroupCreationEntity modificationsGroupCreation,
+                       String status, boolean isReactiveSlacksOverThreshold) {
         Objects.requireNonNull(resultUuid);
+        resultCacheService.invalidate(resultUuid);
+        UUID modificationsGroupUuid = modificationsGroupCreation != null ? modificationsGroupCreation.getModificationsGroupUuid() : null;
         if (result != null) {
-            resultRepository.save(toVoltageInitResultEntity(resultUuid, result, networkBuses, modificationsGroupUuid, isReactiveSlacksOverThreshold, reactiveSlacksThreshold));
+            saveResultEntity(toVoltageInitResultEntity(resultUuid, runContext, result, voltageProfile, modificationsGroupUuid, isReactiveSlacksOverThreshold));
+            saveVoltageLevelAggregates(toVoltageLevelAggregates(resultUuid, result, voltageProfile));
+        }
+        if (modificationsGroupCreation != null) {
+            modificationsGroupCreationRepository.save(modificationsGroupCreation);
         }
         globalStatusRepository.save(toStatusEntity(resultUuid, status));
     }
 
+    /**
+     * @return a page of the bus voltages of the result matching the filter, the filtering, sorting and paging being
+     * done by the database unless the result is stored as a blob
+     */
+    @Transactional(readOnly = true)
+    public Page<BusVoltage> findBusVoltages(UUID resultUuid, ResultRowsFilter filter, Pageable pageable) {
+        Objects.requireNonNull(resultUuid);
+        checkSortProperties(pageable, BUS_VOLTAGE_COMPARATORS.keySet());
+        byte[] blob = resultRepository.findBusVoltagesBlob(resultUuid).stream().filter(Objects::nonNull).findFirst().orElse(null);
+        if (blob != null) {
+            List<BusVoltage> busVoltages = ResultBlobCodec.decodeBusVoltages(blob).stream()
+                .map(bv -> new BusVoltage(bv.getVoltageLevelId(), bv.getBusId(), bv.getV(), bv.getAngle()))
+                .toList();
+            return toPage(busVoltages, bv -> matches(filter, bv.getVoltageLevelId(), bv.getBusId(), bv.getV(), bv.getAngle()),
+                BUS_VOLTAGE_COMPARATORS, pageable);
+        }
+        return busVoltageRowRepository.findAll(ResultRowSpecifications.of(resultUuid, filter, "v", "angle"), pageable)
+            .map(bv -> new BusVoltage(bv.getVoltageLevelId(), bv.getBusId(), bv.getV(), bv.getAngle()));
+    }
+
+    /**
+     * @return a page of the reactive slacks of the result matching the filter, the filtering, sorting and paging being
+     * done by the database unless the result is stored as a blob
+     */
+    @Transactional(readOnly = true)
+    public Page<ReactiveSlack> findReactiveSlacks(UUID resultUuid, ResultRowsFilter filter, Pageable pageable) {
+        Objects.requireNonNull(resultUuid);
+        checkSortProperties(pageable, REACTIVE_SLACK_COMPARATORS.keySet());
+        byte[] blob = resultRepository.findReactiveSlacksBlob(resultUuid).stream().filter(Objects::nonNull).findFirst().orElse(null);
+        if (blob != null) {
+            List<ReactiveSlack> reactiveSlacks = ResultBlobCodec.decodeReactiveSlacks(blob).stream()
+                .map(rs -> new ReactiveSlack(rs.getVoltageLevelId(), rs.getBusId(), rs.getSlack()))
+                .toList();
+            return toPage(reactiveSlacks, rs -> matches(filter, rs.getVoltageLevelId(), rs.getBusId(), rs.getSlack(), Double.NaN),
+                REACTIVE_SLACK_COMPARATORS, pageable);
+        }
+        return reactiveSlackRowRepository.findAll(ResultRowSpecifications.of(resultUuid, filter, "slack", null), pageable)
+            .map(rs -> new ReactiveSlack(rs.getVoltageLevelId(), rs.getBusId(), rs.getSlack()));
+    }
+
+    /**
+     * @return a page of the voltage level aggregates of the result
+     */
+    @Transactional(readOnly = true)
+    public Page<VoltageLevelAggregate> findVoltageLevelAggregates(UUID resultUuid, Pageable pageable) {
+        Objects.requireNonNull(resultUuid);
+        checkSortProperties(pageable, VOLTAGE_LEVEL_AGGREGATE_SORT_PROPERTIES);
+        return voltageLevelAggregateRepository.findByResultUuid(resultUuid, pageable)
+            .map(a -> new VoltageLevelAggregate(a.getVoltageLevelId(), a.getNominalV(), a.getBusCount(), a.getMinV(), a.getMaxV(),
+                a.getMeanV(), a.getReactiveSlackSum(), a.getMaxAbsReactiveSlack()));
+    }
+
+    /**
+     * @return the bus voltages of the result in the given voltage levels, only the matching rows are loaded
+     */
+    @Transactional(readOnly = true)
+    public List<BusVoltage> findBusVoltages(UUID resultUuid, Collection<String> voltageLevelIds) {
+        Objects.requireNonNull(resultUuid);
+        byte[] blob = resultRepository.findBusVoltagesBlob(resultUuid).stream().filter(Objects::nonNull).findFirst().orElse(null);
+        if (blob != null) {
+            Set<String> voltageLevelIdsSet = new HashSet<>(voltageLevelIds);
+            return ResultBlobCodec.decodeBusVoltages(blob).stream()
+                .filter(bv -> voltageLevelIdsSet.contains(bv.getVoltageLevelId()))
+                .map(bv -> new BusVoltage(bv.getVoltageLevelId(), bv.getBusId(), bv.getV(), bv.getAngle()))
+                .toList();
+        }
+        return inChunks(voltageLevelIds, chunk -> busVoltageRowRepository.findByResultUuidAndVoltageLevelIdIn(resultUuid, chunk)).stream()
+            .map(bv -> new BusVoltage(bv.getVoltageLevelId(), bv.getBusId(), bv.getV(), bv.getAngle()))
+            .toList();
+    }
+
+    /**
+     * @return the reactive slacks of the result in the given voltage levels, only the matching rows are loaded
+     */
+    @Transactional(readOnly = true)
+    public List<ReactiveSlack> findReactiveSlacks(UUID resultUuid, Collection<String> voltageLevelIds) {
+        Objects.requireNonNull(resultUuid);
+        byte[] blob = resultRepository.findReactiveSlacksBlob(resultUuid).stream().filter(Objects::nonNull).findFirst().orElse(null);
+        if (blob != null) {
+            Set<String> voltageLevelIdsSet = new HashSet<>(voltageLevelIds);
+            return ResultBlobCodec.decodeReactiveSlacks(blob).stream()
+                .filter(rs -> voltageLevelIdsSet.contains(rs.getVoltageLevelId()))
+                .map(rs -> new ReactiveSlack(rs.getVoltageLevelId(), rs.getBusId(), rs.getSlack()))
+                .toList();
+        }
+        return inChunks(voltageLevelIds, chunk -> reactiveSlackRowRepository.findByResultUuidAndVoltageLevelIdIn(resultUuid, chunk)).stream()
+            .map(rs -> new ReactiveSlack(rs.getVoltageLevelId(), rs.getBusId(), rs.getSlack()))
+            .toList();
+    }
+
+    /**
+     * @return at most count reactive slacks of the result, by decreasing absolute value, optionally restricted to the
+     * slacks over the threshold of the result and to voltage levels
+     */
+    @Transactional(readOnly = true)
+    public List<ReactiveSlack> findTopReactiveSlacks(UUID resultUuid, int count, boolean overThresholdOnly, Collection<String> voltageLevelIds) {
+        Objects.requireNonNull(resultUuid);
+        if (count <= 0) {
+            return List.of();
+        }
+        // same strict comparison as the reactive slacks over threshold check of the computation
+        double minAbsSlack = overThresholdOnly ? resultRepository.findReactiveSlacksThreshold(resultUuid).orElse(0.) : -1.;
+        Comparator<ReactiveSlack> byDecreasingAbsSlack = Comparator.comparingDouble((ReactiveSlack rs) -> Math.abs(rs.getSlack())).reversed();
+        byte[] blob = resultRepository.findReactiveSlacksBlob(resultUuid).stream().filter(Objects::nonNull).findFirst().orElse(null);
+        if (blob != null) {
+            Set<String> voltageLevelIdsSet = voltageLevelIds != null ? new HashSet<>(voltageLevelIds) : null;
+            return ResultBlobCodec.decodeReactiveSlacks(blob).stream()
+                .filter(rs -> Math.abs(rs.getSlack()) > minAbsSlack && (voltageLevelIdsSet == null || voltageLevelIdsSet.contains(rs.getVoltageLevelId())))
+                .map(rs -> new ReactiveSlack(rs.getVoltageLevelId(), rs.getBusId(), rs.getSlack()))
+                .sorted(byDecreasingAbsSlack)
+                .limit(count)
+                .toList();
+        }
+        Pageable top = PageRequest.of(0, count);
+        if (voltageLevelIds == null) {
+            return reactiveSlackRowRepository.findTopByAbsSlack(resultUuid, minAbsSlack, top).stream()
+                .map(rs -> new ReactiveSlack(rs.getVoltageLevelId(), rs.getBusId(), rs.getSlack()))
+                .toList();
+        }
+        // the top of each chunk holds the top of the whole
+        return inChunks(voltageLevelIds, chunk -> reactiveSlackRowRepository.findTopByAbsSlack(resultUuid, chunk, minAbsSlack, top)).stream()
+            .map(rs -> new ReactiveSlack(rs.getVoltageLevelId(), rs.getBusId(), rs.getSlack()))
+            .sorted(byDecreasingAbsSlack)
+            .limit(count)
+            .toList();
+    }
+
+    /**
+     * Large voltage level lists are split to stay within the bind parameters limit of the database
+     */
+    private static <T> List<T> inChunks(Collection<String> voltageLevelIds, Function<List<String>, List<T>> query) {
+        List<String> distinctIds = voltageLevelIds.stream().distinct().toList();
+        List<T> rows = new ArrayList<>();
+        for (int i = 0; i < distinctIds.size(); i += ResultRowSpecifications.VOLTAGE_LEVEL_IDS_CHUNK_SIZE) {
+            rows.addAll(query.apply(distinctIds.subList(i, Math.min(i + ResultRowSpecifications.VOLTAGE_LEVEL_IDS_CHUNK_SIZE, distinctIds.size()))));
+        }
+        return rows;
+    }
+
+    /**
+     * Only the columns of the rows are sortable, an unknown property being rejected before reaching the database
+     */
+    private static void checkSortProperties(Pageable pageable, Set<String> sortProperties) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!sortProperties.contains(order.getProperty())) {
+                throw new VoltageInitException(INVALID_SORT_PROPERTY, "Unknown sort property '" + order.getProperty() + "', expected one of " + new TreeSet<>(sortProperties));
+            }
+        }
+    }
+
+    /**
+     * In memory equivalent of {@link ResultRowSpecifications}, for the results stored as blobs
+     */
+    private static boolean matches(ResultRowsFilter filter, String voltageLevelId, String busId, double value, double angle) {
+        return (filter.getVoltageLevelIds() == null || filter.getVoltageLevelIds().contains(voltageLevelId))
+            && (filter.getVoltageLevelId() == null || voltageLevelId != null && voltageLevelId.toUpperCase().contains(filter.getVoltageLevelId().toUpperCase()))
+            && (filter.getBusId() == null || busId != null && busId.toUpperCase().contains(filter.getBusId().toUpperCase()))
+            && (filter.getMinValue() == null || value >= filter.getMinValue())
+            && (filter.getMaxValue() == null || value <= filter.getMaxValue())
+            && (Double.isNaN(angle) || filter.getMinAngle() == null || angle >= filter.getMinAngle())
+            && (Double.isNaN(angle) || filter.getMaxAngle() == null || angle <= filter.getMaxAngle());
+    }
+
+    private static <T> Page<T> toPage(List<T> rows, Predicate<T> filter, Map<String, Comparator<T>> comparators, Pageable pageable) {
+        Comparator<T> comparator = null;
+        for (Sort.Order order : pageable.getSort()) {
+            Comparator<T> orderComparator = comparators.get(order.getProperty());
+            if (orderComparator != null) {
+                orderComparator = order.isDescending() ? orderComparator.reversed() : orderComparator;
+                comparator = comparator == null ? orderComparator : comparator.thenComparing(orderComparator);
+            }
+        }
+        List<T> filteredRows = rows.stream().filter(filter).collect(Collectors.toCollection(ArrayList::new));
+        if (comparator != null) {
+            filteredRows.sort(comparator);
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(filteredRows, pageable, filteredRows.size());
+        }
+        int fromIndex = (int) Math.min(pageable.getOffset(), filteredRows.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), filteredRows.size());
+        return new PageImpl<>(filteredRows.subList(fromIndex, toIndex), pageable, filteredRows.size());
+    }
+
+    /**
+     * @return the most recent OK result computed from the same inputs and still holding its modifications group
+     */
+    @Transactional(readOnly = true)
+    public Optional<VoltageInitResultEntity> findReusableResult(String fingerprint) {
+        Objects.requireNonNull(fingerprint);
+        return resultRepository.findByFingerprintAndStatus(fingerprint, VoltageInitStatus.OK.name(), PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    /**
+     * @return the bus voltages of an OK result, empty when the result is not found or not OK
+     */
+    @Transactional(readOnly = true)
+    public List<BusVoltageEmbeddable> findBusVoltages(UUID resultUuid) {
+        Objects.requireNonNull(resultUuid);
+        if (findStatus(resultUuid) != VoltageInitStatus.OK) {
+            return List.of();
+        }
+        return resultRepository.findByResultUuid(resultUuid)
+            .map(result -> List.copyOf(result.readBusVoltages()))
+            .orElse(List.of());
+    }
+
+    /**
+     * @return the bus voltages of the most recent OK result computed on the network variant, empty when there is none
+     */
+    @Transactional(readOnly = true)
+    public List<BusVoltageEmbeddable> findLastBusVoltages(UUID networkUuid, String variantId) {
+        Objects.requireNonNull(networkUuid);
+        return resultRepository.findByNetworkAndStatus(networkUuid, variantId, VoltageInitStatus.OK.name(), PageRequest.of(0, 1)).stream()
+            .findFirst()
+            .map(result -> List.copyOf(result.readBusVoltages()))
+            .orElse(List.of());
+    }
+
+    /**
+     * Copy a result under a new uuid, with its own modifications group. The reused result is read again in the
+     * transaction of the copy.
+     *
+     * @return false when the reused result has been deleted, or no longer holds its modifications group, since it was
+     * found reusable: nothing is inserted
+     */
+    @Transactional
+    public boolean insertReusedResult(UUID reusedResultUuid, UUID resultUuid, UUID modificationsGroupUuid) {
+        Objects.requireNonNull(resultUuid);
+        Optional<VoltageInitResultEntity> reusedResultEntity = resultRepository.findByResultUuid(reusedResultUuid);
+        if (reusedResultEntity.isEmpty() || reusedResultEntity.get().getModificationsGroupUuid() == null) {
+            return false;
+        }
+        VoltageInitResultEntity reusedResult = reusedResultEntity.get();
+        List<ReactiveSlackEmbeddable> reactiveSlacks = reusedResult.readReactiveSlacks().stream()
+            .map(rs -> new ReactiveSlackEmbeddable(rs.getVoltageLevelId(), rs.getBusId(), rs.getSlack()))
+            .collect(Collectors.toList());
+        List<BusVoltageEmbeddable> busVoltages = reusedResult.readBusVoltages().stream()
+            .map(bv -> new BusVoltageEmbeddable(bv.getVoltageLevelId(), bv.getBusId(), bv.getV(), bv.getAngle()))
+            .collect(Collectors.toList());
+        saveResultEntity(new VoltageInitResultEntity(resultUuid, Instant.now(), new HashMap<>(reusedResult.getIndicators()),
+            reactiveSlacks, busVoltages, modificationsGroupUuid,
+            reusedResult.isReactiveSlacksOverThreshold(), reusedResult.getReactiveSlacksThreshold(), null, reusedResult.getFingerprint(),
+            reusedResult.getNetworkUuid(), reusedResult.getVariantId(), false, null, null, null, null, reusedResult.isVoltageLevelLimitsOutOfNominalVRange()));
+        saveVoltageLevelAggregates(voltageLevelAggregateRepository.findByResultUuid(reusedResult.getResultUuid()).stream()
+            .map(a -> new VoltageLevelAggregateEntity(resultUuid, a.getVoltageLevelId(), a.getNominalV(), a.getBusCount(),
+                a.getMinV(), a.getMaxV(), a.getMeanV(), a.getReactiveSlackSum(), a.getMaxAbsReactiveSlack()))
+            .toList());
+        globalStatusRepository.save(toStatusEntity(resultUuid, VoltageInitStatus.OK.name()));
+        return true;
+    }
+
     @Transactional
     public void insertErrorResult(UUID resultUuid, Map<String, String> errorIndicators) {
         Objects.requireNonNull(resultUuid);
-        resultRepository.save(new VoltageInitResultEntity(resultUuid, Instant.now(), errorIndicators, List.of(), List.of(), null, false, null, null));
+        resultCacheService.invalidate(resultUuid);
+        resultRepository.save(new VoltageInitResultEntity(resultUuid, Instant.now(), errorIndicators, List.of(), List.of(), null, false, null, null, null, null, null, false, null, null, errorIndicators.size(), null, false));
     }
 
     @Override
     @Transactional
     public void saveDebugFileLocation(UUID resultUuid, String debugFilePath) {
-        resultRepository.findById(resultUuid).ifPresentOrElse(
-                (var resultEntity) -> resultRepository.updateDebugFileLocation(resultUuid, debugFilePath),
-                () -> resultRepository.save(new VoltageInitResultEntity(resultUuid, null, null, null, null, null,
-                        false, null, debugFilePath))
-        );
+        if (resultRepository.existsById(resultUuid)) {
+            resultRepository.updateDebugFileLocation(resultUuid, debugFilePath);
+        } else {
+            resultRepository.save(new VoltageInitResultEntity(resultUuid, null, null, null, null, null,
+                    false, null, debugFilePath, null, null, null, false, null, null, null, null, false));
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public String findDebugFileLocation(UUID resultUuid) {
         Objects.requireNonNull(resultUuid);
-        return resultRepository.findById(resultUuid)
-                .map(VoltageInitResultEntity::getDebugFileLocation)
-                .orElse(null);
+        return resultRepository.findDebugFileLocation(resultUuid).orElse(null);
     }
 }
@@ -7,11 +7,17 @@
 package org.gridsuite.voltageinit.server.service;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.gridsuite.computation.dto.ReportInfos;
 import org.gridsuite.computation.service.AbstractComputationRunContext;
+import org.gridsuite.voltageinit.server.dto.parameters.VoltageInitParametersInfos;
+import org.gridsuite.voltageinit.server.entities.BusVoltageEmbeddable;
+import org.gridsuite.voltageinit.server.service.parameters.VoltageInitParametersService;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -32,6 +38,47 @@ public class VoltageInitRunContext extends AbstractComputationRunContext<Void> {
 
     private final String nodeName;
 
+    /**
+     * Parameters resolved once when the run starts, every stage of the run reads them from here
+     */
+    @Setter
+    private VoltageInitParametersInfos parameters;
+
+    /**
+     * Fingerprint of the computation inputs, stored with the result when the result reuse is enabled
+     */
+    @Setter
+    private String fingerprint;
+
+    /**
+     * Start the computation from the voltage profile of a previous result
+     */
+    @Setter
+    private boolean warmStart;
+
+    /**
+     * Result whose voltage profile is used for the warm start, the last result on the same network variant when absent
+     */
+    @Setter
+    private UUID warmStartResultUuid;
+
+    /**
+     * Whether a previous voltage profile has actually been injected in the network before the computation
+     */
+    @Setter
+    private boolean warmStartUsed;
+
+    /**
+     * Voltages of the network buses replaced by the warm start, restored once the computation is done
+     */
+    private final List<BusVoltageEmbeddable> warmStartReplacedBusVoltages = new ArrayList<>();
+
+    /**
+     * Whether the computation report has voltage levels with limits out of their nominal voltage range
+     */
+    @Setter
+    private boolean voltageLevelLimitsOutOfNominalVRange;
+
     public VoltageInitRunContext(UUID networkUuid, String variantId, String receiver, UUID reportUuid, String reporterId,
                                  String reportType, String userId, UUID parametersUuid, Map<String, Double> voltageLevelsIdsRestricted, Boolean debug,
                                  String rootNetworkName, String nodeName) {
@@ -47,4 +94,12 @@ public class VoltageInitRunContext extends AbstractComputationRunContext<Void> {
     public VoltageInitRunContext(UUID networkUuid, String variantId, String receiver, UUID reportUuid, String reporterId, String reportType, String userId, UUID parametersUuid, Boolean debug, String rootNetworkName, String nodeName) {
         this(networkUuid, variantId, receiver, reportUuid, reporterId, reportType, userId, parametersUuid, new HashMap<>(), debug, rootNetworkName, nodeName);
     }
+
+    public double getReactiveSlacksThreshold() {
+        return parameters != null ? parameters.getReactiveSlacksThreshold() : VoltageInitParametersService.DEFAULT_REACTIVE_SLACKS_THRESHOLD;
+    }
+
+    public boolean isUpdateBusVoltage() {
+        return parameters == null || parameters.isUpdateBusVoltage();
+    }
 }
@@ -16,12 +16,20 @@ import org.gridsuite.computation.service.UuidGeneratorService;
 import org.gridsuite.computation.utils.FilterUtils;
 import org.gridsuite.voltageinit.server.dto.BusVoltage;
 import org.gridsuite.voltageinit.server.dto.ReactiveSlack;
+import org.gridsuite.voltageinit.server.dto.ResultRowsFilter;
 import org.gridsuite.voltageinit.server.dto.VoltageInitResult;
+import org.gridsuite.voltageinit.server.dto.VoltageInitResultSummary;
 import org.gridsuite.voltageinit.server.dto.VoltageInitStatus;
+import org.gridsuite.voltageinit.server.dto.VoltageLevelAggregate;
 import org.gridsuite.voltageinit.server.entities.VoltageInitResultEntity;
 import org.gridsuite.voltageinit.server.service.parameters.FilterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +37,10 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import static org.gridsuite.voltageinit.server.service.VoltageInitWorkerService.HEADER_REACTIVE_SLACKS_OVER_THRESHOLD;
+import static org.gridsuite.voltageinit.server.service.VoltageInitWorkerService.HEADER_REACTIVE_SLACKS_THRESHOLD_VALUE;
+import static org.gridsuite.voltageinit.server.service.VoltageInitWorkerService.HEADER_VOLTAGE_LEVEL_LIMITS_OUT_OF_NOMINAL_VOLTAGE_RANGE;
+
 /**
  * @author Etienne Homer <etienne.homer at rte-france.com>
  */
@@ -36,11 +48,21 @@ import java.util.stream.Collectors;
 @Service
 public class VoltageInitService extends AbstractComputationService<VoltageInitRunContext, VoltageInitResultService, VoltageInitStatus> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(VoltageInitService.class);
+
     @Autowired
     NetworkModificationService networkModificationService;
 
     private final FilterService filterService;
 
+    private final ResultFingerprintService resultFingerprintService;
+
+    private final ResultCacheService resultCacheService;
+
+    private final ModificationsGroupCreationService modificationsGroupCreationService;
+
+    private final boolean resultReuseEnabled;
+
     public VoltageInitService(NotificationService notificationService,
                               NetworkModificationService networkModificationService,
                               UuidGeneratorService uuidGeneratorService,
@@ -48,95 +70,221 @@ public class VoltageInitService extends AbstractComputationService<VoltageInitRu
                               @Autowired(required = false)
                               ComputationS3Service computationS3Service,
                               FilterService filterService,
-                              ObjectMapper objectMapper) {
+                              ResultFingerprintService resultFingerprintService,
+                              ResultCacheService resultCacheService,
+                              ModificationsGroupCreationService modificationsGroupCreationService,
+                              ObjectMapper objectMapper,
+                              @Value("${voltage-init.result-reuse.enabled:false}") boolean resultReuseEnabled) {
         super(notificationService, resultService, computationS3Service, objectMapper, uuidGeneratorService, null);
         this.networkModificationService = Objects.requireNonNull(networkModificationService);
         this.filterService = Objects.requireNonNull(filterService);
+        this.resultFingerprintService = Objects.requireNonNull(resultFingerprintService);
+        this.resultCacheService = Objects.requireNonNull(resultCacheService);
+        this.modificationsGroupCreationService = Objects.requireNonNull(modificationsGroupCreationService);
+        this.resultReuseEnabled = resultReuseEnabled;
     }
 
+    /**
+     * Not transactional: the fingerprint exports the parameters filters from the filter server before the reusable
+     * result lookup and the result save, each done in its own transaction
+     */
     @Override
-    @Transactional
     public UUID runAndSaveResult(VoltageInitRunContext runContext) {
         Objects.requireNonNull(runContext);
         var resultUuid = uuidGeneratorService.generate();
 
+        if (resultReuseEnabled && !Boolean.TRUE.equals(runContext.getDebug()) && !runContext.isWarmStart()) {
+            runContext.setFingerprint(resultFingerprintService.computeFingerprint(runContext));
+            Optional<VoltageInitResultEntity> reusableResult = resultService.findReusableResult(runContext.getFingerprint());
+            if (reusableResult.isPresent() && reuseResult(reusableResult.get(), resultUuid, runContext)) {
+                return resultUuid;
+            }
+        }
+
         // update status to running status
         setStatus(List.of(resultUuid), VoltageInitStatus.RUNNING);
         notificationService.sendRunMessage(new VoltageInitResultContext(resultUuid, runContext).toMessage(objectMapper));
         return resultUuid;
     }
 
+    /**
+     * An identical computation has already been done: its result is copied with a duplicate of its modifications group
+     * and the result notification is sent without running OpenReac again.
+     * The group is duplicated before the copy transaction, the duplicate is discarded when the reused result has been
+     * deleted or reset meanwhile.
+     *
+     * @return false when the result could not be reused, the computation being run instead
+     */
+    private boolean reuseResult(VoltageInitResultEntity reusedResult, UUID resultUuid, VoltageInitRunContext runContext) {
+        UUID modificationsGroupUuid;
+        try {
+            modificationsGroupUuid = modificationsGroupCreationService.duplicate(reusedResult.getModificationsGroupUuid());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Modifications group of result {} not duplicated, the computation is run instead of reusing it", reusedResult.getResultUuid(), e);
+            return false;
+        }
+        if (!resultService.insertReusedResult(reusedResult.getResultUuid(), resultUuid, modificationsGroupUuid)) {
+            LOGGER.info("Result {} deleted or reset before being reused, the computation is run instead", reusedResult.getResultUuid());
+            modificationsGroupCreationService.discard(modificationsGroupUuid);
+            return false;
+        }
+        Map<String, Object> additionalHeaders = new HashMap<>();
+        additionalHeaders.put(HEADER_REACTIVE_SLACKS_OVER_THRESHOLD, reusedResult.isReactiveSlacksOverThreshold());
+        additionalHeaders.put(HEADER_REACTIVE_SLACKS_THRESHOLD_VALUE, reusedResult.getReactiveSlacksThreshold());
+        additionalHeaders.put(HEADER_VOLTAGE_LEVEL_LIMITS_OUT_OF_NOMINAL_VOLTAGE_RANGE, reusedResult.isVoltageLevelLimitsOutOfNominalVRange());
+        notificationService.sendResultMessage(resultUuid, runContext.getReceiver(), runContext.getUserId(), additionalHeaders);
+        return true;
+    }
+
     @Override
     public List<String> getProviders() {
         return List.of();
     }
 
+    /**
+     * @return the result, served from the results cache when the result was already read. A cached result is
+     * filtered in memory, otherwise the global filters are evaluated by the database and only the rows in the
+     * matching voltage levels are loaded.
+     */
     @Transactional(readOnly = true)
     public VoltageInitResult getResult(UUID resultUuid, String stringGlobalFilters, UUID networkUuid, String variantId) {
+        List<String> voltageLevelIds = getGlobalFilterVoltageLevelIds(stringGlobalFilters, networkUuid, variantId);
+        // read before the result, so that a change committed during the read prevents caching it
+        long cacheGeneration = resultCacheService.getGeneration();
+        VoltageInitResult cachedResult = resultCacheService.get(resultUuid);
+        if (cachedResult != null) {
+            return voltageLevelIds == null ? cachedResult : filterVoltageLevels(cachedResult, voltageLevelIds);
+        }
         Optional<VoltageInitResultEntity> result = resultService.find(resultUuid);
+        if (result.isEmpty()) {
+            return null;
+        }
+        VoltageInitResultEntity resultEntity = result.get();
+        if (voltageLevelIds == null) {
+            return resultCacheService.put(fromEntity(resultEntity,
+                resultEntity.readReactiveSlacks().stream().map(slack -> new ReactiveSlack(slack.getVoltageLevelId(), slack.getBusId(), slack.getSlack())).toList(),
+                resultEntity.readBusVoltages().stream().map(bv -> new BusVoltage(bv.getVoltageLevelId(), bv.getBusId(), bv.getV(), bv.getAngle())).toList()),
+                cacheGeneration);
+        }
+        return fromEntity(resultEntity, resultService.findReactiveSlacks(resultUuid, voltageLevelIds), resultService.findBusVoltages(resultUuid, voltageLevelIds));
+    }
 
-        List<String> voltageLevelIds;
-        // get global filters
-        GlobalFilter globalFilter = FilterUtils.fromStringGlobalFiltersToDTO(stringGlobalFilters, objectMapper);
-        if (globalFilter != null) {
-            voltageLevelIds = filterService.getResourceFilters(networkUuid, variantId, globalFilter);
-        } else {
-            voltageLevelIds = null;
+    private static VoltageInitResult filterVoltageLevels(VoltageInitResult result, List<String> voltageLevelIds) {
+        Set<String> voltageLevelIdsSet = new HashSet<>(voltageLevelIds);
+        return new VoltageInitResult(result.getResultUuid(), result.getWriteTimeStamp(), result.getIndicators(),
+            result.getReactiveSlacks().stream().filter(rs -> voltageLevelIdsSet.contains(rs.getVoltageLevelId())).toList(),
+            result.getBusVoltages().stream().filter(bv -> voltageLevelIdsSet.contains(bv.getVoltageLevelId())).toList(),
+            result.getModificationsGroupUuid(), result.isReactiveSlacksOverThreshold(), result.getReactiveSlacksThreshold(), result.isWarmStart());
+    }
+
+    /**
+     * @return a page of the bus voltages of the result, null when the result does not exist
+     */
+    @Transactional(readOnly = true)
+    public Page<BusVoltage> getBusVoltages(UUID resultUuid, ResultRowsFilter filter, String stringGlobalFilters, UUID networkUuid, String variantId, Pageable pageable) {
+        if (!resultService.exists(resultUuid)) {
+            return null;
         }
+        filter.setVoltageLevelIds(getGlobalFilterVoltageLevelIds(stringGlobalFilters, networkUuid, variantId));
+        return resultService.findBusVoltages(resultUuid, filter, pageable);
+    }
 
-        return result.map(entity -> VoltageInitService.fromEntity(entity, voltageLevelIds)).orElse(null);
+    /**
+     * @return a page of the reactive slacks of the result, null when the result does not exist
+     */
+    @Transactional(readOnly = true)
+    public Page<ReactiveSlack> getReactiveSlacks(UUID resultUuid, ResultRowsFilter filter, String stringGlobalFilters, UUID networkUuid, String variantId, Pageable pageable) {
+        if (!resultService.exists(resultUuid)) {
+            return null;
+        }
+        filter.setVoltageLevelIds(getGlobalFilterVoltageLevelIds(stringGlobalFilters, networkUuid, variantId));
+        return resultService.findReactiveSlacks(resultUuid, filter, pageable);
     }
 
-    private static VoltageInitResult fromEntity(VoltageInitResultEntity resultEntity, List<String> voltageLevelIds) {
+    /**
+     * @return the largest reactive slacks of the result in absolute value, restricted to the given voltage levels and
+     * to the global filters when set, null when the result does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<ReactiveSlack> getTopReactiveSlacks(UUID resultUuid, int count, boolean overThresholdOnly, List<String> voltageLevelIds,
+                                                    String stringGlobalFilters, UUID networkUuid, String variantId) {
+        if (!resultService.exists(resultUuid)) {
+            return null;
+        }
+        List<String> restrictedVoltageLevelIds = voltageLevelIds;
+        List<String> globalFilterVoltageLevelIds = getGlobalFilterVoltageLevelIds(stringGlobalFilters, networkUuid, variantId);
+        if (globalFilterVoltageLevelIds != null) {
+            restrictedVoltageLevelIds = voltageLevelIds != null
+                ? globalFilterVoltageLevelIds.stream().filter(new HashSet<>(voltageLevelIds)::contains).toList()
+                : globalFilterVoltageLevelIds;
+        }
+        return resultService.findTopReactiveSlacks(resultUuid, count, overThresholdOnly, restrictedVoltageLevelIds);
+    }
+
+    /**
+     * @return a page of the voltage level aggregates of the result, null when the result does not exist
+     */
+    @Transactional(readOnly = true)
+    public Page<VoltageLevelAggregate> getVoltageLevelAggregates(UUID resultUuid, Pageable pageable) {
+        if (!resultService.exists(resultUuid)) {
+            return null;
+        }
+        return resultService.findVoltageLevelAggregates(resultUuid, pageable);
+    }
+
+    /**
+     * @return the voltage levels matching the global filters, null without global filters
+     */
+    private List<String> getGlobalFilterVoltageLevelIds(String stringGlobalFilters, UUID networkUuid, String variantId) {
+        GlobalFilter globalFilter = FilterUtils.fromStringGlobalFiltersToDTO(stringGlobalFilters, objectMapper);
+        return globalFilter != null ? filterService.getResourceFilters(networkUuid, variantId, globalFilter) : null;
+    }
+
+    public void invalidateFiltersCache(UUID networkUuid, String variantId) {
+        filterService.invalidateFiltersCache(networkUuid, variantId);
+    }
+
+    private static VoltageInitResult fromEntity(VoltageInitResultEntity resultEntity, List<ReactiveSlack> reactiveSlacks, List<BusVoltage> busVoltages) {
         LinkedHashMap<String, String> sortedIndicators = resultEntity.getIndicators().entrySet()
             .stream()
             .sorted(Map.Entry.comparingByKey(String.CASE_INSENSITIVE_ORDER))
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (collisionValue1, collisionValue2) -> collisionValue1, LinkedHashMap::new));
-        List<ReactiveSlack> reactiveSlacks = resultEntity.getReactiveSlacks().stream()
-            .filter(slack -> voltageLevelIds == null || voltageLevelIds.contains(slack.getVoltageLevelId()))
-            .map(slack -> new ReactiveSlack(slack.getVoltageLevelId(), slack.getBusId(), slack.getSlack()))
-            .toList();
-        List<BusVoltage> busVoltages = resultEntity.getBusVoltages().stream()
-            .filter(bv -> voltageLevelIds == null || voltageLevelIds.contains(bv.getVoltageLevelId()))
-            .map(bv -> new BusVoltage(bv.getVoltageLevelId(), bv.getBusId(), bv.getV(), bv.getAngle()))
-            .toList();
         return new VoltageInitResult(resultEntity.getResultUuid(), resultEntity.getWriteTimeStamp(), sortedIndicators,
             reactiveSlacks, busVoltages, resultEntity.getModificationsGroupUuid(), resultEntity.isReactiveSlacksOverThreshold(),
-            resultEntity.getReactiveSlacksThreshold());
+            resultEntity.getReactiveSlacksThreshold(), resultEntity.isWarmStart());
     }
 
     @Override
     @Transactional
-    public void deleteResult(UUID resultUuid) {
-        Optional<VoltageInitResultEntity> result = resultService.find(resultUuid);
-        result.ifPresent(r -> {
-            if (r.getModificationsGroupUuid() != null) {
-                CompletableFuture.runAsync(() -> networkModificationService.deleteModificationsGroup(r.getModificationsGroupUuid()));
-            }
-        });
-        super.deleteResult(resultUuid);
-    }
-
-    @Override
-    @Transactional
-    public void deleteResults() {
-        resultService.findAll().forEach(r -> {
-            if (r.getModificationsGroupUuid() != null) {
-                networkModificationService.deleteModificationsGroup(r.getModificationsGroupUuid());
-            }
-        });
-        super.deleteResults();
+    public void deleteResults(List<UUID> resultUuids) {
+        if (resultUuids == null || resultUuids.isEmpty()) {
+            deleteResults();
+        } else {
+            resultService.delete(resultUuids);
+        }
     }
 
-    @Transactional(readOnly = true)
-    public UUID getModificationsGroupUuid(UUID resultUuid) {
-        Optional<VoltageInitResultEntity> result = resultService.find(resultUuid);
-        return result.map(VoltageInitResultEntity::getModificationsGroupUuid).orElse(null);
+    /**
+     * @return the modifications group of the result, completed once created in the network modification server if its
+     * creation is still pending, with null when the result has no group
+     */
+    public CompletableFuture<UUID> getModificationsGroupUuid(UUID resultUuid) {
+        UUID modificationsGroupUuid = resultService.findModificationsGroupUuid(resultUuid).orElse(null);
+        if (modificationsGroupUuid == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return modificationsGroupCreationService.complete(modificationsGroupUuid).thenApply(completed -> modificationsGroupUuid);
     }
 
     @Transactional
     public void resetModificationsGroupUuid(UUID resultUuid) {
-        Optional<VoltageInitResultEntity> result = resultService.find(resultUuid);
-        result.ifPresent(entity -> entity.setModificationsGroupUuid(null));
+        resultService.resetModificationsGroupUuid(resultUuid);
+    }
+
+    /**
+     * @return the summary of the result, null when the result does not exist
+     */
+    public VoltageInitResultSummary getResultSummary(UUID resultUuid) {
+        return resultService.findSummary(resultUuid).orElse(null);
     }
 }
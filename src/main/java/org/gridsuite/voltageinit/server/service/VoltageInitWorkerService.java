@@ -22,7 +22,8 @@ import org.gridsuite.computation.s3.ComputationS3Service;
 import org.gridsuite.computation.service.*;
 import org.gridsuite.voltageinit.server.PropertyServerNameProvider;
 import org.gridsuite.voltageinit.server.dto.VoltageInitStatus;
-import org.gridsuite.voltageinit.server.dto.parameters.VoltageInitParametersInfos;
+import org.gridsuite.voltageinit.server.entities.BusVoltageEmbeddable;
+import org.gridsuite.voltageinit.server.entities.ModificationsGroupCreationEntity;
 import org.gridsuite.voltageinit.server.service.parameters.VoltageInitParametersService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,8 +36,6 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static org.gridsuite.voltageinit.server.util.ReportUtil.checkReportWithKey;
 
@@ -60,6 +59,12 @@ public class VoltageInitWorkerService extends AbstractWorkerService<OpenReacResu
 
     private final VoltageInitParametersService voltageInitParametersService;
 
+    private final RunAdmissionService runAdmissionService;
+
+    private final ModificationsGroupCreationService modificationsGroupCreationService;
+
+    private final VoltageInitObserver voltageInitObserver;
+
     public VoltageInitWorkerService(NetworkStoreService networkStoreService,
                                     NotificationService notificationService,
                                     ExecutionService executionService,
@@ -71,10 +76,15 @@ public class VoltageInitWorkerService extends AbstractWorkerService<OpenReacResu
                                     ReportService reportService,
                                     VoltageInitObserver voltageInitObserver,
                                     ObjectMapper objectMapper,
-                                    PropertyServerNameProvider serverNameProvider) {
+                                    PropertyServerNameProvider serverNameProvider,
+                                    RunAdmissionService runAdmissionService,
+                                    ModificationsGroupCreationService modificationsGroupCreationService) {
         super(networkStoreService, notificationService, reportService, resultService, computationS3Service, executionService, voltageInitObserver, objectMapper, serverNameProvider);
         this.networkModificationService = Objects.requireNonNull(networkModificationService);
         this.voltageInitParametersService = Objects.requireNonNull(voltageInitParametersService);
+        this.runAdmissionService = Objects.requireNonNull(runAdmissionService);
+        this.modificationsGroupCreationService = Objects.requireNonNull(modificationsGroupCreationService);
+        this.voltageInitObserver = voltageInitObserver;
     }
 
     @Override
@@ -93,12 +103,61 @@ public class VoltageInitWorkerService extends AbstractWorkerService<OpenReacResu
 
     @Override
     protected CompletableFuture<OpenReacResult> getCompletableFuture(VoltageInitRunContext context, String provider, UUID resultUuid) {
+        context.setParameters(voltageInitParametersService.resolveParametersSnapshot(context.getParametersUuid()));
         OpenReacParameters parameters = voltageInitParametersService.buildOpenReacParameters(context, context.getNetwork());
         if (context.getDebugDir() != null) {
             parameters.setDebugDir(context.getDebugDir().toString());
         }
+        if (context.isWarmStart()) {
+            context.setWarmStartUsed(applyWarmStart(context));
+        }
         OpenReacConfig config = OpenReacConfig.load();
-        return OpenReacRunner.runAsync(context.getNetwork(), context.getNetwork().getVariantManager().getWorkingVariantId(), parameters, config, executionService.getComputationManager(), context.getReportNode(), null);
+        long startTime = System.nanoTime();
+        CompletableFuture<OpenReacResult> future = OpenReacRunner.runAsync(context.getNetwork(), context.getNetwork().getVariantManager().getWorkingVariantId(), parameters, config, executionService.getComputationManager(), context.getReportNode(), null);
+        // the future itself is returned so that a cancellation reaches the OpenReac run
+        future.thenAccept(result -> voltageInitObserver.recordOpenReacRun(result, System.nanoTime() - startTime, context.isWarmStartUsed()));
+        return future;
+    }
+
+    /**
+     * Inject the bus voltages of a previous result as initial state of the working variant, OpenReac starts its
+     * optimization from the voltages exported with the network. The network is never flushed by the worker, so
+     * the stored variant is left untouched, and the replaced voltages are restored by {@link #restoreWarmStart}
+     * before the result is compared with the network.
+     *
+     * @return true if at least one bus voltage has been injected
+     */
+    private boolean applyWarmStart(VoltageInitRunContext context) {
+        List<BusVoltageEmbeddable> busVoltages = context.getWarmStartResultUuid() != null ?
+            resultService.findBusVoltages(context.getWarmStartResultUuid()) :
+            resultService.findLastBusVoltages(context.getNetworkUuid(), context.getVariantId());
+        int injectedBusVoltages = 0;
+        for (BusVoltageEmbeddable busVoltage : busVoltages) {
+            Bus bus = context.getNetwork().getBusView().getBus(busVoltage.getBusId());
+            if (bus != null && !Double.isNaN(busVoltage.getV()) && !Double.isNaN(busVoltage.getAngle())) {
+                context.getWarmStartReplacedBusVoltages().add(new BusVoltageEmbeddable(bus.getVoltageLevel().getId(), bus.getId(), bus.getV(), bus.getAngle()));
+                bus.setV(busVoltage.getV());
+                bus.setAngle(busVoltage.getAngle());
+                injectedBusVoltages++;
+            }
+        }
+        LOGGER.info("Warm start : {} bus voltages injected", injectedBusVoltages);
+        return injectedBusVoltages > 0;
+    }
+
+    /**
+     * Put back the bus voltages of the network replaced by the warm start, so that the delta mode compares the
+     * modifications with the stored network and not with the injected voltages
+     */
+    private static void restoreWarmStart(VoltageInitRunContext context, Network network) {
+        for (BusVoltageEmbeddable busVoltage : context.getWarmStartReplacedBusVoltages()) {
+            Bus bus = network.getBusView().getBus(busVoltage.getBusId());
+            if (bus != null) {
+                bus.setV(busVoltage.getV());
+                bus.setAngle(busVoltage.getAngle());
+            }
+        }
+        context.getWarmStartReplacedBusVoltages().clear();
     }
 
     @Override
@@ -110,40 +169,38 @@ public class VoltageInitWorkerService extends AbstractWorkerService<OpenReacResu
         super.postRun(resultContext.getRunContext(), rootReporter, null);
     }
 
-    private UUID createModificationGroup(OpenReacResult openReacResult, Network network, boolean updateBusVoltage, String rootNetworkName, String nodeName, Set<String> constantQGeneratorsIds) {
+    private ModificationsGroupCreationEntity prepareModificationGroup(OpenReacResult openReacResult, Network network, VoltageProfile voltageProfile, boolean updateBusVoltage, String rootNetworkName, String nodeName, Set<String> constantQGeneratorsIds, ReportNode reportNode) {
         return openReacResult.getStatus() == OpenReacStatus.OK ?
-                networkModificationService.createVoltageInitModificationGroup(network, openReacResult, updateBusVoltage, rootNetworkName, nodeName, constantQGeneratorsIds) :
+                networkModificationService.prepareVoltageInitModificationGroup(network, voltageProfile, openReacResult, updateBusVoltage, rootNetworkName, nodeName, constantQGeneratorsIds, reportNode, modificationsGroupCreationService.isOnDemand()) :
                 null;
     }
 
     @Bean
-    public Consumer<Message<String>> consumeRun1() {
-        return super.consumeRun();
-    }
-
-    @Bean
-    public Consumer<Message<String>> consumeRun2() {
-        return super.consumeRun();
+    @Override
+    public Consumer<Message<String>> consumeRun() {
+        return runAdmissionService.withAdmission(super.consumeRun());
     }
 
     @Bean
     @Override
     public Consumer<Message<String>> consumeCancel() {
-        return super.consumeCancel();
+        return runAdmissionService.withCancellation(super.consumeCancel());
     }
 
     @Override
     protected void saveResult(Network network, AbstractResultContext<VoltageInitRunContext> resultContext, OpenReacResult result) {
         VoltageInitRunContext context = resultContext.getRunContext();
-        UUID parametersUuid = context.getParametersUuid();
-        VoltageInitParametersInfos param = parametersUuid != null ? voltageInitParametersService.getParameters(parametersUuid) : null;
-        boolean updateBusVoltage = param == null || param.isUpdateBusVoltage();
-        UUID modificationsGroupUuid = createModificationGroup(result, network, updateBusVoltage, context.getRootNetworkName(), context.getNodeName(), context.getConstantQGeneratorsIds());
-        Map<String, Bus> networkBuses = network.getBusView().getBusStream().collect(Collectors.toMap(Bus::getId, Function.identity()));
+        restoreWarmStart(context, network);
+        // bus view indexed and voltage profile converted once for both the modifications and the result
+        VoltageProfile voltageProfile = VoltageProfile.of(result.getVoltageProfile(), BusIndex.of(network));
+        // the group is created in the network modification server once the result is committed
+        ModificationsGroupCreationEntity modificationsGroupCreation = prepareModificationGroup(result, network, voltageProfile, context.isUpdateBusVoltage(), context.getRootNetworkName(), context.getNodeName(), context.getConstantQGeneratorsIds(), context.getReportNode());
         // check if at least one reactive slack over the threshold value
-        double reactiveSlacksThreshold = voltageInitParametersService.getReactiveSlacksThreshold(context.getParametersUuid());
+        double reactiveSlacksThreshold = context.getReactiveSlacksThreshold();
         boolean resultCheckReactiveSlacks = checkReactiveSlacksOverThreshold(result, reactiveSlacksThreshold);
-        resultService.insert(resultContext.getResultUuid(), result, networkBuses, modificationsGroupUuid, result.getStatus().name(), resultCheckReactiveSlacks, reactiveSlacksThreshold);
+        // stored with the result to be notified again when the result is reused
+        context.setVoltageLevelLimitsOutOfNominalVRange(checkReportWithKey("optimizer.openreac.nbVoltageLevelsWithLimitsOutOfNominalVRange", context.getReportNode()));
+        resultService.insert(resultContext.getResultUuid(), context, result, voltageProfile, modificationsGroupCreation, result.getStatus().name(), resultCheckReactiveSlacks);
         LOGGER.info("Status : {}", result.getStatus());
         LOGGER.info("Reactive slacks : {}", result.getReactiveSlacks());
         LOGGER.info("Indicators : {}", result.getIndicators());
@@ -151,7 +208,7 @@ public class VoltageInitWorkerService extends AbstractWorkerService<OpenReacResu
 
     @Override
     protected void postRun(VoltageInitRunContext runContext, AtomicReference<ReportNode> rootReportNode, OpenReacResult result) {
-        double reactiveSlacksThreshold = voltageInitParametersService.getReactiveSlacksThreshold(runContext.getParametersUuid());
+        double reactiveSlacksThreshold = runContext.getReactiveSlacksThreshold();
         boolean resultCheckReactiveSlacks = checkReactiveSlacksOverThreshold(result, reactiveSlacksThreshold);
         if (resultCheckReactiveSlacks) {
             runContext.getReportNode().newReportNode()
@@ -166,7 +223,7 @@ public class VoltageInitWorkerService extends AbstractWorkerService<OpenReacResu
     @Override
     protected void sendResultMessage(AbstractResultContext<VoltageInitRunContext> resultContext, OpenReacResult result) {
         VoltageInitRunContext context = resultContext.getRunContext();
-        double reactiveSlacksThreshold = voltageInitParametersService.getReactiveSlacksThreshold(context.getParametersUuid());
+        double reactiveSlacksThreshold = context.getReactiveSlacksThreshold();
         boolean resultCheckReactiveSlacks = checkReactiveSlacksOverThreshold(result, reactiveSlacksThreshold);
         boolean voltageLevelsWithLimitsOutOfNominalVRange = checkReportWithKey("optimizer.openreac.nbVoltageLevelsWithLimitsOutOfNominalVRange", resultContext.getRunContext().getReportNode());
         Map<String, Object> additionalHeaders = new HashMap<>();
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import org.jgrapht.alg.util.Pair;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Columnar copy of the voltage profile computed by OpenReac, converted once from the boxed result map and shared
+ * by all the post-processing stages. Only the buses of the bus view are kept, with their voltage in kV and their
+ * angle in degrees.
+ *
+ * @author agent <agent at local>
+ */
+public final class VoltageProfile {
+
+    public static final int NO_ROW = -1;
+
+    private final BusIndex busIndex;
+
+    private final int[] rowBySlot;
+
+    private final int[] slotByRow;
+
+    private final String[] busIds;
+
+    private final String[] voltageLevelIds;
+
+    private final double[] v;
+
+    private final double[] angle;
+
+    private final double[] nominalV;
+
+    private VoltageProfile(BusIndex busIndex, int size) {
+        this.busIndex = busIndex;
+        this.rowBySlot = new int[busIndex.size()];
+        Arrays.fill(rowBySlot, NO_ROW);
+        this.slotByRow = new int[size];
+        this.busIds = new String[size];
+        this.voltageLevelIds = new String[size];
+        this.v = new double[size];
+        this.angle = new double[size];
+        this.nominalV = new double[size];
+    }
+
+    public static VoltageProfile of(Map<String, Pair<Double, Double>> voltageProfile, BusIndex busIndex) {
+        int[] slots = new int[voltageProfile.size()];
+        double[] magnitudes = new double[slots.length];
+        double[] angles = new double[slots.length];
+        int size = 0;
+        for (Map.Entry<String, Pair<Double, Double>> entry : voltageProfile.entrySet()) {
+            int slot = busIndex.getSlot(entry.getKey());
+            if (slot != BusIndex.NO_SLOT) {
+                slots[size] = slot;
+                magnitudes[size] = entry.getValue().getFirst();
+                angles[size] = entry.getValue().getSecond();
+                size++;
+            }
+        }
+        VoltageProfile profile = new VoltageProfile(busIndex, size);
+        for (int row = 0; row < size; row++) {
+            int slot = slots[row];
+            profile.rowBySlot[slot] = row;
+            profile.slotByRow[row] = slot;
+            profile.busIds[row] = busIndex.getBusId(slot);
+            profile.voltageLevelIds[row] = busIndex.getVoltageLevelId(slot);
+            profile.nominalV[row] = busIndex.getNominalV(slot);
+            profile.v[row] = magnitudes[row] * profile.nominalV[row];
+            profile.angle[row] = Math.toDegrees(angles[row]);
+        }
+        return profile;
+    }
+
+    public int size() {
+        return busIds.length;
+    }
+
+    /**
+     * @return the row of the bus, {@link #NO_ROW} when the bus has no computed voltage
+     */
+    public int getRow(String busId) {
+        int slot = busIndex.getSlot(busId);
+        return slot != BusIndex.NO_SLOT ? rowBySlot[slot] : NO_ROW;
+    }
+
+    public String getBusId(int row) {
+        return busIds[row];
+    }
+
+    public String getVoltageLevelId(int row) {
+        return voltageLevelIds[row];
+    }
+
+    /**
+     * @return the voltage in kV
+     */
+    public double getV(int row) {
+        return v[row];
+    }
+
+    /**
+     * @return the angle in degrees
+     */
+    public double getAngle(int row) {
+        return angle[row];
+    }
+
+    public double getNominalV(int row) {
+        return nominalV[row];
+    }
+
+    /**
+     * @return the voltage of the bus in the network, in kV
+     */
+    public double getNetworkV(int row) {
+        return busIndex.getV(slotByRow[row]);
+    }
+
+    /**
+     * @return the angle of the bus in the network, in degrees
+     */
+    public double getNetworkAngle(int row) {
+        return busIndex.getAngle(slotByRow[row]);
+    }
+}
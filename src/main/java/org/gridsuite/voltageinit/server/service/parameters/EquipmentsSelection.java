@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service.parameters;
+
+import org.gridsuite.voltageinit.server.util.EquipmentsSelectionType;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Dense index of the ids of one type of network equipments, built once per run.
+ * A selection is evaluated as a {@link BitSet} over the equipments ordinals, so its complement
+ * is computed in linear time instead of scanning the selected ids list for each equipment.
+ *
+ * @author agent <agent at local>
+ */
+public final class EquipmentsSelection {
+
+    private final String[] ids;
+
+    private final Map<String, Integer> ordinals;
+
+    private EquipmentsSelection(List<String> equipmentsIds) {
+        this.ids = equipmentsIds.toArray(String[]::new);
+        this.ordinals = HashMap.newHashMap(ids.length);
+        for (int ordinal = 0; ordinal < ids.length; ordinal++) {
+            ordinals.putIfAbsent(ids[ordinal], ordinal);
+        }
+    }
+
+    public static EquipmentsSelection of(Stream<String> equipmentsIds) {
+        return new EquipmentsSelection(equipmentsIds.toList());
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * @return the ordinals of the given ids, the ids unknown to the index are ignored
+     */
+    public BitSet select(Collection<String> selectedIds) {
+        BitSet selection = new BitSet(ids.length);
+        for (String id : selectedIds) {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal != null) {
+                selection.set(ordinal);
+            }
+        }
+        return selection;
+    }
+
+    /**
+     * @return the indexed ids not in the given ids, in the index order
+     */
+    public List<String> complementOf(Collection<String> selectedIds) {
+        BitSet complement = select(selectedIds);
+        complement.flip(0, ids.length);
+        return toIds(complement);
+    }
+
+    public List<String> toIds(BitSet selection) {
+        List<String> selectedIds = new ArrayList<>(selection.cardinality());
+        for (int ordinal = selection.nextSetBit(0); ordinal >= 0 && ordinal < ids.length; ordinal = selection.nextSetBit(ordinal + 1)) {
+            selectedIds.add(ids[ordinal]);
+        }
+        return selectedIds;
+    }
+
+    /**
+     * Resolve the equipments ids for a selection type: the selected ids are kept as is when the selection type is
+     * {@code keepSelectedType}, otherwise all the equipments except the selected ones are returned.
+     * The index is only built in the latter case.
+     */
+    public static List<String> resolve(EquipmentsSelectionType selectionType, EquipmentsSelectionType keepSelectedType,
+                                       List<String> selectedIds, Stream<String> equipmentsIds) {
+        return selectionType == keepSelectedType ? selectedIds : of(equipmentsIds).complementOf(selectedIds);
+    }
+}
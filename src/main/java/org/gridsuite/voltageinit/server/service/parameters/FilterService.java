@@ -6,8 +6,15 @@
  */
 package org.gridsuite.voltageinit.server.service.parameters;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.network.store.client.NetworkStoreService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.Nullable;
 import lombok.NonNull;
 import org.gridsuite.computation.dto.GlobalFilter;
 import org.gridsuite.computation.dto.ResourceFilterDTO;
@@ -15,8 +22,11 @@ import org.gridsuite.computation.service.AbstractFilterService;
 import org.gridsuite.filter.AbstractFilter;
 import org.gridsuite.filter.utils.EquipmentType;
 import org.gridsuite.voltageinit.server.dto.parameters.FilterEquipments;
+import org.gridsuite.voltageinit.server.dto.parameters.IdentifiableAttributes;
 import org.gridsuite.voltageinit.server.error.VoltageInitBusinessErrorCode;
 import org.gridsuite.voltageinit.server.error.VoltageInitException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.core.ParameterizedTypeReference;
@@ -24,8 +34,10 @@ import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -47,13 +59,77 @@ public class FilterService extends AbstractFilterService {
 
     public static final String FILTERS_NOT_FOUND = "Filters not found";
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(FilterService.class);
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Filters evaluations are only valid for a given network variant: entries expire after the configured delay
+     * and can be explicitly invalidated when the variant is modified.
+     * The caches are disabled by default, since a study node rebuilt keeps its variant id and nothing invalidates
+     * the entries of a modified variant but the filters cache endpoint.
+     */
+    private final boolean filtersCacheEnabled;
+
+    private final Cache<FilterExportKey, FilterEquipments> filtersExportCache;
+
+    private final Cache<ResourceFiltersKey, List<String>> resourceFiltersCache;
+
+    private record FilterExportKey(UUID filterUuid, UUID networkUuid, String variantId) { }
+
+    private record ResourceFiltersKey(UUID networkUuid, String variantId, String globalFilter) { }
+
     public FilterService(RestTemplateBuilder restTemplateBuilder,
                          NetworkStoreService networkStoreService,
-                         @Value("${gridsuite.services.filter-server.base-uri:http://filter-server/}") String filterServerBaseUri) {
+                         @Value("${gridsuite.services.filter-server.base-uri:http://filter-server/}") String filterServerBaseUri,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${voltage-init.filters-cache.enabled:false}") boolean filtersCacheEnabled,
+                         @Value("${voltage-init.filters-cache.maximum-size:10000}") long filtersCacheMaximumSize,
+                         @Value("${voltage-init.filters-cache.expire-after-write:PT10M}") Duration filtersCacheExpireAfterWrite) {
         super(restTemplateBuilder, networkStoreService, filterServerBaseUri);
+        this.objectMapper = objectMapper;
+        this.filtersCacheEnabled = filtersCacheEnabled;
+        this.filtersExportCache = GuavaCacheMetrics.monitor(meterRegistry, CacheBuilder.newBuilder()
+            .maximumSize(filtersCacheMaximumSize)
+            .expireAfterWrite(filtersCacheExpireAfterWrite)
+            .recordStats()
+            .<FilterExportKey, FilterEquipments>build(), "voltageinit.filters.export");
+        this.resourceFiltersCache = GuavaCacheMetrics.monitor(meterRegistry, CacheBuilder.newBuilder()
+            .maximumSize(filtersCacheMaximumSize)
+            .expireAfterWrite(filtersCacheExpireAfterWrite)
+            .recordStats()
+            .<ResourceFiltersKey, List<String>>build(), "voltageinit.filters.resource");
     }
 
+    /**
+     * Export the given filters, only the filters not already evaluated on this network variant are requested to the filter server
+     */
     public List<FilterEquipments> exportFilters(List<UUID> filtersUuids, UUID networkUuid, String variantId) {
+        if (!filtersCacheEnabled) {
+            return Optional.ofNullable(requestFiltersExport(filtersUuids.stream().distinct().toList(), networkUuid, variantId)).orElse(List.of());
+        }
+        List<FilterEquipments> exportedFilters = new ArrayList<>();
+        List<UUID> filtersToExport = new ArrayList<>();
+        filtersUuids.stream().distinct().forEach(filterUuid -> {
+            FilterEquipments cachedFilter = filtersExportCache.getIfPresent(new FilterExportKey(filterUuid, networkUuid, variantId));
+            if (cachedFilter != null) {
+                exportedFilters.add(cachedFilter);
+            } else {
+                filtersToExport.add(filterUuid);
+            }
+        });
+        if (!filtersToExport.isEmpty()) {
+            List<FilterEquipments> requestedFilters = Optional.ofNullable(requestFiltersExport(filtersToExport, networkUuid, variantId)).orElse(List.of());
+            requestedFilters.stream()
+                .filter(filterEquipments -> filterEquipments.getFilterId() != null)
+                .forEach(filterEquipments -> filtersExportCache.put(new FilterExportKey(filterEquipments.getFilterId(), networkUuid, variantId), filterEquipments));
+            exportedFilters.addAll(requestedFilters);
+        }
+        return exportedFilters;
+    }
+
+    private List<FilterEquipments> requestFiltersExport(List<UUID> filtersUuids, UUID networkUuid, String variantId) {
         var ids = "&ids=" + filtersUuids.stream().map(UUID::toString).collect(Collectors.joining(","));
         var variant = variantId != null ? "&variantId=" + variantId : "";
         String path = UriComponentsBuilder.fromPath(DELIMITER + FILTER_SERVER_API_VERSION + "/filters/export?networkUuid=" + networkUuid + variant + ids)
@@ -63,6 +139,22 @@ public class FilterService extends AbstractFilterService {
                 .getBody();
     }
 
+    /**
+     * Export all the given filters in a single request and split the exported equipment ids by filter
+     */
+    public Map<UUID, List<String>> exportEquipmentIdsByFilter(Collection<UUID> filtersUuids, UUID networkUuid, String variantId) {
+        List<UUID> distinctFiltersUuids = filtersUuids.stream().distinct().toList();
+        if (distinctFiltersUuids.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, List<String>> equipmentIdsByFilter = new HashMap<>();
+        Optional.ofNullable(exportFilters(distinctFiltersUuids, networkUuid, variantId)).orElse(List.of()).stream()
+            .filter(filterEquipments -> filterEquipments.getFilterId() != null && filterEquipments.getIdentifiableAttributes() != null)
+            .forEach(filterEquipments -> equipmentIdsByFilter.computeIfAbsent(filterEquipments.getFilterId(), ignored -> new ArrayList<>())
+                .addAll(filterEquipments.getIdentifiableAttributes().stream().map(IdentifiableAttributes::getId).toList()));
+        return equipmentIdsByFilter;
+    }
+
     public Set<UUID> getFiltersExistence(Collection<UUID> filtersUuids) {
         List<UUID> filterIds = filtersUuids.stream()
             .distinct()
@@ -100,8 +192,36 @@ public class FilterService extends AbstractFilterService {
         return "Some filters do not exist: " + " [" + String.join(", ", missingFilterNames) + "]";
     }
 
-    @SuppressWarnings("unchecked")
     public List<String> getResourceFilters(@NonNull UUID networkUuid, @NonNull String variantId, @NonNull GlobalFilter globalFilter) {
+        if (!filtersCacheEnabled) {
+            return requestResourceFilters(networkUuid, variantId, globalFilter);
+        }
+        ResourceFiltersKey key;
+        try {
+            key = new ResourceFiltersKey(networkUuid, variantId, objectMapper.writeValueAsString(globalFilter));
+        } catch (JsonProcessingException e) {
+            // not expected, the global filter comes from a json string: evaluate it without cache
+            return requestResourceFilters(networkUuid, variantId, globalFilter);
+        }
+        List<String> voltageLevelIds = resourceFiltersCache.getIfPresent(key);
+        if (voltageLevelIds == null) {
+            voltageLevelIds = List.copyOf(requestResourceFilters(networkUuid, variantId, globalFilter));
+            resourceFiltersCache.put(key, voltageLevelIds);
+        }
+        return voltageLevelIds;
+    }
+
+    /**
+     * Invalidate the cached filters evaluations of a network, restricted to a variant when given
+     */
+    public void invalidateFiltersCache(@NonNull UUID networkUuid, @Nullable String variantId) {
+        filtersExportCache.asMap().keySet().removeIf(key -> key.networkUuid().equals(networkUuid) && (variantId == null || variantId.equals(key.variantId())));
+        resourceFiltersCache.asMap().keySet().removeIf(key -> key.networkUuid().equals(networkUuid) && (variantId == null || variantId.equals(key.variantId())));
+        LOGGER.info("Filters cache invalidated for network {} and variant {}", networkUuid, Objects.toString(variantId, "<all>"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> requestResourceFilters(UUID networkUuid, String variantId, GlobalFilter globalFilter) {
         Optional<ResourceFilterDTO> res = super.getResourceFilter(networkUuid, variantId, globalFilter, List.of(EquipmentType.VOLTAGE_LEVEL), null);
         if (res.isEmpty() || !(res.get().value() instanceof List<?> list)) {
             return List.of();
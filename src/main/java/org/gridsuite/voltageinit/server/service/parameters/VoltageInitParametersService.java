@@ -19,30 +19,37 @@ import com.powsybl.openreac.parameters.input.VoltageLimitOverride;
 import com.powsybl.openreac.parameters.input.VoltageLimitOverride.VoltageLimitType;
 import com.powsybl.openreac.parameters.input.algo.ReactiveSlackBusesMode;
 import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.gridsuite.voltageinit.server.dto.parameters.FilterEquipments;
-import org.gridsuite.voltageinit.server.dto.parameters.IdentifiableAttributes;
 import org.gridsuite.voltageinit.server.dto.parameters.VoltageInitParametersInfos;
 import org.gridsuite.voltageinit.server.dto.parameters.VoltageLimitInfos;
-import org.gridsuite.voltageinit.server.entities.parameters.FilterEquipmentsEmbeddable;
 import org.gridsuite.voltageinit.server.entities.parameters.VoltageInitParametersEntity;
-import org.gridsuite.voltageinit.server.entities.parameters.VoltageLimitEntity;
+import org.gridsuite.voltageinit.server.error.VoltageInitException;
 import org.gridsuite.voltageinit.server.repository.parameters.VoltageInitParametersRepository;
 import org.gridsuite.voltageinit.server.service.VoltageInitRunContext;
 import org.gridsuite.voltageinit.server.util.EquipmentsSelectionType;
-import org.gridsuite.voltageinit.server.util.VoltageLimitParameterType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
+import static org.gridsuite.voltageinit.server.error.VoltageInitBusinessErrorCode.FILTERS_RESOLUTION_FAILED;
+
 /**
  * @author Ayoub LABIDI <ayoub.labidi at rte-france.com>
  */
@@ -56,11 +63,24 @@ public class VoltageInitParametersService {
 
     private final VoltageInitParametersRepository voltageInitParametersRepository;
 
+    private final ExecutorService filtersResolutionExecutor;
+
+    private final long filtersResolutionTimeout;
+
     public static final double DEFAULT_REACTIVE_SLACKS_THRESHOLD = 500.;
 
-    public VoltageInitParametersService(VoltageInitParametersRepository voltageInitParametersRepository, FilterService filterService) {
+    public VoltageInitParametersService(VoltageInitParametersRepository voltageInitParametersRepository, FilterService filterService,
+                                        @Value("${voltage-init.filters-resolution.pool-size:4}") int filtersResolutionPoolSize,
+                                        @Value("${voltage-init.filters-resolution.timeout-seconds:60}") long filtersResolutionTimeout) {
         this.voltageInitParametersRepository = voltageInitParametersRepository;
         this.filterService = filterService;
+        this.filtersResolutionExecutor = Executors.newFixedThreadPool(filtersResolutionPoolSize);
+        this.filtersResolutionTimeout = filtersResolutionTimeout;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        filtersResolutionExecutor.shutdownNow();
     }
 
     public UUID createParameters(VoltageInitParametersInfos parametersInfos) {
@@ -90,13 +110,15 @@ public class VoltageInitParametersService {
             .orElse(null);
     }
 
-    @Transactional
-    public double getReactiveSlacksThreshold(UUID parametersUuid) {
+    /**
+     * Resolve once the parameters used by a whole run, without any call to the filter server
+     */
+    @Transactional(readOnly = true)
+    public VoltageInitParametersInfos resolveParametersSnapshot(UUID parametersUuid) {
         return Optional.ofNullable(parametersUuid)
             .flatMap(voltageInitParametersRepository::findById)
             .map(VoltageInitParametersEntity::toVoltageInitParametersInfos)
-            .map(VoltageInitParametersInfos::getReactiveSlacksThreshold)
-            .orElse(DEFAULT_REACTIVE_SLACKS_THRESHOLD);
+            .orElse(null);
     }
 
     @Transactional
@@ -118,26 +140,117 @@ public class VoltageInitParametersService {
         return VoltageInitParametersInfos.builder().reactiveSlacksThreshold(DEFAULT_REACTIVE_SLACKS_THRESHOLD).build();
     }
 
-    private Map<String, VoltageLimitEntity> resolveVoltageLevelLimits(VoltageInitRunContext context, List<VoltageLimitEntity> voltageLimits) {
-        Map<String, VoltageLimitEntity> voltageLevelLimits = new HashMap<>();
+    private static List<UUID> toFiltersUuids(List<FilterEquipments> filters) {
+        return filters == null ? List.of() : filters.stream().map(FilterEquipments::getFilterId).filter(Objects::nonNull).toList();
+    }
+
+    private static List<String> toEquipmentIdsList(Map<UUID, List<String>> equipmentIdsByFilter, List<UUID> filtersUuids) {
+        return filtersUuids.stream()
+            .map(filterUuid -> equipmentIdsByFilter.getOrDefault(filterUuid, List.of()))
+            .flatMap(List::stream)
+            .distinct()
+            .toList();
+    }
+
+    /**
+     * Resolve every filter referenced by the parameters as one concurrent stage bounded by the configured timeout:
+     * the existence check and a single batched export of all the distinct filters run side by side.
+     * The stage fails as soon as one of the calls fails, in particular when a referenced filter does not exist.
+     */
+    private ResolvedFilters resolveFilters(VoltageInitRunContext context, VoltageInitParametersInfos voltageInitParameters) {
+        Map<UUID, String> filterNamesByUuid = getReferencedFilters(voltageInitParameters);
+        Map<VoltageLimitInfos, List<UUID>> voltageLimitsDefaultFilters = toVoltageLimitsFilters(voltageInitParameters.getVoltageLimitsDefault());
+        Map<VoltageLimitInfos, List<UUID>> voltageLimitsModificationFilters = toVoltageLimitsFilters(voltageInitParameters.getVoltageLimitsModification());
+        List<UUID> generatorsFilters = toFiltersUuids(voltageInitParameters.getVariableQGenerators());
+        List<UUID> transformersFilters = toFiltersUuids(voltageInitParameters.getVariableTwoWindingsTransformers());
+        List<UUID> shuntCompensatorsFilters = toFiltersUuids(voltageInitParameters.getVariableShuntCompensators());
+
+        Set<UUID> filtersUuids = new LinkedHashSet<>();
+        voltageLimitsDefaultFilters.values().forEach(filtersUuids::addAll);
+        voltageLimitsModificationFilters.values().forEach(filtersUuids::addAll);
+        filtersUuids.addAll(generatorsFilters);
+        filtersUuids.addAll(transformersFilters);
+        filtersUuids.addAll(shuntCompensatorsFilters);
+
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        if (!filterNamesByUuid.isEmpty()) {
+            futures.add(CompletableFuture.runAsync(() -> filterService.ensureFiltersExist(filterNamesByUuid), filtersResolutionExecutor));
+        }
+        CompletableFuture<Map<UUID, List<String>>> exportFuture = filtersUuids.isEmpty()
+            ? CompletableFuture.completedFuture(Map.of())
+            : CompletableFuture.supplyAsync(() -> filterService.exportEquipmentIdsByFilter(filtersUuids, context.getNetworkUuid(), context.getVariantId()), filtersResolutionExecutor);
+        futures.add(exportFuture);
+        awaitAll(futures);
+        Map<UUID, List<String>> equipmentIdsByFilter = exportFuture.join();
+
         //each voltage level is associated to a voltage limit setting
         //if a voltage level is resolved by multiple filters, the highest priority setting will be kept
-        voltageLimits.forEach(voltageLimit ->
-            filterService.exportFilters(voltageLimit.getFilters().stream().map(FilterEquipmentsEmbeddable::getFilterId).toList(), context.getNetworkUuid(), context.getVariantId())
-                         .stream()
-                         .map(FilterEquipments::getIdentifiableAttributes)
-                         .flatMap(List::stream)
-                         .map(IdentifiableAttributes::getId)
-                         .forEach(voltageLevelsId -> voltageLevelLimits.put(voltageLevelsId, voltageLimit))
-        );
+        Map<String, VoltageLimitInfos> voltageLevelDefaultLimits = toVoltageLevelLimits(voltageLimitsDefaultFilters, equipmentIdsByFilter);
+        Map<String, VoltageLimitInfos> voltageLevelModificationLimits = toVoltageLevelLimits(voltageLimitsModificationFilters, equipmentIdsByFilter);
+        return new ResolvedFilters(voltageLevelDefaultLimits, voltageLevelModificationLimits,
+            toEquipmentIdsList(equipmentIdsByFilter, generatorsFilters),
+            toEquipmentIdsList(equipmentIdsByFilter, transformersFilters),
+            toEquipmentIdsList(equipmentIdsByFilter, shuntCompensatorsFilters));
+    }
+
+    /**
+     * @return the filters of each voltage limit, by ascending priority
+     */
+    private static Map<VoltageLimitInfos, List<UUID>> toVoltageLimitsFilters(List<VoltageLimitInfos> voltageLimits) {
+        Map<VoltageLimitInfos, List<UUID>> voltageLimitsFilters = new LinkedHashMap<>();
+        if (voltageLimits != null) {
+            voltageLimits.stream()
+                .sorted(Comparator.comparing(VoltageLimitInfos::getPriority, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(voltageLimit -> voltageLimitsFilters.put(voltageLimit, toFiltersUuids(voltageLimit.getFilters())));
+        }
+        return voltageLimitsFilters;
+    }
+
+    private static Map<String, VoltageLimitInfos> toVoltageLevelLimits(Map<VoltageLimitInfos, List<UUID>> voltageLimitsFilters, Map<UUID, List<String>> equipmentIdsByFilter) {
+        Map<String, VoltageLimitInfos> voltageLevelLimits = new HashMap<>();
+        voltageLimitsFilters.forEach((voltageLimit, filtersUuids) -> filtersUuids.stream()
+            .map(filterUuid -> equipmentIdsByFilter.getOrDefault(filterUuid, List.of()))
+            .flatMap(List::stream)
+            .forEach(voltageLevelId -> voltageLevelLimits.put(voltageLevelId, voltageLimit)));
         return voltageLevelLimits;
     }
 
+    private void awaitAll(List<CompletableFuture<?>> futures) {
+        CompletableFuture<Void> stage = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+        // fail fast: do not wait for the other calls once one of them has failed
+        futures.forEach(future -> future.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                stage.completeExceptionally(throwable);
+            }
+        }));
+        try {
+            stage.get(filtersResolutionTimeout, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new VoltageInitException(FILTERS_RESOLUTION_FAILED, "Interrupted while resolving filters", e);
+        } catch (TimeoutException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new VoltageInitException(FILTERS_RESOLUTION_FAILED, "Filters resolution did not complete within " + filtersResolutionTimeout + "s", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            Throwable cause = e.getCause();
+            while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            // the failure of a call, as a missing filter, is rethrown as is
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new VoltageInitException(FILTERS_RESOLUTION_FAILED, "Error while resolving filters", cause);
+        }
+    }
+
     private static void fillSpecificVoltageLimits(List<VoltageLimitOverride> specificVoltageLimits,
                                                   final MutableInt missingVoltageLimitsCounter,
                                                   final MutableInt voltageLimitModificationsCounter,
-                                                  Map<String, VoltageLimitEntity> voltageLevelModificationLimits,
-                                                  Map<String, VoltageLimitEntity> voltageLevelDefaultLimits,
+                                                  Map<String, VoltageLimitInfos> voltageLevelModificationLimits,
+                                                  Map<String, VoltageLimitInfos> voltageLevelDefaultLimits,
                                                   VoltageLevel voltageLevel,
                                                   Map<String, Double> voltageLevelsIdsRestricted) {
         final CounterToIncrement counterToIncrementLow = generateLowVoltageLimit(specificVoltageLimits, voltageLevelModificationLimits, voltageLevelDefaultLimits, voltageLevel, voltageLevelsIdsRestricted);
@@ -153,8 +266,8 @@ public class VoltageInitParametersService {
     }
 
     private static CounterToIncrement generateLowVoltageLimit(List<VoltageLimitOverride> specificVoltageLimits,
-                                                              Map<String, VoltageLimitEntity> voltageLevelModificationLimits,
-                                                              Map<String, VoltageLimitEntity> voltageLevelDefaultLimits,
+                                                              Map<String, VoltageLimitInfos> voltageLevelModificationLimits,
+                                                              Map<String, VoltageLimitInfos> voltageLevelDefaultLimits,
                                                               VoltageLevel voltageLevel,
                                                               Map<String, Double> voltageLevelsIdsRestricted) {
         final String voltageLevelId = voltageLevel.getId();
@@ -191,8 +304,8 @@ public class VoltageInitParametersService {
     }
 
     private static CounterToIncrement generateHighVoltageLimit(List<VoltageLimitOverride> specificVoltageLimits,
-                                                               Map<String, VoltageLimitEntity> voltageLevelModificationLimits,
-                                                               Map<String, VoltageLimitEntity> voltageLevelDefaultLimits,
+                                                               Map<String, VoltageLimitInfos> voltageLevelModificationLimits,
+                                                               Map<String, VoltageLimitInfos> voltageLevelDefaultLimits,
                                                                VoltageLevel voltageLevel) {
         final String voltageLevelId = voltageLevel.getId();
         final double highVoltageLimit = voltageLevel.getHighVoltageLimit();
@@ -225,16 +338,14 @@ public class VoltageInitParametersService {
         final MutableInt missingVoltageLimitsCounter = new MutableInt(0);
         final MutableInt voltageLimitModificationsCounter = new MutableInt(0);
 
-        Optional.ofNullable(context.getParametersUuid()).flatMap(voltageInitParametersRepository::findById).ifPresent(voltageInitParameters -> {
-            ensureReferencedFiltersExist(voltageInitParameters);
-            if (voltageInitParameters.getVoltageLimits() != null) {
-                Map<String, VoltageLimitEntity> voltageLevelDefaultLimits = resolveVoltageLevelLimits(context, voltageInitParameters.getVoltageLimits().stream()
-                    .filter(voltageLimit -> VoltageLimitParameterType.DEFAULT.equals(voltageLimit.getVoltageLimitParameterType()))
-                    .toList());
-
-                Map<String, VoltageLimitEntity> voltageLevelModificationLimits = resolveVoltageLevelLimits(context, voltageInitParameters.getVoltageLimits().stream()
-                    .filter(voltageLimit -> VoltageLimitParameterType.MODIFICATION.equals(voltageLimit.getVoltageLimitParameterType()))
-                    .toList());
+        if (context.getParameters() == null) {
+            context.setParameters(resolveParametersSnapshot(context.getParametersUuid()));
+        }
+        Optional.ofNullable(context.getParameters()).ifPresent(voltageInitParameters -> {
+            ResolvedFilters resolvedFilters = resolveFilters(context, voltageInitParameters);
+            if (voltageInitParameters.getVoltageLimitsDefault() != null || voltageInitParameters.getVoltageLimitsModification() != null) {
+                Map<String, VoltageLimitInfos> voltageLevelDefaultLimits = resolvedFilters.voltageLevelDefaultLimits();
+                Map<String, VoltageLimitInfos> voltageLevelModificationLimits = resolvedFilters.voltageLevelModificationLimits();
 
                 List<VoltageLimitOverride> specificVoltageLimits = new LinkedList<>();
                 network.getVoltageLevelStream()
@@ -248,23 +359,17 @@ public class VoltageInitParametersService {
             }
 
             // compute constant generators according to selection type parameter
-            List<String> selectedGeneratorsIds = toEquipmentIdsList(context.getNetworkUuid(), context.getVariantId(), voltageInitParameters.getVariableQGenerators());
-            List<String> constantQGeneratorsIds = voltageInitParameters.getGeneratorsSelectionType() == EquipmentsSelectionType.ALL_EXCEPT
-                ? selectedGeneratorsIds
-                : network.getGeneratorStream().map(Generator::getId).filter(id -> !selectedGeneratorsIds.contains(id)).toList();
+            List<String> constantQGeneratorsIds = EquipmentsSelection.resolve(voltageInitParameters.getGeneratorsSelectionType(), EquipmentsSelectionType.ALL_EXCEPT,
+                resolvedFilters.selectedGeneratorsIds(), network.getGeneratorStream().map(Generator::getId));
             context.getConstantQGeneratorsIds().addAll(constantQGeneratorsIds);
 
             // compute variable two windings transformers according to selection type parameter
-            List<String> selectedTransformersIds = toEquipmentIdsList(context.getNetworkUuid(), context.getVariantId(), voltageInitParameters.getVariableTwoWindingsTransformers());
-            List<String> variableTransformersIds = voltageInitParameters.getTwoWindingsTransformersSelectionType() == EquipmentsSelectionType.NONE_EXCEPT
-                ? selectedTransformersIds
-                : network.getTwoWindingsTransformerStream().map(TwoWindingsTransformer::getId).filter(id -> !selectedTransformersIds.contains(id)).toList();
+            List<String> variableTransformersIds = EquipmentsSelection.resolve(voltageInitParameters.getTwoWindingsTransformersSelectionType(), EquipmentsSelectionType.NONE_EXCEPT,
+                resolvedFilters.selectedTransformersIds(), network.getTwoWindingsTransformerStream().map(TwoWindingsTransformer::getId));
 
             // compute variable shunt compensators according to selection type parameter
-            List<String> selectedShuntCompensatorsIds = toEquipmentIdsList(context.getNetworkUuid(), context.getVariantId(), voltageInitParameters.getVariableShuntCompensators());
-            List<String> variableShuntCompensatorsIds = voltageInitParameters.getShuntCompensatorsSelectionType() == EquipmentsSelectionType.NONE_EXCEPT
-                ? selectedShuntCompensatorsIds
-                : network.getShuntCompensatorStream().map(ShuntCompensator::getId).filter(id -> !selectedShuntCompensatorsIds.contains(id)).toList();
+            List<String> variableShuntCompensatorsIds = EquipmentsSelection.resolve(voltageInitParameters.getShuntCompensatorsSelectionType(), EquipmentsSelectionType.NONE_EXCEPT,
+                resolvedFilters.selectedShuntCompensatorsIds(), network.getShuntCompensatorStream().map(ShuntCompensator::getId));
 
             parameters
                 .addConstantQGenerators(constantQGeneratorsIds)
@@ -284,19 +389,6 @@ public class VoltageInitParametersService {
         return parameters;
     }
 
-    private List<String> toEquipmentIdsList(UUID networkUuid, String variantId, List<FilterEquipmentsEmbeddable> filters) {
-        if (filters == null || filters.isEmpty()) {
-            return List.of();
-        }
-        return filterService.exportFilters(filters.stream().map(FilterEquipmentsEmbeddable::getFilterId).toList(), networkUuid, variantId)
-                            .stream()
-                            .map(FilterEquipments::getIdentifiableAttributes)
-                            .flatMap(List::stream)
-                            .map(IdentifiableAttributes::getId)
-                            .distinct()
-                            .toList();
-    }
-
     private VoltageInitParametersInfos populateFiltersExistence(VoltageInitParametersInfos parametersInfos) {
         Map<UUID, List<FilterEquipments>> filtersByUuid = new LinkedHashMap<>();
         collectFilterInfos(filtersByUuid, parametersInfos.getVariableQGenerators());
@@ -332,24 +424,33 @@ public class VoltageInitParametersService {
             .forEach(filters -> collectFilterInfos(filtersByUuid, filters));
     }
 
-    private void ensureReferencedFiltersExist(VoltageInitParametersEntity voltageInitParameters) {
+    public static Set<UUID> getReferencedFiltersUuids(VoltageInitParametersInfos voltageInitParameters) {
+        return getReferencedFilters(voltageInitParameters).keySet();
+    }
+
+    private static Map<UUID, String> getReferencedFilters(VoltageInitParametersInfos voltageInitParameters) {
         Map<UUID, String> filterNamesByUuid = new LinkedHashMap<>();
-        addFilterInfosFromVoltageLimits(filterNamesByUuid, voltageInitParameters.getVoltageLimits());
+        addFilterInfosFromVoltageLimits(filterNamesByUuid, voltageInitParameters.getVoltageLimitsDefault());
+        addFilterInfosFromVoltageLimits(filterNamesByUuid, voltageInitParameters.getVoltageLimitsModification());
         addFilterInfos(filterNamesByUuid, voltageInitParameters.getVariableQGenerators());
         addFilterInfos(filterNamesByUuid, voltageInitParameters.getVariableTwoWindingsTransformers());
         addFilterInfos(filterNamesByUuid, voltageInitParameters.getVariableShuntCompensators());
-        if (!filterNamesByUuid.isEmpty()) {
-            filterService.ensureFiltersExist(filterNamesByUuid);
-        }
+        return filterNamesByUuid;
     }
 
-    private static void addFilterInfosFromVoltageLimits(Map<UUID, String> filterNamesByUuid, List<VoltageLimitEntity> voltageLimits) {
+    private static void addFilterInfosFromVoltageLimits(Map<UUID, String> filterNamesByUuid, List<VoltageLimitInfos> voltageLimits) {
+        if (voltageLimits == null) {
+            return;
+        }
         voltageLimits.stream()
-            .map(VoltageLimitEntity::getFilters)
+            .map(VoltageLimitInfos::getFilters)
             .forEach(filters -> addFilterInfos(filterNamesByUuid, filters));
     }
 
-    private static void addFilterInfos(Map<UUID, String> filterNamesByUuid, List<FilterEquipmentsEmbeddable> filters) {
+    private static void addFilterInfos(Map<UUID, String> filterNamesByUuid, List<FilterEquipments> filters) {
+        if (filters == null) {
+            return;
+        }
         filters.stream()
             .filter(Objects::nonNull)
             .filter(filter -> filter.getFilterId() != null)
@@ -422,6 +523,13 @@ public class VoltageInitParametersService {
         }
     }
 
+    private record ResolvedFilters(Map<String, VoltageLimitInfos> voltageLevelDefaultLimits,
+                                   Map<String, VoltageLimitInfos> voltageLevelModificationLimits,
+                                   List<String> selectedGeneratorsIds,
+                                   List<String> selectedTransformersIds,
+                                   List<String> selectedShuntCompensatorsIds) {
+    }
+
     /**
      * We count modifications per substation only once in {@link #filterService}, not twice
      */
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server;
+
+import liquibase.change.Change;
+import liquibase.change.core.AddColumnChange;
+import liquibase.change.core.CreateTableChange;
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.database.Database;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.exception.LiquibaseException;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import liquibase.resource.ResourceAccessor;
+import liquibase.sql.Sql;
+import liquibase.sqlgenerator.SqlGeneratorFactory;
+import liquibase.statement.SqlStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The tests run on H2, the changelog is also checked against the PostgreSQL column types
+ *
+ * @author agent <agent at local>
+ */
+class DatabaseChangelogTest {
+
+    private static final String MASTER_CHANGELOG = "db/changelog/db.changelog-master.yaml";
+
+    /**
+     * @return the SQL of the tables and columns creations of the changelog on PostgreSQL
+     */
+    private static List<String> generatePostgresSql() throws LiquibaseException {
+        Database database = new PostgresDatabase();
+        ResourceAccessor resourceAccessor = new ClassLoaderResourceAccessor();
+        DatabaseChangeLog changeLog = ChangeLogParserFactory.getInstance().getParser(MASTER_CHANGELOG, resourceAccessor)
+            .parse(MASTER_CHANGELOG, new ChangeLogParameters(database), resourceAccessor);
+        List<String> sql = new ArrayList<>();
+        for (ChangeSet changeSet : changeLog.getChangeSets()) {
+            for (Change change : changeSet.getChanges()) {
+                if (change instanceof CreateTableChange || change instanceof AddColumnChange) {
+                    for (SqlStatement statement : change.generateStatements(database)) {
+                        for (Sql generatedSql : SqlGeneratorFactory.getInstance().generateSql(statement, database)) {
+                            sql.add(generatedSql.toSql());
+                        }
+                    }
+                }
+            }
+        }
+        return sql;
+    }
+
+    @Test
+    void binaryColumnsAreByteaOnPostgres() throws LiquibaseException {
+        List<String> sql = generatePostgresSql();
+
+        // bound as bytea by hibernate, a BLOB column would be created as an oid
+        assertThat(sql).noneMatch(statement -> statement.toUpperCase().matches("(?s).*\\bOID\\b.*"));
+        assertThat(sql).filteredOn(statement -> statement.contains("bus_voltages_blob")).singleElement().asString().containsIgnoringCase("BYTEA");
+        assertThat(sql).filteredOn(statement -> statement.contains("reactive_slacks_blob")).singleElement().asString().containsIgnoringCase("BYTEA");
+        assertThat(sql).filteredOn(statement -> statement.startsWith("CREATE TABLE") && statement.contains("modifications_group_creation")).singleElement().asString()
+            .containsIgnoringCase("payload BYTEA");
+    }
+}
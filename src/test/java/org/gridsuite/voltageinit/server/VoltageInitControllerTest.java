@@ -8,6 +8,7 @@ package org.gridsuite.voltageinit.server;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.ampl.converter.AmplExportConfig;
 import com.powsybl.commons.PowsyblException;
@@ -49,6 +50,7 @@ import org.gridsuite.filter.identifierlistfilter.IdentifierListFilter;
 import org.gridsuite.filter.identifierlistfilter.IdentifierListFilterEquipmentAttributes;
 import org.gridsuite.filter.utils.EquipmentType;
 import org.gridsuite.voltageinit.server.dto.VoltageInitResult;
+import org.gridsuite.voltageinit.server.dto.VoltageInitResultSummary;
 import org.gridsuite.voltageinit.server.dto.VoltageInitStatus;
 import org.gridsuite.voltageinit.server.dto.parameters.FilterEquipments;
 import org.gridsuite.voltageinit.server.dto.parameters.VoltageInitParametersInfos;
@@ -96,6 +98,7 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.powsybl.network.store.model.NetworkStoreApi.VERSION;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -108,6 +111,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -271,6 +275,7 @@ class VoltageInitControllerTest {
         networkModificationService.setNetworkModificationServerBaseUri(baseUrl);
         ReflectionTestUtils.setField(filterService, "filterServerBaseUri", baseUrl);
         doNothing().when(filterService).ensureFiltersExist(anyMap());
+        filterService.invalidateFiltersCache(NETWORK_UUID, null);
 
         // network store service mocking
         network = EurostagTutorialExample1Factory.createWithMoreGenerators(new NetworkFactoryImpl());
@@ -424,18 +429,49 @@ class VoltageInitControllerTest {
             assertEquals(INDICATORS, resultDto.getIndicators());
             assertEquals(MODIFICATIONS_GROUP_UUID, resultDto.getModificationsGroupUuid());
 
-            // get modification group uuid
+            // get modification group uuid, answered once the group is created
             result = mockMvc.perform(get(
                     "/" + VERSION + "/results/{resultUuid}/modifications-group-uuid", RESULT_UUID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            result = mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andReturn();
             UUID modificationsGroupUuid = mapper.readValue(result.getResponse().getContentAsString(), UUID.class);
             assertEquals(MODIFICATIONS_GROUP_UUID, modificationsGroupUuid);
 
+            // get the result summary
+            result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/summary", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn();
+            VoltageInitResultSummary summary = mapper.readValue(result.getResponse().getContentAsString(), VoltageInitResultSummary.class);
+            assertEquals(VoltageInitStatus.OK, summary.getStatus());
+            assertEquals(MODIFICATIONS_GROUP_UUID, summary.getModificationsGroupUuid());
+            assertEquals(INDICATORS.size(), summary.getIndicatorsCount());
+            assertEquals(200., summary.getMaxAbsReactiveSlack(), 0.001);
+            mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/summary", OTHER_RESULT_UUID))
+                .andExpect(status().isNotFound());
+
+            // conditional get of the result
+            String eTag = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertNotNull(eTag);
+            mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}", RESULT_UUID).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
             // reset the modifications group uuid
             mockMvc.perform(put("/" + VERSION + "/results/{resultUuid}/modifications-group-uuid", RESULT_UUID)).andExpect(status().isOk());
-            mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/modifications-group-uuid", RESULT_UUID)).andExpect(status().isNotFound());
+            mockMvc.perform(asyncDispatch(mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/modifications-group-uuid", RESULT_UUID)).andReturn()))
+                .andExpect(status().isNotFound());
+
+            // the cached result has been invalidated
+            result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}", RESULT_UUID).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn();
+            assertNotEquals(eTag, result.getResponse().getHeader(HttpHeaders.ETAG));
+            assertNull(mapper.readValue(result.getResponse().getContentAsString(), VoltageInitResult.class).getModificationsGroupUuid());
 
             // should throw not found if result does not exist
             mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}", OTHER_RESULT_UUID))
@@ -488,6 +524,146 @@ class VoltageInitControllerTest {
         }
     }
 
+    @Test
+    void getPagedResultTest() throws Exception {
+        try (MockedStatic<OpenReacRunner> openReacRunnerMockedStatic = Mockito.mockStatic(OpenReacRunner.class)) {
+            openReacRunnerMockedStatic.when(() -> OpenReacRunner.runAsync(eq(network), eq(VARIANT_2_ID), any(OpenReacParameters.class), any(OpenReacConfig.class), any(ComputationManager.class), any(ReportNode.class), isNull(AmplExportConfig.class)))
+                .thenReturn(completableFutureResultsTask);
+
+            mockMvc.perform(post(
+                    "/" + VERSION + "/networks/{networkUuid}/run-and-save?receiver=me&rootNetworkName=rootNetwork1&nodeName=node1&variantId=" + VARIANT_2_ID, NETWORK_UUID)
+                    .header(HEADER_USER_ID, "userId"))
+                .andExpect(status().isOk());
+            assertNotNull(output.receive(TIMEOUT, "voltageinit.result"));
+
+            // bus voltages sorted by descending bus id, one by page
+            MvcResult result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/bus-voltages?page=0&size=1&sort=busId,desc", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn();
+            JsonNode page = mapper.readTree(result.getResponse().getContentAsString());
+            assertEquals(2, page.get("totalElements").asInt());
+            assertEquals(1, page.get("content").size());
+            assertEquals("VLHV1_0", page.get("content").get(0).get("busId").asText());
+
+            // column filters
+            result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/bus-voltages?busId=gen&minV=1000", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn();
+            page = mapper.readTree(result.getResponse().getContentAsString());
+            assertEquals(1, page.get("totalElements").asInt());
+            assertEquals("VLGEN", page.get("content").get(0).get("voltageLevelId").asText());
+
+            // the wildcards of the filters are matched literally
+            result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/bus-voltages?busId=VL_V1", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn();
+            assertEquals(0, mapper.readTree(result.getResponse().getContentAsString()).get("totalElements").asInt());
+            result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/bus-voltages?busId=HV1_", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn();
+            assertEquals(1, mapper.readTree(result.getResponse().getContentAsString()).get("totalElements").asInt());
+
+            mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/bus-voltages?sort=unknown,desc", RESULT_UUID))
+                .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/voltage-level-aggregates?sort=resultUuid", RESULT_UUID))
+                .andExpect(status().isBadRequest());
+
+            result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/reactive-slacks?minSlack=100", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn();
+            page = mapper.readTree(result.getResponse().getContentAsString());
+            assertEquals(1, page.get("totalElements").asInt());
+            assertEquals(200., page.get("content").get(0).get("slack").asDouble(), 0.001);
+
+            result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/reactive-slacks?maxSlack=100", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn();
+            assertEquals(0, mapper.readTree(result.getResponse().getContentAsString()).get("totalElements").asInt());
+
+            mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/bus-voltages", OTHER_RESULT_UUID))
+                .andExpect(status().isNotFound());
+
+            // voltage level aggregates, the generator one holding the reactive slack
+            result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/voltage-level-aggregates?sort=reactiveSlackSum,desc", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn();
+            page = mapper.readTree(result.getResponse().getContentAsString());
+            assertEquals(2, page.get("totalElements").asInt());
+            JsonNode aggregate = page.get("content").get(0);
+            assertEquals("VLGEN", aggregate.get("voltageLevelId").asText());
+            assertEquals(1, aggregate.get("busCount").asInt());
+            assertEquals(aggregate.get("minV").asDouble(), aggregate.get("maxV").asDouble(), 0.001);
+            assertEquals(200., aggregate.get("maxAbsReactiveSlack").asDouble(), 0.001);
+            assertTrue(page.get("content").get(1).get("maxAbsReactiveSlack").isNull());
+
+            mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/voltage-level-aggregates", OTHER_RESULT_UUID))
+                .andExpect(status().isNotFound());
+
+            // top reactive slacks
+            result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/reactive-slacks/top?count=5", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn();
+            JsonNode topReactiveSlacks = mapper.readTree(result.getResponse().getContentAsString());
+            assertEquals(1, topReactiveSlacks.size());
+            assertEquals("NGEN", topReactiveSlacks.get(0).get("busId").asText());
+            result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/reactive-slacks/top?voltageLevelIds=VLHV1", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn();
+            assertEquals(0, mapper.readTree(result.getResponse().getContentAsString()).size());
+            mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}/reactive-slacks/top", OTHER_RESULT_UUID))
+                .andExpect(status().isNotFound());
+        }
+    }
+
+    @Test
+    void runWithWarmStartTest() throws Exception {
+        try (MockedStatic<OpenReacRunner> openReacRunnerMockedStatic = Mockito.mockStatic(OpenReacRunner.class)) {
+            openReacRunnerMockedStatic.when(() -> OpenReacRunner.runAsync(eq(network), eq(VARIANT_2_ID), any(OpenReacParameters.class), any(OpenReacConfig.class), any(ComputationManager.class), any(ReportNode.class), isNull(AmplExportConfig.class)))
+                .thenReturn(completableFutureResultsTask);
+
+            // first run without previous result on the variant
+            mockMvc.perform(post(
+                    "/" + VERSION + "/networks/{networkUuid}/run-and-save?receiver=me&rootNetworkName=rootNetwork1&nodeName=node1&variantId=" + VARIANT_2_ID + "&warmStart=true", NETWORK_UUID)
+                    .header(HEADER_USER_ID, "userId"))
+                .andExpect(status().isOk());
+            assertNotNull(output.receive(TIMEOUT, "voltageinit.result"));
+            MvcResult result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn();
+            assertFalse(mapper.readValue(result.getResponse().getContentAsString(), VoltageInitResult.class).isWarmStart());
+
+            // second run starting from the voltage profile of the first one
+            network.getVariantManager().setWorkingVariant(VARIANT_2_ID);
+            double networkV = network.getBusView().getBus("VLHV1_0").getV();
+            double networkAngle = network.getBusView().getBus("VLHV1_0").getAngle();
+            AtomicReference<Double> warmStartV = new AtomicReference<>();
+            AtomicReference<Double> warmStartAngle = new AtomicReference<>();
+            openReacRunnerMockedStatic.when(() -> OpenReacRunner.runAsync(eq(network), eq(VARIANT_2_ID), any(OpenReacParameters.class), any(OpenReacConfig.class), any(ComputationManager.class), any(ReportNode.class), isNull(AmplExportConfig.class)))
+                .thenAnswer(invocation -> {
+                    warmStartV.set(network.getBusView().getBus("VLHV1_0").getV());
+                    warmStartAngle.set(network.getBusView().getBus("VLHV1_0").getAngle());
+                    return completableFutureResultsTask;
+                });
+            mockMvc.perform(post(
+                    "/" + VERSION + "/networks/{networkUuid}/run-and-save?receiver=me&rootNetworkName=rootNetwork1&nodeName=node1&variantId=" + VARIANT_2_ID + "&warmStart=true", NETWORK_UUID)
+                    .header(HEADER_USER_ID, "userId"))
+                .andExpect(status().isOk());
+            assertNotNull(output.receive(TIMEOUT, "voltageinit.result"));
+            result = mockMvc.perform(get("/" + VERSION + "/results/{resultUuid}", RESULT_UUID))
+                .andExpect(status().isOk())
+                .andReturn();
+            assertTrue(mapper.readValue(result.getResponse().getContentAsString(), VoltageInitResult.class).isWarmStart());
+
+            // OpenReac started from the voltages of the first result
+            assertEquals(100. * network.getVoltageLevel("VLHV1").getNominalV(), warmStartV.get(), 0.001);
+            assertEquals(Math.toDegrees(100.), warmStartAngle.get(), 0.001);
+            // then the voltages of the network are restored, to be compared with the modifications in delta mode
+            network.getVariantManager().setWorkingVariant(VARIANT_2_ID);
+            assertEquals(networkV, network.getBusView().getBus("VLHV1_0").getV(), 0.001);
+            assertEquals(networkAngle, network.getBusView().getBus("VLHV1_0").getAngle(), 0.001);
+        }
+    }
+
     @Test
     void testReturnsResultAndDoesNotGenerateModificationIfResultNotOk() throws Exception {
         try (MockedStatic<OpenReacRunner> openReacRunnerMockedStatic = Mockito.mockStatic(OpenReacRunner.class)) {
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.entities;
+
+import com.powsybl.commons.PowsyblException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author agent <agent at local>
+ */
+class ResultBlobCodecTest {
+
+    @Test
+    void busVoltagesRoundTrip() {
+        List<BusVoltageEmbeddable> busVoltages = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            busVoltages.add(new BusVoltageEmbeddable("VL" + i / 4, "VL" + i / 4 + "_" + i % 4, 400. + i * 1e-3, -12.5 + i * 1e-4));
+        }
+        busVoltages.add(new BusVoltageEmbeddable(null, "orphanBus", Double.NaN, 0.));
+
+        byte[] blob = ResultBlobCodec.encodeBusVoltages(busVoltages);
+        List<BusVoltageEmbeddable> decoded = ResultBlobCodec.decodeBusVoltages(blob);
+
+        assertThat(decoded).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(busVoltages);
+        // below the size of the raw values: two identifiers of about ten characters and two doubles per bus
+        assertThat(blob.length).isLessThan(busVoltages.size() * 36);
+    }
+
+    @Test
+    void realisticBusVoltagesAreSmallerThanWithVariableLengthXors() throws IOException {
+        // noisy voltages around the nominal voltage of each voltage level, angles of both signs
+        Random random = new Random(0);
+        double[] nominalVoltages = {400., 225., 90., 63., 20.};
+        List<BusVoltageEmbeddable> busVoltages = new ArrayList<>();
+        for (int vl = 0; vl < 2500; vl++) {
+            double nominalV = nominalVoltages[random.nextInt(nominalVoltages.length)];
+            double angle = random.nextGaussian() * 10;
+            int busCount = 1 + random.nextInt(4);
+            for (int bus = 0; bus < busCount; bus++) {
+                busVoltages.add(new BusVoltageEmbeddable("VL" + vl, "VL" + vl + "_" + bus,
+                    nominalV * (1 + 0.03 * random.nextGaussian()), angle + 0.5 * random.nextGaussian()));
+            }
+        }
+
+        byte[] blob = ResultBlobCodec.encodeBusVoltages(busVoltages);
+        byte[] legacyBlob = encodeLegacyBusVoltages(busVoltages);
+
+        assertThat(ResultBlobCodec.decodeBusVoltages(blob)).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(busVoltages);
+        assertThat(blob.length).isLessThan(legacyBlob.length);
+    }
+
+    @Test
+    void legacyBlobsAreRead() throws IOException {
+        List<BusVoltageEmbeddable> busVoltages = List.of(
+            new BusVoltageEmbeddable("VL1", "VL1_0", 401.2, 3.5),
+            new BusVoltageEmbeddable("VL1", "VL1_1", 399.8, -0.2),
+            new BusVoltageEmbeddable(null, "orphanBus", Double.NaN, 0.));
+
+        assertThat(ResultBlobCodec.decodeBusVoltages(encodeLegacyBusVoltages(busVoltages)))
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(busVoltages);
+    }
+
+    @Test
+    void reactiveSlacksRoundTrip() {
+        List<ReactiveSlackEmbeddable> reactiveSlacks = List.of(
+            new ReactiveSlackEmbeddable("VLGEN", "NGEN", 200.),
+            new ReactiveSlackEmbeddable("VLGEN", "NGEN2", -15.3));
+
+        assertThat(ResultBlobCodec.decodeReactiveSlacks(ResultBlobCodec.encodeReactiveSlacks(reactiveSlacks)))
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(reactiveSlacks);
+        assertThat(ResultBlobCodec.decodeReactiveSlacks(ResultBlobCodec.encodeReactiveSlacks(List.of()))).isEmpty();
+    }
+
+    @Test
+    void identifiersAreNotLimitedInLength() {
+        // above the 64KB limit of the modified UTF-8 encoding, with multi-byte characters
+        String longId = "é".repeat(70_000);
+        List<ReactiveSlackEmbeddable> reactiveSlacks = List.of(new ReactiveSlackEmbeddable(longId, longId + "_0", 1.));
+
+        assertThat(ResultBlobCodec.decodeReactiveSlacks(ResultBlobCodec.encodeReactiveSlacks(reactiveSlacks)))
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(reactiveSlacks);
+    }
+
+    @Test
+    void blobFormatIsChecked() {
+        byte[] busVoltagesBlob = ResultBlobCodec.encodeBusVoltages(List.of());
+        assertThatThrownBy(() -> ResultBlobCodec.decodeReactiveSlacks(busVoltagesBlob)).isInstanceOf(PowsyblException.class);
+    }
+
+    /**
+     * Encoding of the first format, each xor of a double with the previous one written as a variable length integer
+     */
+    private static byte[] encodeLegacyBusVoltages(List<BusVoltageEmbeddable> busVoltages) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(1);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            writeVarLong(out, busVoltages.size());
+            writeLegacyDictionaryColumn(out, busVoltages.stream().map(BusVoltageEmbeddable::getVoltageLevelId).toList());
+            writeLegacyDictionaryColumn(out, busVoltages.stream().map(BusVoltageEmbeddable::getBusId).toList());
+            writeLegacyXorColumn(out, busVoltages.stream().mapToDouble(BusVoltageEmbeddable::getV).toArray());
+            writeLegacyXorColumn(out, busVoltages.stream().mapToDouble(BusVoltageEmbeddable::getAngle).toArray());
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeLegacyDictionaryColumn(DataOutputStream out, List<String> values) throws IOException {
+        Map<String, Integer> indexes = new LinkedHashMap<>();
+        for (String value : values) {
+            if (value != null) {
+                indexes.putIfAbsent(value, indexes.size() + 1);
+            }
+        }
+        writeVarLong(out, indexes.size());
+        for (String value : indexes.keySet()) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+        for (String value : values) {
+            writeVarLong(out, value == null ? 0 : indexes.get(value));
+        }
+    }
+
+    private static void writeLegacyXorColumn(DataOutputStream out, double[] values) throws IOException {
+        long previous = 0;
+        for (double value : values) {
+            long bits = Double.doubleToLongBits(value);
+            writeVarLong(out, bits ^ previous);
+            previous = bits;
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+}
@@ -14,7 +14,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.gridsuite.voltageinit.server.error.VoltageInitBusinessErrorCode.INVALID_SORT_PROPERTY;
 import static org.gridsuite.voltageinit.server.error.VoltageInitBusinessErrorCode.MISSING_FILTER;
+import static org.gridsuite.voltageinit.server.error.VoltageInitBusinessErrorCode.MODIFICATIONS_GROUP_CREATION_PENDING;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -39,4 +41,26 @@ class VoltageInitExceptionHandlerTest {
         assertThat(response.getBody()).isNotNull();
         assertEquals("voltageInit.missingFilter", response.getBody().getBusinessErrorCode());
     }
+
+    @Test
+    void mapsPendingModificationsGroupCreationToServiceUnavailable() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/results/uuid/modifications-group-uuid");
+        VoltageInitException exception = new VoltageInitException(MODIFICATIONS_GROUP_CREATION_PENDING, "Creation of modifications group still in progress");
+        ResponseEntity<PowsyblWsProblemDetail> response = handler.handleVoltageInitException(exception, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isNotNull();
+        assertEquals("voltageInit.modificationsGroupCreationPending", response.getBody().getBusinessErrorCode());
+    }
+
+    @Test
+    void mapsInvalidSortPropertyToBadRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/results/uuid/bus-voltages");
+        VoltageInitException exception = new VoltageInitException(INVALID_SORT_PROPERTY, "Unknown sort property 'unknown'");
+        ResponseEntity<PowsyblWsProblemDetail> response = handler.handleVoltageInitException(exception, request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertEquals("voltageInit.invalidSortProperty", response.getBody().getBusinessErrorCode());
+    }
 }
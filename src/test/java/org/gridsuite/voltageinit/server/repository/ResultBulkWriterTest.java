@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.repository;
+
+import org.gridsuite.voltageinit.server.entities.BusVoltageEmbeddable;
+import org.gridsuite.voltageinit.server.entities.ReactiveSlackEmbeddable;
+import org.gridsuite.voltageinit.server.entities.VoltageInitResultEntity;
+import org.gridsuite.voltageinit.server.service.VoltageInitResultService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent <agent at local>
+ */
+@SpringBootTest
+class ResultBulkWriterTest {
+
+    private static final int BUSES_COUNT = 15_000;
+
+    @Autowired
+    private ResultRepository resultRepository;
+
+    @Autowired
+    private ResultBulkWriter resultBulkWriter;
+
+    @Autowired
+    private VoltageInitResultService resultService;
+
+    @Autowired
+    private ModificationsGroupDeletionRepository modificationsGroupDeletionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        resultService.deleteAll();
+        modificationsGroupDeletionRepository.deleteAll();
+    }
+
+    private static List<BusVoltageEmbeddable> buildBusVoltages() {
+        List<BusVoltageEmbeddable> busVoltages = new ArrayList<>(BUSES_COUNT);
+        for (int i = 0; i < BUSES_COUNT; i++) {
+            busVoltages.add(new BusVoltageEmbeddable("VL" + i / 2, "VL" + i / 2 + "_" + i % 2, 225. + i * 1e-3, i * 1e-2));
+        }
+        return busVoltages;
+    }
+
+    private static VoltageInitResultEntity buildResultEntity(UUID resultUuid, Map<String, String> indicators, List<ReactiveSlackEmbeddable> reactiveSlacks, List<BusVoltageEmbeddable> busVoltages) {
+        return new VoltageInitResultEntity(resultUuid, Instant.now(), indicators, reactiveSlacks, busVoltages, null, false, null,
+            null, null, null, null, false, null, null, null, null, false);
+    }
+
+    private Integer countRows(String table, UUID resultUuid) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE voltage_init_result_entity_result_uuid = ?", Integer.class, resultUuid);
+    }
+
+    @Test
+    void bulkWriteIsReadAsTheElementCollections() {
+        Map<String, String> indicators = Map.of("final_status", "OK", "nb_iter_last", "12");
+        List<ReactiveSlackEmbeddable> reactiveSlacks = List.of(new ReactiveSlackEmbeddable("VL0", "VL0_0", 12.5), new ReactiveSlackEmbeddable("VL1", "VL1_0", -3.));
+        List<BusVoltageEmbeddable> busVoltages = buildBusVoltages();
+
+        // element collections flushed by hibernate
+        UUID savedResultUuid = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status ->
+            resultRepository.save(buildResultEntity(savedResultUuid, new HashMap<>(indicators), new ArrayList<>(reactiveSlacks), new ArrayList<>(busVoltages))));
+
+        // bulk writer
+        UUID bulkResultUuid = UUID.randomUUID();
+        transactionTemplate.executeWithoutResult(status -> {
+            resultRepository.saveAndFlush(buildResultEntity(bulkResultUuid, new HashMap<>(), new ArrayList<>(), new ArrayList<>()));
+            resultBulkWriter.write(bulkResultUuid, indicators, reactiveSlacks, busVoltages);
+        });
+
+        assertThat(countRows("voltage_init_result_entity_indicators", bulkResultUuid)).isEqualTo(indicators.size());
+        assertThat(countRows("voltage_init_result_entity_reactive_slacks", bulkResultUuid)).isEqualTo(reactiveSlacks.size());
+        assertThat(countRows("voltage_init_result_entity_bus_voltages", bulkResultUuid)).isEqualTo(BUSES_COUNT);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            VoltageInitResultEntity bulkResult = resultRepository.findByResultUuid(bulkResultUuid).orElseThrow();
+            assertThat(bulkResult.getIndicators()).isEqualTo(indicators);
+            assertThat(bulkResult.getReactiveSlacks()).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(reactiveSlacks);
+            assertThat(bulkResult.getBusVoltages()).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(
+                resultRepository.findByResultUuid(savedResultUuid).orElseThrow().getBusVoltages());
+        });
+    }
+
+    @Test
+    void bulkWrittenResultIsReadInTheSavingTransaction() {
+        UUID reusedResultUuid = UUID.randomUUID();
+        resultRepository.save(new VoltageInitResultEntity(reusedResultUuid, Instant.now(), new HashMap<>(Map.of("indicator", "value")), new ArrayList<>(),
+            buildBusVoltages(), UUID.randomUUID(), false, null, null, null, null, null, false, null, null, null, null, false));
+        UUID resultUuid = UUID.randomUUID();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(resultService.insertReusedResult(reusedResultUuid, resultUuid, UUID.randomUUID())).isTrue();
+            // the entity saved with empty collections is no longer managed, the written rows are loaded
+            VoltageInitResultEntity result = resultRepository.findByResultUuid(resultUuid).orElseThrow();
+            assertThat(result.getIndicators()).containsEntry("indicator", "value");
+            assertThat(result.getBusVoltages()).hasSize(BUSES_COUNT);
+        });
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent <agent at local>
+ */
+class BusIndexTest {
+
+    @Test
+    void indexesTheBusView() {
+        Network network = EurostagTutorialExample1Factory.create();
+        BusIndex busIndex = BusIndex.of(network);
+
+        assertThat(busIndex.size()).isEqualTo(network.getBusView().getBusStream().count());
+        for (Bus bus : network.getBusView().getBuses()) {
+            int slot = busIndex.getSlot(bus.getId());
+            assertThat(slot).isNotEqualTo(BusIndex.NO_SLOT);
+            assertThat(busIndex.getBusId(slot)).isEqualTo(bus.getId());
+            assertThat(busIndex.getVoltageLevelId(slot)).isEqualTo(bus.getVoltageLevel().getId());
+            assertThat(busIndex.getNominalV(slot)).isEqualTo(bus.getVoltageLevel().getNominalV());
+            assertThat(busIndex.getV(slot)).isEqualTo(bus.getV());
+            assertThat(busIndex.getAngle(slot)).isEqualTo(bus.getAngle());
+        }
+        assertThat(busIndex.getSlot("unknownBus")).isEqualTo(BusIndex.NO_SLOT);
+        assertThat(busIndex.getSlot(null)).isEqualTo(BusIndex.NO_SLOT);
+    }
+}
@@ -0,0 +1,264 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.powsybl.commons.PowsyblException;
+import org.gridsuite.voltageinit.server.entities.ModificationsGroupCreationEntity;
+import org.gridsuite.voltageinit.server.entities.ModificationsGroupDeletionEntity;
+import org.gridsuite.voltageinit.server.entities.VoltageInitResultEntity;
+import org.gridsuite.voltageinit.server.repository.ModificationsGroupCreationRepository;
+import org.gridsuite.voltageinit.server.repository.ModificationsGroupDeletionRepository;
+import org.gridsuite.voltageinit.server.repository.ResultRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author agent <agent at local>
+ */
+@SpringBootTest(properties = "voltage-init.modifications-group-creation.claim-lease=PT0.3S")
+class ModificationsGroupCreationServiceTest {
+
+    private static final byte[] PAYLOAD = {1, 2, 3};
+
+    @MockitoBean
+    private NetworkModificationService networkModificationService;
+
+    @Autowired
+    private ModificationsGroupCreationService modificationsGroupCreationService;
+
+    @Autowired
+    private ModificationsGroupCreationRepository modificationsGroupCreationRepository;
+
+    @Autowired
+    private ModificationsGroupDeletionRepository modificationsGroupDeletionRepository;
+
+    @Autowired
+    private VoltageInitResultService resultService;
+
+    @Autowired
+    private ResultRepository resultRepository;
+
+    @BeforeEach
+    void setUp() {
+        // creations and deletions queued by the other tests
+        modificationsGroupCreationRepository.deleteAll();
+        modificationsGroupDeletionRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        resultService.deleteAll();
+        modificationsGroupDeletionRepository.deleteAll();
+    }
+
+    private UUID saveResultWithPendingGroup() {
+        return saveResultWithPendingGroup(false);
+    }
+
+    private UUID saveResultWithPendingGroup(boolean onDemand) {
+        UUID resultUuid = UUID.randomUUID();
+        UUID groupUuid = UUID.randomUUID();
+        resultRepository.save(new VoltageInitResultEntity(resultUuid, Instant.now(), new HashMap<>(), new ArrayList<>(), new ArrayList<>(),
+            groupUuid, false, null, null, null, null, null, false, null, null, null, null, false));
+        modificationsGroupCreationRepository.save(new ModificationsGroupCreationEntity(groupUuid, PAYLOAD, 0, Instant.now(), onDemand, null));
+        return resultUuid;
+    }
+
+    private UUID getGroupUuid(UUID resultUuid) {
+        return resultRepository.findModificationsGroupUuid(resultUuid).orElseThrow();
+    }
+
+    @Test
+    void pendingGroupsAreCreatedAndRetried() throws Exception {
+        UUID createdGroupUuid = getGroupUuid(saveResultWithPendingGroup());
+        UUID failingGroupUuid = getGroupUuid(saveResultWithPendingGroup());
+        doThrow(new PowsyblException("Error creating modifications group")).when(networkModificationService).createModificationsGroup(eq(failingGroupUuid), any());
+
+        modificationsGroupCreationService.dispatchDue().get(10, TimeUnit.SECONDS);
+
+        verify(networkModificationService).createModificationsGroup(createdGroupUuid, PAYLOAD);
+        verify(networkModificationService, never()).deleteModificationsGroup(any());
+        assertThat(modificationsGroupCreationRepository.findAll()).singleElement().satisfies(creation -> {
+            assertThat(creation.getModificationsGroupUuid()).isEqualTo(failingGroupUuid);
+            assertThat(creation.getAttempts()).isEqualTo(1);
+            assertThat(creation.getNextAttemptAt()).isAfter(Instant.now());
+        });
+
+        // reading the group uuid creates it without waiting for the next attempt, clearing what the failed attempt may have left
+        doNothing().when(networkModificationService).createModificationsGroup(eq(failingGroupUuid), any());
+        modificationsGroupCreationService.complete(failingGroupUuid).get(10, TimeUnit.SECONDS);
+
+        var inOrder = inOrder(networkModificationService);
+        inOrder.verify(networkModificationService).deleteModificationsGroup(failingGroupUuid);
+        inOrder.verify(networkModificationService).createModificationsGroup(failingGroupUuid, PAYLOAD);
+        assertThat(modificationsGroupCreationRepository.findAll()).isEmpty();
+        assertThat(modificationsGroupDeletionRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void pendingCreationIsDroppedWithItsResult() throws Exception {
+        UUID resultUuid = saveResultWithPendingGroup();
+        UUID groupUuid = getGroupUuid(resultUuid);
+
+        resultService.delete(resultUuid);
+        modificationsGroupCreationService.dispatchDue().get(10, TimeUnit.SECONDS);
+
+        verify(networkModificationService, never()).createModificationsGroup(any(), any());
+        assertThat(modificationsGroupCreationRepository.findAll()).isEmpty();
+        assertThat(modificationsGroupDeletionRepository.findAll()).extracting(ModificationsGroupDeletionEntity::getModificationsGroupUuid).containsExactly(groupUuid);
+    }
+
+    @Test
+    void abandonedOnDemandCreationsAreDropped() {
+        UUID abandonedResultUuid = saveResultWithPendingGroup(true);
+        UUID attemptedResultUuid = saveResultWithPendingGroup(true);
+        UUID recentGroupUuid = getGroupUuid(saveResultWithPendingGroup(true));
+        UUID dispatchedResultUuid = saveResultWithPendingGroup();
+        UUID attemptedGroupUuid = getGroupUuid(attemptedResultUuid);
+        Instant abandonedAt = Instant.now().minus(Duration.ofDays(31));
+        modificationsGroupCreationRepository.save(new ModificationsGroupCreationEntity(getGroupUuid(abandonedResultUuid), PAYLOAD, 0, abandonedAt, true, null));
+        modificationsGroupCreationRepository.save(new ModificationsGroupCreationEntity(attemptedGroupUuid, PAYLOAD, 1, abandonedAt, true, null));
+        modificationsGroupCreationRepository.save(new ModificationsGroupCreationEntity(getGroupUuid(dispatchedResultUuid), PAYLOAD, 0, abandonedAt, false, null));
+
+        assertThat(modificationsGroupCreationService.purgeAbandoned()).isEqualTo(2);
+
+        assertThat(modificationsGroupCreationRepository.findAll()).extracting(ModificationsGroupCreationEntity::getModificationsGroupUuid)
+            .containsExactlyInAnyOrder(recentGroupUuid, getGroupUuid(dispatchedResultUuid));
+        // the results no longer reference the groups never created
+        assertThat(resultRepository.findModificationsGroupUuid(abandonedResultUuid)).isEmpty();
+        assertThat(resultRepository.findModificationsGroupUuid(attemptedResultUuid)).isEmpty();
+        // only the failed attempt may have left a group
+        assertThat(modificationsGroupDeletionRepository.findAll()).extracting(ModificationsGroupDeletionEntity::getModificationsGroupUuid).containsExactly(attemptedGroupUuid);
+        verify(networkModificationService, never()).createModificationsGroup(any(), any());
+    }
+
+    @Test
+    void onDemandGroupIsCreatedOnceByItsReaders() throws Exception {
+        UUID groupUuid = getGroupUuid(saveResultWithPendingGroup(true));
+
+        modificationsGroupCreationService.dispatchDue().get(10, TimeUnit.SECONDS);
+        verify(networkModificationService, never()).createModificationsGroup(any(), any());
+
+        CountDownLatch creationStarted = new CountDownLatch(1);
+        CountDownLatch releaseCreation = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            creationStarted.countDown();
+            releaseCreation.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(networkModificationService).createModificationsGroup(eq(groupUuid), any());
+        CompletableFuture<Void> firstReader = modificationsGroupCreationService.complete(groupUuid);
+        assertThat(creationStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> secondReader = modificationsGroupCreationService.complete(groupUuid);
+        releaseCreation.countDown();
+        firstReader.get(10, TimeUnit.SECONDS);
+        secondReader.get(10, TimeUnit.SECONDS);
+
+        verify(networkModificationService).createModificationsGroup(groupUuid, PAYLOAD);
+        assertThat(modificationsGroupCreationRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void pendingGroupIsDuplicatedFromTheOutbox() {
+        UUID sourceGroupUuid = getGroupUuid(saveResultWithPendingGroup(true));
+
+        UUID groupUuid = modificationsGroupCreationService.duplicate(sourceGroupUuid);
+
+        verify(networkModificationService, never()).duplicateModificationsGroup(any());
+        assertThat(modificationsGroupCreationRepository.findById(groupUuid)).hasValueSatisfying(creation ->
+            assertThat(creation.getPayload()).isEqualTo(PAYLOAD));
+    }
+
+    @Test
+    void duplicateIsDiscardedWhenTheReusedResultIsDeletedMeanwhile() {
+        UUID reusedResultUuid = saveResultWithPendingGroup(true);
+        UUID sourceGroupUuid = getGroupUuid(reusedResultUuid);
+        UUID groupUuid = modificationsGroupCreationService.duplicate(sourceGroupUuid);
+        resultService.delete(reusedResultUuid);
+
+        UUID resultUuid = UUID.randomUUID();
+        assertThat(resultService.insertReusedResult(reusedResultUuid, resultUuid, groupUuid)).isFalse();
+        modificationsGroupCreationService.discard(groupUuid);
+
+        assertThat(resultService.exists(resultUuid)).isFalse();
+        assertThat(modificationsGroupCreationRepository.findAll()).isEmpty();
+        assertThat(modificationsGroupDeletionRepository.findAll()).extracting(ModificationsGroupDeletionEntity::getModificationsGroupUuid)
+            .containsExactlyInAnyOrder(sourceGroupUuid, groupUuid);
+    }
+
+    @Test
+    void staleClaimIsTakenOverByReaders() throws Exception {
+        UUID groupUuid = UUID.randomUUID();
+        // claimed by an instance which stopped before the end of its attempt
+        Instant leaseEnd = Instant.now().minusSeconds(1);
+        modificationsGroupCreationRepository.save(new ModificationsGroupCreationEntity(groupUuid, PAYLOAD, 1, leaseEnd, true, leaseEnd));
+
+        modificationsGroupCreationService.complete(groupUuid).get(10, TimeUnit.SECONDS);
+
+        verify(networkModificationService).deleteModificationsGroup(groupUuid);
+        verify(networkModificationService).createModificationsGroup(groupUuid, PAYLOAD);
+        assertThat(modificationsGroupCreationRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void claimInProgressIsNotTakenOver() {
+        UUID groupUuid = UUID.randomUUID();
+        Instant leaseEnd = Instant.now().plusSeconds(60);
+        modificationsGroupCreationRepository.save(new ModificationsGroupCreationEntity(groupUuid, PAYLOAD, 1, leaseEnd, true, leaseEnd));
+
+        assertThat(modificationsGroupCreationRepository.claim(groupUuid, leaseEnd, Instant.now(), Instant.now().plusSeconds(20))).isZero();
+    }
+
+    @Test
+    void leaseIsRenewedWhileTheGroupIsUploaded() throws Exception {
+        UUID groupUuid = getGroupUuid(saveResultWithPendingGroup(true));
+        CountDownLatch creationStarted = new CountDownLatch(1);
+        CountDownLatch releaseCreation = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            creationStarted.countDown();
+            releaseCreation.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(networkModificationService).createModificationsGroup(eq(groupUuid), any());
+
+        CompletableFuture<Void> completion = modificationsGroupCreationService.complete(groupUuid);
+        assertThat(creationStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        // several leases later, the upload still holds the claim
+        Thread.sleep(1000);
+        ModificationsGroupCreationEntity creation = modificationsGroupCreationRepository.findById(groupUuid).orElseThrow();
+        assertThat(creation.getClaimedUntil()).isAfter(Instant.now());
+        assertThat(modificationsGroupCreationRepository.claim(groupUuid, creation.getNextAttemptAt(), Instant.now(), Instant.now().plusSeconds(1))).isZero();
+        releaseCreation.countDown();
+        completion.get(10, TimeUnit.SECONDS);
+
+        verify(networkModificationService, never()).deleteModificationsGroup(any());
+        verify(networkModificationService).createModificationsGroup(groupUuid, PAYLOAD);
+        assertThat(modificationsGroupCreationRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void pendingCreationIsDroppedWhenTheGroupIsReset() {
+        UUID resultUuid = saveResultWithPendingGroup(true);
+
+        resultService.resetModificationsGroupUuid(resultUuid);
+
+        assertThat(resultRepository.findModificationsGroupUuid(resultUuid)).isEmpty();
+        assertThat(modificationsGroupCreationRepository.findAll()).isEmpty();
+    }
+}
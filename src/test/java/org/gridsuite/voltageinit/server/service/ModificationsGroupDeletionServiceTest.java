@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.powsybl.commons.PowsyblException;
+import org.gridsuite.voltageinit.server.entities.ModificationsGroupDeletionEntity;
+import org.gridsuite.voltageinit.server.entities.VoltageInitResultEntity;
+import org.gridsuite.voltageinit.server.repository.ModificationsGroupDeletionRepository;
+import org.gridsuite.voltageinit.server.repository.ResultRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author agent <agent at local>
+ */
+@SpringBootTest
+class ModificationsGroupDeletionServiceTest {
+
+    @MockitoBean
+    private NetworkModificationService networkModificationService;
+
+    @Autowired
+    private ModificationsGroupDeletionService modificationsGroupDeletionService;
+
+    @Autowired
+    private ModificationsGroupDeletionRepository modificationsGroupDeletionRepository;
+
+    @Autowired
+    private VoltageInitResultService resultService;
+
+    @Autowired
+    private ResultRepository resultRepository;
+
+    @BeforeEach
+    void setUp() {
+        // deletions queued by the other tests
+        modificationsGroupDeletionRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        resultService.deleteAll();
+        modificationsGroupDeletionRepository.deleteAll();
+    }
+
+    @Test
+    void deletedResultsModificationsGroupsAreDeletedAndRetried() throws Exception {
+        UUID deletedGroupUuid = UUID.randomUUID();
+        UUID failingGroupUuid = UUID.randomUUID();
+        UUID keptGroupUuid = UUID.randomUUID();
+        Map<UUID, UUID> groupByResult = Map.of(UUID.randomUUID(), deletedGroupUuid, UUID.randomUUID(), failingGroupUuid, UUID.randomUUID(), keptGroupUuid);
+        groupByResult.forEach((resultUuid, groupUuid) -> resultRepository.save(new VoltageInitResultEntity(resultUuid, Instant.now(), new HashMap<>(),
+            new ArrayList<>(), new ArrayList<>(), groupUuid, false, null, null, null, null, null, false, null, null, null, null, false)));
+        List<UUID> deletedResultUuids = groupByResult.entrySet().stream()
+            .filter(e -> !e.getValue().equals(keptGroupUuid))
+            .map(Map.Entry::getKey)
+            .toList();
+
+        resultService.delete(deletedResultUuids);
+
+        assertThat(resultRepository.findAll()).extracting(VoltageInitResultEntity::getModificationsGroupUuid).containsExactly(keptGroupUuid);
+        assertThat(modificationsGroupDeletionRepository.findAll()).extracting(ModificationsGroupDeletionEntity::getModificationsGroupUuid)
+            .containsExactlyInAnyOrder(deletedGroupUuid, failingGroupUuid);
+
+        doThrow(new PowsyblException("Error deleting modifications group")).when(networkModificationService).deleteModificationsGroup(failingGroupUuid);
+        modificationsGroupDeletionService.dispatchDue().get(10, TimeUnit.SECONDS);
+
+        verify(networkModificationService).deleteModificationsGroup(deletedGroupUuid);
+        verify(networkModificationService).deleteModificationsGroup(failingGroupUuid);
+        assertThat(modificationsGroupDeletionRepository.findAll()).singleElement().satisfies(deletion -> {
+            assertThat(deletion.getModificationsGroupUuid()).isEqualTo(failingGroupUuid);
+            assertThat(deletion.getAttempts()).isEqualTo(1);
+            assertThat(deletion.getNextAttemptAt()).isAfter(Instant.now());
+        });
+    }
+
+    @Test
+    void alreadyQueuedDeletionIsKept() {
+        UUID groupUuid = UUID.randomUUID();
+        Instant nextAttemptAt = Instant.now().plusSeconds(3600);
+        // queued by another instance, which already attempted the deletion
+        modificationsGroupDeletionRepository.save(new ModificationsGroupDeletionEntity(groupUuid, 2, nextAttemptAt));
+        UUID resultUuid = UUID.randomUUID();
+        resultRepository.save(new VoltageInitResultEntity(resultUuid, Instant.now(), new HashMap<>(),
+            new ArrayList<>(), new ArrayList<>(), groupUuid, false, null, null, null, null, null, false, null, null, null, null, false));
+
+        resultService.delete(List.of(resultUuid));
+
+        assertThat(resultRepository.findAll()).isEmpty();
+        assertThat(modificationsGroupDeletionRepository.findAll()).singleElement().satisfies(deletion -> {
+            assertThat(deletion.getModificationsGroupUuid()).isEqualTo(groupUuid);
+            assertThat(deletion.getAttempts()).isEqualTo(2);
+        });
+    }
+}
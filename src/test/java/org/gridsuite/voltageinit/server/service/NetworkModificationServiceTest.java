@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.openreac.parameters.output.OpenReacResult;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import mockwebserver3.junit5.internal.MockWebServerExtension;
+import org.gridsuite.computation.service.UuidGeneratorService;
+import org.gridsuite.voltageinit.server.entities.ModificationsGroupCreationEntity;
+import org.jgrapht.alg.util.Pair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author agent <agent at local>
+ */
+@ExtendWith(MockWebServerExtension.class)
+class NetworkModificationServiceTest {
+
+    private static final int BUSES_COUNT = 20_000;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private static Network createNetwork() {
+        Network network = Network.create("synthetic", "test");
+        for (int i = 0; i < BUSES_COUNT; i++) {
+            Substation substation = network.newSubstation().setId("S" + i).add();
+            VoltageLevel voltageLevel = substation.newVoltageLevel().setId("VL" + i).setNominalV(225.).setTopologyKind(TopologyKind.BUS_BREAKER).add();
+            voltageLevel.getBusBreakerView().newBus().setId("B" + i).add();
+            voltageLevel.newLoad().setId("LOAD" + i).setBus("B" + i).setConnectableBus("B" + i).setP0(10.).setQ0(1.).add();
+        }
+        return network;
+    }
+
+    private static VoltageProfile createVoltageProfile(Network network) {
+        Map<String, Pair<Double, Double>> voltages = new HashMap<>();
+        network.getBusView().getBuses().forEach(bus -> voltages.put(bus.getId(), Pair.of(1. + voltages.size() * 1e-6, 0.1)));
+        return VoltageProfile.of(voltages, BusIndex.of(network));
+    }
+
+    private JsonNode upload(MockWebServer server, boolean gzipRequests, boolean delta, Network network, VoltageProfile voltageProfile, ReportNode reportNode) throws InterruptedException, IOException {
+        UuidGeneratorService uuidGeneratorService = mock(UuidGeneratorService.class);
+        when(uuidGeneratorService.generate()).thenReturn(UUID.randomUUID());
+        NetworkModificationService networkModificationService = new NetworkModificationService(server.url("").toString(), objectMapper,
+            uuidGeneratorService, new RestTemplate(), new ModificationsDeltaService(delta, 1e-3, 1e-3, 1e-3), gzipRequests, 4);
+        server.enqueue(new MockResponse(200));
+
+        ModificationsGroupCreationEntity creation = networkModificationService.prepareVoltageInitModificationGroup(network, voltageProfile, mock(OpenReacResult.class), true, "rootNetwork", "node", Set.of(), reportNode, false);
+        networkModificationService.createModificationsGroup(creation.getModificationsGroupUuid(), creation.getPayload());
+
+        networkModificationService.shutdown();
+
+        RecordedRequest request = server.takeRequest();
+        // the payload is stored gzip compressed, and sent as is when the requests are gzip encoded
+        assertThat(creation.getPayload()).startsWith((byte) 0x1f, (byte) 0x8b);
+        if (gzipRequests) {
+            assertThat(request.getBodySize()).isEqualTo(creation.getPayload().length);
+        } else {
+            assertThat(request.getBodySize()).isGreaterThan(creation.getPayload().length);
+        }
+
+        assertThat(request.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo(gzipRequests ? "gzip" : null);
+        try (InputStream body = gzipRequests ? new GZIPInputStream(request.getBody().inputStream()) : request.getBody().inputStream()) {
+            return objectMapper.readTree(body);
+        }
+    }
+
+    @Test
+    void modificationsAreStreamedToTheServer(final MockWebServer server) throws InterruptedException, IOException {
+        Network network = createNetwork();
+        VoltageProfile voltageProfile = createVoltageProfile(network);
+
+        JsonNode plain = upload(server, false, false, network, voltageProfile, ReportNode.NO_OP);
+        JsonNode gzipped = upload(server, true, false, network, voltageProfile, ReportNode.NO_OP);
+
+        assertThat(plain.get("first").get("buses")).hasSize(BUSES_COUNT);
+        assertThat(plain.get("first").get("buses").get(0).get("busId").asText()).startsWith("VL");
+        assertThat(plain.get("second")).isEmpty();
+        // the buses built concurrently keep the order of the voltage profile
+        for (int row = 0; row < BUSES_COUNT; row += 1000) {
+            assertThat(plain.get("first").get("buses").get(row).get("busId").asText()).isEqualTo(voltageProfile.getBusId(row));
+        }
+        // only the computation date differs
+        assertThat(gzipped.get("first").get("buses")).isEqualTo(plain.get("first").get("buses"));
+    }
+
+    @Test
+    void unchangedBusesAreSkippedInDeltaMode(final MockWebServer server) throws InterruptedException, IOException {
+        Network network = createNetwork();
+        VoltageProfile proposedVoltageProfile = createVoltageProfile(network);
+        // half of the buses already have the proposed voltage, within the tolerances
+        for (int row = 0; row < proposedVoltageProfile.size(); row += 2) {
+            Bus bus = network.getBusView().getBus(proposedVoltageProfile.getBusId(row));
+            bus.setV(proposedVoltageProfile.getV(row) + 1e-4).setAngle(proposedVoltageProfile.getAngle(row));
+        }
+        // the current voltages are read when the bus view is indexed
+        VoltageProfile voltageProfile = createVoltageProfile(network);
+        ReportNode reportNode = ReportNode.newRootReportNode()
+            .withResourceBundles("i18n.reports")
+            .withMessageTemplate("VoltageInit").build();
+
+        JsonNode modifications = upload(server, false, true, network, voltageProfile, reportNode);
+
+        assertThat(modifications.get("first").get("buses")).hasSize(BUSES_COUNT / 2);
+        assertThat(reportNode.getChildren()).singleElement()
+            .satisfies(child -> assertThat(child.getValue("nbSkippedModifications")).hasValueSatisfying(value -> assertThat(value.getValue()).isEqualTo(BUSES_COUNT / 2)));
+    }
+
+    @Test
+    void uncompressedPayloadStoredByAPreviousVersionIsCompressed(final MockWebServer server) throws InterruptedException, IOException {
+        NetworkModificationService networkModificationService = new NetworkModificationService(server.url("").toString(), objectMapper,
+            mock(UuidGeneratorService.class), new RestTemplate(), new ModificationsDeltaService(false, 1e-3, 1e-3, 1e-3), true, 1);
+        server.enqueue(new MockResponse(200));
+
+        networkModificationService.createModificationsGroup(UUID.randomUUID(), "{\"first\":{},\"second\":[]}".getBytes(StandardCharsets.UTF_8));
+        networkModificationService.shutdown();
+
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (InputStream body = new GZIPInputStream(request.getBody().inputStream())) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"first\":{},\"second\":[]}");
+        }
+    }
+
+    @Test
+    void gzipPayloadIsInflatedWhenTheRequestsAreNotGzipEncoded(final MockWebServer server) throws InterruptedException, IOException {
+        NetworkModificationService networkModificationService = new NetworkModificationService(server.url("").toString(), objectMapper,
+            mock(UuidGeneratorService.class), new RestTemplate(), new ModificationsDeltaService(false, 1e-3, 1e-3, 1e-3), false, 1);
+        server.enqueue(new MockResponse(200));
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(payload)) {
+            out.write("{\"first\":{},\"second\":[]}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        networkModificationService.createModificationsGroup(UUID.randomUUID(), payload.toByteArray());
+        networkModificationService.shutdown();
+
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(request.getBody().readUtf8()).isEqualTo("{\"first\":{},\"second\":[]}");
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.voltageinit.server.dto.VoltageInitResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent <agent at local>
+ */
+class ResultCacheServiceTest {
+
+    private ResultCacheService resultCacheService;
+
+    @BeforeEach
+    void setUp() {
+        resultCacheService = new ResultCacheService(new SimpleMeterRegistry(), true, DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+    }
+
+    private static VoltageInitResult result(UUID resultUuid) {
+        return new VoltageInitResult(resultUuid, Instant.now(), Map.of(), List.of(), List.of(), null, false, null, false);
+    }
+
+    @Test
+    void resultReadBeforeAnInvalidationIsNotCached() {
+        UUID resultUuid = UUID.randomUUID();
+
+        // the result is deleted while it is read
+        long generation = resultCacheService.getGeneration();
+        resultCacheService.invalidate(resultUuid);
+        resultCacheService.put(result(resultUuid), generation);
+        assertThat(resultCacheService.get(resultUuid)).isNull();
+
+        resultCacheService.put(result(resultUuid), resultCacheService.getGeneration());
+        assertThat(resultCacheService.get(resultUuid)).isNotNull();
+    }
+
+    @Test
+    void resultsAreNotCachedWhenDisabled() {
+        ResultCacheService disabledResultCacheService = new ResultCacheService(new SimpleMeterRegistry(), false, DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+        UUID resultUuid = UUID.randomUUID();
+
+        // the invalidations of another instance would not reach this one
+        disabledResultCacheService.put(result(resultUuid), disabledResultCacheService.getGeneration());
+        assertThat(disabledResultCacheService.get(resultUuid)).isNull();
+    }
+}
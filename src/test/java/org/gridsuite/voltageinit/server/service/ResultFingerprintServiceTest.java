@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gridsuite.voltageinit.server.dto.parameters.FilterEquipments;
+import org.gridsuite.voltageinit.server.dto.parameters.VoltageInitParametersInfos;
+import org.gridsuite.voltageinit.server.dto.parameters.VoltageLimitInfos;
+import org.gridsuite.voltageinit.server.service.parameters.FilterService;
+import org.gridsuite.voltageinit.server.service.parameters.VoltageInitParametersService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author agent <agent at local>
+ */
+class ResultFingerprintServiceTest {
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+
+    private static final UUID FILTER_UUID = UUID.randomUUID();
+
+    private VoltageInitParametersService voltageInitParametersService;
+
+    private ResultFingerprintService resultFingerprintService;
+
+    @BeforeEach
+    void setUp() {
+        voltageInitParametersService = mock(VoltageInitParametersService.class);
+        resultFingerprintService = new ResultFingerprintService(voltageInitParametersService, mock(FilterService.class), new ObjectMapper());
+    }
+
+    private static VoltageInitRunContext runContext(String variantId, Map<String, Double> voltageLevelsIdsRestricted) {
+        return runContext(variantId, voltageLevelsIdsRestricted, null);
+    }
+
+    private static VoltageInitRunContext runContext(String variantId, Map<String, Double> voltageLevelsIdsRestricted, UUID parametersUuid) {
+        return new VoltageInitRunContext(NETWORK_UUID, variantId, null, null, null, null, "userId", parametersUuid, voltageLevelsIdsRestricted, false, null, null);
+    }
+
+    private String computeFingerprint(String name, String filterName, double reactiveSlacksThreshold) {
+        UUID parametersUuid = UUID.randomUUID();
+        given(voltageInitParametersService.resolveParametersSnapshot(parametersUuid)).willReturn(VoltageInitParametersInfos.builder()
+            .uuid(parametersUuid)
+            .date(Instant.now())
+            .name(name)
+            .voltageLimitsDefault(List.of(new VoltageLimitInfos(0, 10., 20., List.of(new FilterEquipments(FILTER_UUID, filterName, null, null)))))
+            .reactiveSlacksThreshold(reactiveSlacksThreshold)
+            .build());
+        return resultFingerprintService.computeFingerprint(runContext("variant", Map.of(), parametersUuid));
+    }
+
+    @Test
+    void fingerprintIgnoresTheParametersMetadata() {
+        String fingerprint = computeFingerprint("parameters", "filter", 500.);
+
+        assertThat(computeFingerprint("renamed parameters", "renamed filter", 500.)).isEqualTo(fingerprint);
+        assertThat(computeFingerprint("parameters", "filter", 100.)).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void fingerprintDependsOnlyOnTheComputationInputs() {
+        String fingerprint = resultFingerprintService.computeFingerprint(runContext("variant", Map.of("vl1", 10., "vl2", 20.)));
+
+        assertThat(fingerprint).hasSize(64);
+        assertThat(resultFingerprintService.computeFingerprint(runContext("variant", Map.of("vl2", 20., "vl1", 10.)))).isEqualTo(fingerprint);
+        assertThat(resultFingerprintService.computeFingerprint(runContext("otherVariant", Map.of("vl1", 10., "vl2", 20.)))).isNotEqualTo(fingerprint);
+        assertThat(resultFingerprintService.computeFingerprint(runContext("variant", Map.of("vl1", 10.)))).isNotEqualTo(fingerprint);
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import org.gridsuite.voltageinit.server.dto.ResultRetentionReport;
+import org.gridsuite.voltageinit.server.entities.SchedulerLockEntity;
+import org.gridsuite.voltageinit.server.entities.VoltageInitResultEntity;
+import org.gridsuite.voltageinit.server.repository.ModificationsGroupDeletionRepository;
+import org.gridsuite.voltageinit.server.repository.ResultRepository;
+import org.gridsuite.voltageinit.server.repository.SchedulerLockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.gridsuite.computation.service.NotificationService.RESULT_UUID_HEADER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author agent <agent at local>
+ */
+@SpringBootTest(properties = {
+    "voltage-init.result-retention.max-age=P30D",
+    "voltage-init.result-retention.max-results-per-network=3",
+    "voltage-init.result-retention.max-results-per-variant=1",
+    "voltage-init.result-retention.chunk-size=2"
+})
+class ResultRetentionServiceTest {
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+
+    @Autowired
+    private ResultRetentionService resultRetentionService;
+
+    @Autowired
+    private VoltageInitResultService resultService;
+
+    @Autowired
+    private ResultRepository resultRepository;
+
+    @Autowired
+    private ModificationsGroupDeletionRepository modificationsGroupDeletionRepository;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @MockitoBean
+    private StreamBridge streamBridge;
+
+    @AfterEach
+    void tearDown() {
+        resultService.deleteAll();
+        modificationsGroupDeletionRepository.deleteAll();
+        schedulerLockRepository.deleteAll();
+    }
+
+    /**
+     * @param age null for a result without write time
+     */
+    private UUID saveResult(String variantId, Duration age) {
+        UUID resultUuid = UUID.randomUUID();
+        resultRepository.save(new VoltageInitResultEntity(resultUuid, age != null ? Instant.now().minus(age) : null, new HashMap<>(), new ArrayList<>(), new ArrayList<>(),
+            UUID.randomUUID(), false, null, null, null, NETWORK_UUID, variantId, false, null, null, null, null, false));
+        return resultUuid;
+    }
+
+    @Test
+    void resultsBeyondTheRetentionPolicyAreEvicted() {
+        UUID expired = saveResult("variant1", Duration.ofDays(40));
+        UUID olderOfVariant = saveResult("variant2", Duration.ofHours(2));
+        UUID latestOfVariant2 = saveResult("variant2", Duration.ofHours(1));
+        UUID latestOfVariant3 = saveResult("variant3", Duration.ofHours(3));
+        UUID latestOfVariant4 = saveResult("variant4", Duration.ofHours(4));
+        UUID latestOfVariant5 = saveResult("variant5", Duration.ofHours(5));
+
+        ResultRetentionReport report = resultRetentionService.dryRun();
+        assertThat(report.getExpiredCount()).isEqualTo(1);
+        // the network keeps its 3 most recent results
+        assertThat(report.getBeyondNetworkCount()).isEqualTo(3);
+        assertThat(report.getBeyondVariantCount()).isEqualTo(1);
+        assertThat(report.getEvictableCount()).isEqualTo(4);
+        assertThat(resultRepository.count()).isEqualTo(6);
+
+        assertThat(resultRetentionService.evict()).isEqualTo(4);
+        assertThat(resultRepository.findAll()).extracting(VoltageInitResultEntity::getResultUuid)
+            .containsExactlyInAnyOrder(latestOfVariant2, latestOfVariant3)
+            .doesNotContain(expired, olderOfVariant, latestOfVariant4, latestOfVariant5);
+        assertThat(modificationsGroupDeletionRepository.count()).isEqualTo(4);
+        assertThat(resultRetentionService.dryRun().getEvictableCount()).isZero();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<String>> deletedMessages = ArgumentCaptor.forClass(Message.class);
+        verify(streamBridge, times(4)).send(eq(ResultRetentionService.RESULT_DELETED_BINDING), deletedMessages.capture());
+        assertThat(deletedMessages.getAllValues()).extracting(message -> message.getHeaders().get(RESULT_UUID_HEADER))
+            .containsExactlyInAnyOrder(expired.toString(), olderOfVariant.toString(), latestOfVariant4.toString(), latestOfVariant5.toString());
+    }
+
+    @Test
+    void resultsWithoutWriteTimeAreEvicted() {
+        UUID withoutWriteTime = saveResult("variant1", null);
+        UUID latestOfVariant1 = saveResult("variant1", Duration.ofHours(1));
+
+        assertThat(resultRetentionService.evict()).isEqualTo(1);
+        assertThat(resultRepository.findAll()).extracting(VoltageInitResultEntity::getResultUuid)
+            .containsExactly(latestOfVariant1)
+            .doesNotContain(withoutWriteTime);
+    }
+
+    @Test
+    void evictionIsSkippedWhileAnotherInstanceHoldsTheLock() {
+        saveResult("variant1", Duration.ofDays(40));
+        schedulerLockRepository.create(ResultRetentionService.LOCK_NAME, Instant.EPOCH);
+        assertThat(schedulerLockRepository.acquire(ResultRetentionService.LOCK_NAME, Instant.now(), Instant.now().plus(Duration.ofMinutes(10)))).isEqualTo(1);
+
+        assertThat(resultRetentionService.evict()).isZero();
+        assertThat(resultRepository.count()).isEqualTo(1);
+        verify(streamBridge, never()).send(any(), any());
+    }
+
+    @Test
+    void lockIsReleasedAfterEviction() {
+        saveResult("variant1", Duration.ofDays(40));
+        assertThat(resultRetentionService.evict()).isEqualTo(1);
+
+        saveResult("variant1", Duration.ofDays(40));
+        assertThat(resultRetentionService.evict()).isEqualTo(1);
+    }
+
+    @Test
+    void evictionStopsWhenTheLockIsLost() {
+        for (int i = 0; i < 4; i++) {
+            saveResult("variant" + i, Duration.ofDays(40));
+        }
+        // the lease of the lock ends during the first chunk and another instance acquires it
+        Instant otherLeaseEnd = Instant.now().plus(Duration.ofMinutes(10)).truncatedTo(ChronoUnit.MILLIS);
+        when(streamBridge.send(eq(ResultRetentionService.RESULT_DELETED_BINDING), any())).thenAnswer(invocation -> {
+            schedulerLockRepository.save(new SchedulerLockEntity(ResultRetentionService.LOCK_NAME, otherLeaseEnd));
+            return true;
+        });
+
+        assertThat(resultRetentionService.evict()).isEqualTo(2);
+        assertThat(resultRepository.count()).isEqualTo(2);
+        // the lock of the other instance is not released
+        assertThat(schedulerLockRepository.findById(ResultRetentionService.LOCK_NAME)).hasValueSatisfying(lock ->
+            assertThat(lock.getLockedUntil()).isEqualTo(otherLeaseEnd));
+    }
+
+    @Test
+    void lockLeaseIsRenewedBeforeEachChunk() {
+        for (int i = 0; i < 4; i++) {
+            saveResult("variant" + i, Duration.ofDays(40));
+        }
+        List<Instant> leaseEnds = new ArrayList<>();
+        when(streamBridge.send(eq(ResultRetentionService.RESULT_DELETED_BINDING), any())).thenAnswer(invocation -> {
+            leaseEnds.add(schedulerLockRepository.findById(ResultRetentionService.LOCK_NAME).orElseThrow().getLockedUntil());
+            return true;
+        });
+
+        assertThat(resultRetentionService.evict()).isEqualTo(4);
+        assertThat(leaseEnds).hasSize(4).allSatisfy(leaseEnd -> assertThat(leaseEnd).isAfter(Instant.now()));
+        assertThat(leaseEnds.get(2)).isAfterOrEqualTo(leaseEnds.get(0));
+        // released once done
+        assertThat(schedulerLockRepository.findById(ResultRetentionService.LOCK_NAME)).hasValueSatisfying(lock ->
+            assertThat(lock.getLockedUntil()).isBeforeOrEqualTo(Instant.now()));
+    }
+}
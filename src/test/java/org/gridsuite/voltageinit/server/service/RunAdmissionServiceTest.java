@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.computation.service.NotificationService;
+import org.gridsuite.voltageinit.server.repository.ResultRepository;
+import org.gridsuite.voltageinit.server.repository.VoltageLevelAggregateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.gridsuite.computation.service.NotificationService.NETWORK_UUID_HEADER;
+import static org.gridsuite.computation.service.NotificationService.RESULT_UUID_HEADER;
+import static org.gridsuite.computation.service.NotificationService.VARIANT_ID_HEADER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author agent <agent at local>
+ */
+class RunAdmissionServiceTest {
+
+    private static final UUID SMALL_NETWORK_UUID = UUID.randomUUID();
+    private static final UUID HUGE_NETWORK_UUID = UUID.randomUUID();
+    private static final UUID SMALL_RESULT_UUID = UUID.randomUUID();
+    private static final UUID HUGE_RESULT_UUID = UUID.randomUUID();
+    private static final String VARIANT_ID = "variant_1";
+    private static final String OTHER_VARIANT_ID = "variant_2";
+
+    private MeterRegistry meterRegistry;
+
+    private ResultRepository resultRepository;
+
+    private VoltageLevelAggregateRepository voltageLevelAggregateRepository;
+
+    private NotificationService notificationService;
+
+    private RunAdmissionService runAdmissionService;
+
+    @BeforeEach
+    void setUp() {
+        resultRepository = mock(ResultRepository.class);
+        voltageLevelAggregateRepository = mock(VoltageLevelAggregateRepository.class);
+        given(resultRepository.findLastResultUuids(eq(SMALL_NETWORK_UUID), eq(VARIANT_ID), any())).willReturn(List.of(SMALL_RESULT_UUID));
+        given(resultRepository.findLastResultUuids(eq(HUGE_NETWORK_UUID), eq(VARIANT_ID), any())).willReturn(List.of(HUGE_RESULT_UUID));
+        given(voltageLevelAggregateRepository.countByResultUuid(SMALL_RESULT_UUID)).willReturn(1L);
+        given(voltageLevelAggregateRepository.countByResultUuid(HUGE_RESULT_UUID)).willReturn((long) Integer.MAX_VALUE);
+        notificationService = mock(NotificationService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(resultRepository.findLastNetworkResultUuids(eq(HUGE_NETWORK_UUID), any())).willReturn(List.of(HUGE_RESULT_UUID));
+        runAdmissionService = createRunAdmissionService(true, voltageLevelAggregateRepository, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        runAdmissionService.shutdown();
+    }
+
+    private RunAdmissionService createRunAdmissionService(boolean enabled, VoltageLevelAggregateRepository voltageLevelAggregateRepository, Duration retryDelay) {
+        return new RunAdmissionService(resultRepository, voltageLevelAggregateRepository, notificationService, new ObjectMapper(), meterRegistry,
+            enabled, 1024, retryDelay, Duration.ofMinutes(10));
+    }
+
+    private static Message<String> runMessage(UUID networkUuid) {
+        return runMessage(networkUuid, VARIANT_ID);
+    }
+
+    private static Message<String> runMessage(UUID networkUuid, String variantId) {
+        return MessageBuilder.withPayload("")
+            .setHeader(RESULT_UUID_HEADER, UUID.randomUUID().toString())
+            .setHeader(NETWORK_UUID_HEADER, networkUuid.toString())
+            .setHeader(VARIANT_ID_HEADER, variantId)
+            .build();
+    }
+
+    private void deferHugeRun(RunAdmissionService admissionService, Message<String> hugeRunMessage) {
+        Consumer<Message<String>> hugeRun = admissionService.withAdmission(message -> fail("Huge run admitted"));
+        // the huge run is received while the small one is in progress
+        admissionService.withAdmission(message -> hugeRun.accept(hugeRunMessage)).accept(runMessage(SMALL_NETWORK_UUID));
+    }
+
+    private double admissionCount(String decision) {
+        return meterRegistry.counter(RunAdmissionService.ADMISSION_COUNTER_NAME, RunAdmissionService.DECISION_TAG_NAME, decision).count();
+    }
+
+    @Test
+    void runIsAlwaysAdmittedWhenNoOtherRunInProgress() {
+        AtomicInteger runs = new AtomicInteger();
+        runAdmissionService.withAdmission(message -> runs.incrementAndGet()).accept(runMessage(HUGE_NETWORK_UUID));
+
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(admissionCount(RunAdmissionService.ADMITTED)).isEqualTo(1.);
+        assertThat(meterRegistry.get(RunAdmissionService.RESERVED_MEMORY_GAUGE_NAME).gauge().value()).isZero();
+        // the footprint is estimated from the last result of the run variant
+        verify(resultRepository).findLastResultUuids(eq(HUGE_NETWORK_UUID), eq(VARIANT_ID), any());
+    }
+
+    @Test
+    void runIsDeferredWithoutHeapHeadroom() {
+        AtomicInteger runs = new AtomicInteger();
+        Consumer<Message<String>> hugeRun = runAdmissionService.withAdmission(message -> runs.incrementAndGet());
+        // the huge run is received while the small one is in progress
+        runAdmissionService.withAdmission(message -> {
+            runs.incrementAndGet();
+            hugeRun.accept(runMessage(HUGE_NETWORK_UUID));
+        }).accept(runMessage(SMALL_NETWORK_UUID));
+
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(admissionCount(RunAdmissionService.ADMITTED)).isEqualTo(1.);
+        assertThat(admissionCount(RunAdmissionService.DEFERRED)).isEqualTo(1.);
+        assertThat(meterRegistry.get(RunAdmissionService.RESERVED_MEMORY_GAUGE_NAME).gauge().value()).isZero();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<String>> deferredMessage = ArgumentCaptor.forClass(Message.class);
+        verify(notificationService, timeout(1000)).sendRunMessage(deferredMessage.capture());
+        assertThat(deferredMessage.getValue().getHeaders()).containsKeys(RunAdmissionService.DEFERRED_SINCE_HEADER, RunAdmissionService.ESTIMATED_BYTES_HEADER);
+        assertThat(deferredMessage.getValue().getHeaders()).containsEntry(NETWORK_UUID_HEADER, HUGE_NETWORK_UUID.toString());
+    }
+
+    @Test
+    void deferredRunKeepsOnlyTheRunHeaders() {
+        Message<String> hugeRunMessage = MessageBuilder.fromMessage(runMessage(HUGE_NETWORK_UUID))
+            .setHeader("amqp_receivedRoutingKey", "voltageinit.run")
+            .build();
+
+        deferHugeRun(runAdmissionService, hugeRunMessage);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<String>> deferredMessage = ArgumentCaptor.forClass(Message.class);
+        verify(notificationService, timeout(1000)).sendRunMessage(deferredMessage.capture());
+        assertThat(deferredMessage.getValue().getHeaders())
+            .containsEntry(RESULT_UUID_HEADER, hugeRunMessage.getHeaders().get(RESULT_UUID_HEADER))
+            .containsEntry(VARIANT_ID_HEADER, VARIANT_ID)
+            .doesNotContainKey("amqp_receivedRoutingKey");
+    }
+
+    @Test
+    void runCancelledWhileDeferredIsDropped() {
+        RunAdmissionService slowRetryAdmissionService = createRunAdmissionService(true, voltageLevelAggregateRepository, Duration.ofMillis(300));
+        Message<String> hugeRunMessage = runMessage(HUGE_NETWORK_UUID);
+        AtomicInteger cancels = new AtomicInteger();
+
+        deferHugeRun(slowRetryAdmissionService, hugeRunMessage);
+        slowRetryAdmissionService.withCancellation(message -> cancels.incrementAndGet()).accept(MessageBuilder.withPayload("")
+            .setHeader(RESULT_UUID_HEADER, hugeRunMessage.getHeaders().get(RESULT_UUID_HEADER))
+            .build());
+
+        assertThat(cancels.get()).isEqualTo(1);
+        verify(notificationService, after(600).never()).sendRunMessage(any());
+        assertThat(admissionCount(RunAdmissionService.CANCELLED)).isEqualTo(1.);
+
+        // the deferred message sent back by another instance is dropped as well
+        slowRetryAdmissionService.withAdmission(message -> fail("Cancelled run admitted")).accept(MessageBuilder.fromMessage(hugeRunMessage)
+            .setHeader(RunAdmissionService.DEFERRED_SINCE_HEADER, Long.toString(System.currentTimeMillis()))
+            .build());
+        assertThat(admissionCount(RunAdmissionService.CANCELLED)).isEqualTo(2.);
+        slowRetryAdmissionService.shutdown();
+    }
+
+    @Test
+    void deferredRunIsSentBackWhenTheInstanceStops() {
+        RunAdmissionService slowRetryAdmissionService = createRunAdmissionService(true, voltageLevelAggregateRepository, Duration.ofMinutes(1));
+
+        deferHugeRun(slowRetryAdmissionService, runMessage(HUGE_NETWORK_UUID));
+        verify(notificationService, never()).sendRunMessage(any());
+        slowRetryAdmissionService.shutdown();
+
+        verify(notificationService).sendRunMessage(any());
+    }
+
+    @Test
+    void variantNeverComputedIsEstimatedFromTheNetwork() {
+        deferHugeRun(runAdmissionService, runMessage(HUGE_NETWORK_UUID, OTHER_VARIANT_ID));
+
+        assertThat(admissionCount(RunAdmissionService.DEFERRED)).isEqualTo(1.);
+        verify(resultRepository).findLastNetworkResultUuids(eq(HUGE_NETWORK_UUID), any());
+    }
+
+    @Test
+    void deferredRunIsForcedAfterMaxWait() {
+        AtomicInteger runs = new AtomicInteger();
+        Message<String> hugeRunMessage = MessageBuilder.fromMessage(runMessage(HUGE_NETWORK_UUID))
+            .setHeader(RunAdmissionService.DEFERRED_SINCE_HEADER, Long.toString(System.currentTimeMillis() - Duration.ofMinutes(11).toMillis()))
+            .setHeader(RunAdmissionService.ESTIMATED_BYTES_HEADER, Long.toString(Long.MAX_VALUE / 2))
+            .build();
+        Consumer<Message<String>> hugeRun = runAdmissionService.withAdmission(message -> runs.incrementAndGet());
+        runAdmissionService.withAdmission(message -> {
+            runs.incrementAndGet();
+            hugeRun.accept(hugeRunMessage);
+        }).accept(runMessage(SMALL_NETWORK_UUID));
+
+        assertThat(runs.get()).isEqualTo(2);
+        assertThat(admissionCount(RunAdmissionService.FORCED)).isEqualTo(1.);
+        verify(notificationService, never()).sendRunMessage(any());
+        // the estimation carried by the deferred message is not computed again
+        verify(resultRepository, never()).findLastResultUuids(eq(HUGE_NETWORK_UUID), any(), any());
+        assertThat(meterRegistry.get(RunAdmissionService.RESERVED_MEMORY_GAUGE_NAME).gauge().value()).isZero();
+    }
+
+    @Test
+    void runIsNotEstimatedWhenAdmissionIsDisabled() {
+        RunAdmissionService disabledRunAdmissionService = createRunAdmissionService(false, mock(VoltageLevelAggregateRepository.class), Duration.ofMillis(10));
+        AtomicInteger runs = new AtomicInteger();
+        disabledRunAdmissionService.withAdmission(message -> runs.incrementAndGet()).accept(runMessage(HUGE_NETWORK_UUID));
+
+        assertThat(runs.get()).isEqualTo(1);
+        verifyNoInteractions(resultRepository, notificationService);
+    }
+}
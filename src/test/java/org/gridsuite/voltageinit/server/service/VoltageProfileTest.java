@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.jgrapht.alg.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * @author agent <agent at local>
+ */
+class VoltageProfileTest {
+
+    @Test
+    void convertsKnownBusesOnly() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Map<String, Pair<Double, Double>> result = new LinkedHashMap<>();
+        result.put("VLGEN_0", Pair.of(1.05, Math.PI / 6));
+        result.put("unknownBus", Pair.of(1., 0.));
+        result.put("VLHV1_0", Pair.of(0.98, 0.));
+
+        VoltageProfile voltageProfile = VoltageProfile.of(result, BusIndex.of(network));
+
+        assertThat(voltageProfile.size()).isEqualTo(2);
+        int row = voltageProfile.getRow("VLGEN_0");
+        assertThat(row).isZero();
+        assertThat(voltageProfile.getBusId(row)).isEqualTo("VLGEN_0");
+        assertThat(voltageProfile.getVoltageLevelId(row)).isEqualTo("VLGEN");
+        assertThat(voltageProfile.getNominalV(row)).isEqualTo(24.);
+        assertThat(voltageProfile.getV(row)).isCloseTo(1.05 * 24., within(1e-9));
+        assertThat(voltageProfile.getAngle(row)).isCloseTo(30., within(1e-9));
+        assertThat(voltageProfile.getV(voltageProfile.getRow("VLHV1_0"))).isCloseTo(0.98 * 380., within(1e-9));
+        assertThat(voltageProfile.getRow("unknownBus")).isEqualTo(VoltageProfile.NO_ROW);
+        assertThat(voltageProfile.getRow("VLHV2_0")).isEqualTo(VoltageProfile.NO_ROW);
+    }
+}
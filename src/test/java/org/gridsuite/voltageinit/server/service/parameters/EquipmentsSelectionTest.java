@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.voltageinit.server.service.parameters;
+
+import org.gridsuite.voltageinit.server.util.EquipmentsSelectionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent <agent at local>
+ */
+class EquipmentsSelectionTest {
+
+    private static final int GENERATORS_COUNT = 50_000;
+
+    private static Stream<String> generatorsIds() {
+        return IntStream.range(0, GENERATORS_COUNT).mapToObj(i -> "GEN_" + i);
+    }
+
+    @Test
+    void complementKeepsIndexOrderAndIgnoresUnknownIds() {
+        EquipmentsSelection selection = EquipmentsSelection.of(Stream.of("GEN1", "GEN2", "GEN3", "GEN4"));
+
+        assertThat(selection.size()).isEqualTo(4);
+        assertThat(selection.complementOf(List.of("GEN3", "UNKNOWN", "GEN1"))).containsExactly("GEN2", "GEN4");
+        assertThat(selection.complementOf(List.of())).containsExactly("GEN1", "GEN2", "GEN3", "GEN4");
+        assertThat(selection.toIds(selection.select(List.of("GEN4", "GEN2")))).containsExactly("GEN2", "GEN4");
+    }
+
+    @Test
+    void resolveKeepsSelectedIdsOrComputesComplement() {
+        List<String> selectedIds = List.of("GEN2", "UNKNOWN");
+
+        assertThat(EquipmentsSelection.resolve(EquipmentsSelectionType.ALL_EXCEPT, EquipmentsSelectionType.ALL_EXCEPT, selectedIds, Stream.of("GEN1", "GEN2")))
+            .containsExactly("GEN2", "UNKNOWN");
+        assertThat(EquipmentsSelection.resolve(EquipmentsSelectionType.NONE_EXCEPT, EquipmentsSelectionType.ALL_EXCEPT, selectedIds, Stream.of("GEN1", "GEN2")))
+            .containsExactly("GEN1");
+    }
+
+    @Test
+    void complementOnLargeSyntheticNetwork() {
+        // every other generator is selected, as with a large ALL_EXCEPT filter on a national-scale network
+        List<String> selectedIds = IntStream.range(0, GENERATORS_COUNT).filter(i -> i % 2 == 0).mapToObj(i -> "GEN_" + i).toList();
+        Set<String> selectedIdsSet = Set.copyOf(selectedIds);
+
+        List<String> complement = EquipmentsSelection.of(generatorsIds()).complementOf(selectedIds);
+
+        assertThat(complement)
+            .hasSize(GENERATORS_COUNT / 2)
+            .isEqualTo(generatorsIds().filter(id -> !selectedIdsSet.contains(id)).toList());
+    }
+}
@@ -6,16 +6,26 @@
  */
 package org.gridsuite.voltageinit.server.service.parameters;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.network.store.client.NetworkStoreService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.gridsuite.computation.dto.GlobalFilter;
 import org.gridsuite.computation.dto.ResourceFilterDTO;
 import org.gridsuite.filter.AbstractFilter;
+import org.gridsuite.voltageinit.server.dto.parameters.FilterEquipments;
+import org.gridsuite.voltageinit.server.dto.parameters.IdentifiableAttributes;
 import org.gridsuite.voltageinit.server.error.VoltageInitException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -39,7 +49,8 @@ class FilterServiceTest {
 
     @BeforeEach
     void setUp() {
-        filterService = spy(new FilterService(Mockito.mock(RestTemplateBuilder.class), Mockito.mock(NetworkStoreService.class), "http://filter-server/"));
+        filterService = spy(new FilterService(Mockito.mock(RestTemplateBuilder.class), Mockito.mock(NetworkStoreService.class), "http://filter-server/",
+            new ObjectMapper(), new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(10)));
     }
 
     @Test
@@ -96,6 +107,73 @@ class FilterServiceTest {
         assertFalse(existingFilters.contains(missingId));
     }
 
+    @Test
+    void exportEquipmentIdsByFilterSplitsSingleBatchedExport() {
+        UUID networkUuid = UUID.randomUUID();
+        UUID filterId1 = UUID.fromString("6f1b8e0a-3d0c-4b8e-9a55-3c5b8e2f4a11");
+        UUID filterId2 = UUID.fromString("c1f6a7d2-5e8b-4f3a-8d0e-7b2a9c4e6f22");
+        doReturn(List.of(
+            new FilterEquipments(filterId1, "filter1", List.of(new IdentifiableAttributes("GEN1", IdentifiableType.GENERATOR, null), new IdentifiableAttributes("GEN2", IdentifiableType.GENERATOR, null)), List.of()),
+            new FilterEquipments(filterId2, "filter2", List.of(new IdentifiableAttributes("GEN2", IdentifiableType.GENERATOR, null)), List.of())
+        )).when(filterService).exportFilters(anyList(), eq(networkUuid), eq("variant1"));
+
+        Map<UUID, List<String>> equipmentIdsByFilter = filterService.exportEquipmentIdsByFilter(List.of(filterId1, filterId2, filterId1), networkUuid, "variant1");
+
+        assertEquals(Map.of(filterId1, List.of("GEN1", "GEN2"), filterId2, List.of("GEN2")), equipmentIdsByFilter);
+        verify(filterService, times(1)).exportFilters(List.of(filterId1, filterId2), networkUuid, "variant1");
+    }
+
+    @Test
+    void exportEquipmentIdsByFilterSkipsExportWhenNoFilter() {
+        assertThat(filterService.exportEquipmentIdsByFilter(List.of(), UUID.randomUUID(), "variant1")).isEmpty();
+        verify(filterService, never()).exportFilters(anyList(), any(), any());
+    }
+
+    @Test
+    void getResourceFiltersIsCachedUntilInvalidation() {
+        UUID networkUuid = UUID.randomUUID();
+        ResourceFilterDTO resourceFilterDTO = new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.CONTAINS, List.of("VL1"), null, null);
+        doReturn(Optional.of(resourceFilterDTO)).when(filterService).getResourceFilter(any(), anyString(), any(), anyList(), any());
+
+        GlobalFilter globalFilter = new GlobalFilter();
+        assertEquals(List.of("VL1"), filterService.getResourceFilters(networkUuid, "variant1", globalFilter));
+        assertEquals(List.of("VL1"), filterService.getResourceFilters(networkUuid, "variant1", globalFilter));
+        verify(filterService, times(1)).getResourceFilter(any(), anyString(), any(), anyList(), any());
+
+        filterService.getResourceFilters(networkUuid, "variant2", globalFilter);
+        verify(filterService, times(2)).getResourceFilter(any(), anyString(), any(), anyList(), any());
+
+        filterService.invalidateFiltersCache(networkUuid, "variant1");
+        filterService.getResourceFilters(networkUuid, "variant1", globalFilter);
+        filterService.getResourceFilters(networkUuid, "variant2", globalFilter);
+        verify(filterService, times(3)).getResourceFilter(any(), anyString(), any(), anyList(), any());
+    }
+
+    @Test
+    void modifiedNetworkIsPickedUpWhenCacheIsDisabled() {
+        UUID networkUuid = UUID.randomUUID();
+        UUID filterId = UUID.fromString("0f4c8a53-2b1e-4c7d-9e8f-5a6b7c8d9e01");
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        RestTemplateBuilder restTemplateBuilder = mock(RestTemplateBuilder.class);
+        when(restTemplateBuilder.build()).thenReturn(restTemplate);
+        FilterService uncachedFilterService = spy(new FilterService(restTemplateBuilder, mock(NetworkStoreService.class), "http://filter-server/",
+            new ObjectMapper(), new SimpleMeterRegistry(), false, 100, Duration.ofMinutes(10)));
+
+        // the same variant is modified between the two evaluations
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+            .thenReturn(ResponseEntity.ok(List.of(new FilterEquipments(filterId, "filter", List.of(new IdentifiableAttributes("GEN1", IdentifiableType.GENERATOR, null)), List.of()))))
+            .thenReturn(ResponseEntity.ok(List.of(new FilterEquipments(filterId, "filter", List.of(new IdentifiableAttributes("GEN2", IdentifiableType.GENERATOR, null)), List.of()))));
+        assertEquals(Map.of(filterId, List.of("GEN1")), uncachedFilterService.exportEquipmentIdsByFilter(List.of(filterId), networkUuid, "variant1"));
+        assertEquals(Map.of(filterId, List.of("GEN2")), uncachedFilterService.exportEquipmentIdsByFilter(List.of(filterId), networkUuid, "variant1"));
+
+        doReturn(Optional.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.CONTAINS, List.of("VL1"), null, null)),
+            Optional.of(new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.CONTAINS, List.of("VL2"), null, null)))
+            .when(uncachedFilterService).getResourceFilter(any(), anyString(), any(), anyList(), any());
+        GlobalFilter globalFilter = new GlobalFilter();
+        assertEquals(List.of("VL1"), uncachedFilterService.getResourceFilters(networkUuid, "variant1", globalFilter));
+        assertEquals(List.of("VL2"), uncachedFilterService.getResourceFilters(networkUuid, "variant1", globalFilter));
+    }
+
     @Test
     void testGetResourceFilters() {
         ResourceFilterDTO resourceFilterDTO = new ResourceFilterDTO(ResourceFilterDTO.DataType.TEXT, ResourceFilterDTO.Type.CONTAINS, List.of("a"), null, null);
@@ -29,6 +29,7 @@ import org.gridsuite.voltageinit.server.entities.parameters.VoltageInitParameter
 import org.gridsuite.voltageinit.server.entities.parameters.VoltageLimitEntity;
 import org.gridsuite.voltageinit.server.error.VoltageInitBusinessErrorCode;
 import org.gridsuite.voltageinit.server.error.VoltageInitException;
+import org.gridsuite.voltageinit.server.repository.parameters.VoltageInitParametersRepository;
 import org.gridsuite.voltageinit.server.service.VoltageInitRunContext;
 import org.gridsuite.voltageinit.server.util.EquipmentsSelectionType;
 import org.gridsuite.voltageinit.server.util.VoltageLimitParameterType;
@@ -55,9 +56,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.InputStream;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -66,6 +71,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.condition.NestableCondition.nestable;
 import static org.assertj.core.condition.VerboseCondition.verboseCondition;
 import static org.gridsuite.voltageinit.server.service.VoltageInitWorkerService.COMPUTATION_TYPE;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith({ MockitoExtension.class, SoftAssertionsExtension.class })
@@ -92,6 +100,9 @@ class ParametersTest {
     @Autowired
     private VoltageInitParametersService voltageInitParametersService;
 
+    @Autowired
+    private VoltageInitParametersRepository voltageInitParametersRepository;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -115,17 +126,26 @@ class ParametersTest {
         network.getVoltageLevel("VLGEN").setHighVoltageLimit(20.);
         network.getVoltageLevel("VLHV1").setHighVoltageLimit(20.);
         network.getVoltageLevel("VLHV2").setLowVoltageLimit(10.);
-        given(filterService.exportFilters(List.of(FILTER_UUID_1), NETWORK_UUID, VARIANT_ID_1)).willReturn(List.of(
+        givenExportedFilters(NETWORK_UUID, VARIANT_ID_1,
             new FilterEquipments(FILTER_UUID_1, FILTER_1, List.of(
                 new IdentifiableAttributes("VLGEN", IdentifiableType.VOLTAGE_LEVEL, null),
                 new IdentifiableAttributes("VLHV1", IdentifiableType.VOLTAGE_LEVEL, null),
                 new IdentifiableAttributes("VLHV2", IdentifiableType.VOLTAGE_LEVEL, null),
                 new IdentifiableAttributes("VLLOAD", IdentifiableType.VOLTAGE_LEVEL, null)
-            ), List.of())
-        ));
-        given(filterService.exportFilters(List.of(FILTER_UUID_2), NETWORK_UUID, VARIANT_ID_1)).willReturn(List.of(
+            ), List.of()),
             new FilterEquipments(FILTER_UUID_2, FILTER_2, List.of(new IdentifiableAttributes("VLLOAD", IdentifiableType.VOLTAGE_LEVEL, null)), List.of())
-        ));
+        );
+    }
+
+    /**
+     * The filters are exported in a single batched request: the mock answers with the requested filters only.
+     */
+    private void givenExportedFilters(final UUID networkUuid, final String variantId, final FilterEquipments... filters) {
+        given(filterService.exportEquipmentIdsByFilter(anyCollection(), eq(networkUuid), eq(variantId))).willCallRealMethod();
+        given(filterService.exportFilters(anyList(), eq(networkUuid), eq(variantId))).willAnswer(invocation -> {
+            final List<UUID> filtersUuids = invocation.getArgument(0);
+            return Stream.of(filters).filter(filter -> filtersUuids.contains(filter.getFilterId())).toList();
+        });
     }
 
     private static Consumer<VoltageLimitOverride> assertVoltageLimitOverride(final String levelId, final VoltageLimitType limitType) {
@@ -200,6 +220,32 @@ class ParametersTest {
             .satisfiesOnlyOnce(assertVoltageLimitOverride("VLLOAD", VoltageLimitType.HIGH_VOLTAGE_LIMIT, 86.));
     }
 
+    @DisplayName("buildOpenReacParameters: should use the run parameters snapshot")
+    @Test
+    void buildOpenReacParametersUsesParametersSnapshot() {
+        final VoltageLimitEntity voltageLimit = new VoltageLimitEntity(null, 44., 88., 0, VoltageLimitParameterType.DEFAULT, List.of(new FilterEquipmentsEmbeddable(FILTER_UUID_2, FILTER_2)));
+        final VoltageInitParametersEntity voltageInitParameters = entityManager.persistFlushFind(
+            new VoltageInitParametersEntity(null, null, "", List.of(voltageLimit), null, EquipmentsSelectionType.ALL_EXCEPT, null, EquipmentsSelectionType.NONE_EXCEPT, null, EquipmentsSelectionType.NONE_EXCEPT, 100., 0., false)
+        );
+        final VoltageInitRunContext context = new VoltageInitRunContext(NETWORK_UUID, VARIANT_ID_1, null, REPORT_UUID, null, "", "", voltageInitParameters.getId(), false, "rootNetwork1", "node1");
+        context.setReportNode(ReportNode.newRootReportNode()
+            .withResourceBundles("i18n.reports")
+            .withMessageTemplate(COMPUTATION_TYPE).build());
+        context.setParameters(voltageInitParametersService.resolveParametersSnapshot(voltageInitParameters.getId()));
+        assertThat(context.getReactiveSlacksThreshold()).isEqualTo(100.);
+        assertThat(context.isUpdateBusVoltage()).isFalse();
+
+        // the parameters are not read again once the run has started
+        entityManager.remove(voltageInitParameters);
+        entityManager.flush();
+
+        assertThat(voltageInitParametersService.buildOpenReacParameters(context, network).getSpecificVoltageLimits())
+            .satisfiesExactlyInAnyOrder(
+                assertVoltageLimitOverride("VLLOAD", VoltageLimitType.LOW_VOLTAGE_LIMIT, 44.),
+                assertVoltageLimitOverride("VLLOAD", VoltageLimitType.HIGH_VOLTAGE_LIMIT, 88.)
+            );
+    }
+
     @DisplayName("buildOpenReacParameters: should throw when referenced filter is missing")
     @Test
     void buildOpenReacParametersThrowsWhenFilterMissing() {
@@ -223,6 +269,85 @@ class ParametersTest {
             .hasMessageNotContaining(FILTER_UUID_1.toString());
     }
 
+    private VoltageInitRunContext createContextWithFilter() {
+        final VoltageLimitEntity voltageLimit = new VoltageLimitEntity(null, 5., 10., 0, VoltageLimitParameterType.DEFAULT, List.of(new FilterEquipmentsEmbeddable(FILTER_UUID_1, FILTER_1)));
+        final VoltageInitParametersEntity voltageInitParameters = entityManager.persistFlushFind(
+            new VoltageInitParametersEntity(null, null, "", List.of(voltageLimit), null, EquipmentsSelectionType.ALL_EXCEPT, null, EquipmentsSelectionType.NONE_EXCEPT, null, EquipmentsSelectionType.NONE_EXCEPT, 100., 0., false)
+        );
+        final VoltageInitRunContext context = new VoltageInitRunContext(NETWORK_UUID, VARIANT_ID_1, null, REPORT_UUID, null, "", "", voltageInitParameters.getId(), false, "rootNetwork1", "node1");
+        context.setReportNode(ReportNode.newRootReportNode()
+            .withResourceBundles("i18n.reports")
+            .withMessageTemplate(COMPUTATION_TYPE).build());
+        return context;
+    }
+
+    @DisplayName("buildOpenReacParameters: should check and export the filters concurrently")
+    @Test
+    void buildOpenReacParametersResolvesFiltersConcurrently() {
+        final VoltageInitRunContext context = createContextWithFilter();
+        // each call only returns once the other one has started
+        final CountDownLatch callsStarted = new CountDownLatch(2);
+        Mockito.doAnswer(invocation -> {
+            callsStarted.countDown();
+            assertThat(callsStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).when(filterService).ensureFiltersExist(Mockito.anyMap());
+        given(filterService.exportFilters(anyList(), eq(NETWORK_UUID), eq(VARIANT_ID_1))).willAnswer(invocation -> {
+            callsStarted.countDown();
+            assertThat(callsStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            return List.of(new FilterEquipments(FILTER_UUID_1, FILTER_1, List.of(new IdentifiableAttributes("VLHV1", IdentifiableType.VOLTAGE_LEVEL, null)), List.of()));
+        });
+
+        assertThat(voltageInitParametersService.buildOpenReacParameters(context, network).getSpecificVoltageLimits())
+            .satisfiesExactly(assertVoltageLimitOverride("VLHV1", VoltageLimitType.LOW_VOLTAGE_LIMIT, 5.));
+    }
+
+    @DisplayName("buildOpenReacParameters: should fail when the filters resolution times out")
+    @Test
+    void buildOpenReacParametersThrowsWhenFiltersResolutionTimesOut() {
+        final VoltageInitRunContext context = createContextWithFilter();
+        final CountDownLatch release = new CountDownLatch(1);
+        given(filterService.exportFilters(anyList(), eq(NETWORK_UUID), eq(VARIANT_ID_1))).willAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of();
+        });
+        final VoltageInitParametersService service = new VoltageInitParametersService(voltageInitParametersRepository, filterService, 2, 1);
+        try {
+            assertThatThrownBy(() -> service.buildOpenReacParameters(context, network))
+                .isInstanceOf(VoltageInitException.class)
+                .hasMessageContaining("did not complete within 1s")
+                .hasCauseInstanceOf(TimeoutException.class)
+                .satisfies(e -> assertThat(((VoltageInitException) e).getBusinessErrorCode()).isEqualTo(VoltageInitBusinessErrorCode.FILTERS_RESOLUTION_FAILED));
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    @DisplayName("buildOpenReacParameters: should fail without waiting for the export when a filter is missing")
+    @Test
+    void buildOpenReacParametersFailsFast() {
+        final VoltageInitRunContext context = createContextWithFilter();
+        final CountDownLatch release = new CountDownLatch(1);
+        given(filterService.exportFilters(anyList(), eq(NETWORK_UUID), eq(VARIANT_ID_1))).willAnswer(invocation -> {
+            release.await(30, TimeUnit.SECONDS);
+            return List.of();
+        });
+        Mockito.doThrow(new VoltageInitException(VoltageInitBusinessErrorCode.MISSING_FILTER, FilterService.FILTERS_NOT_FOUND + " [" + FILTER_1 + "]"))
+            .when(filterService)
+            .ensureFiltersExist(Mockito.anyMap());
+
+        final long startTime = System.nanoTime();
+        try {
+            assertThatThrownBy(() -> voltageInitParametersService.buildOpenReacParameters(context, network))
+                .isInstanceOf(VoltageInitException.class)
+                .satisfies(e -> assertThat(((VoltageInitException) e).getBusinessErrorCode()).isEqualTo(VoltageInitBusinessErrorCode.MISSING_FILTER));
+            assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofSeconds(10));
+        } finally {
+            release.countDown();
+        }
+    }
+
     @DisplayName("buildSpecificVoltageLimits: Case relative true overrides")
     @Test
     void testsBuildSpecificVoltageLimitsCaseRelativeTrue() throws Exception {
@@ -269,15 +394,11 @@ class ParametersTest {
         final String filterIdS4VL1 = "FILTER_S4VL1";
         final UUID filterUuidS4VL2 = UUID.randomUUID();
         final String filterIdS4VL2 = "FILTER_S4VL2";
-        given(filterService.exportFilters(List.of(filterUuidS3VL1), networkUuid, variantId)).willReturn(List.of(
-            new FilterEquipments(filterUuidS3VL1, filterIdS3VL1, List.of(new IdentifiableAttributes("S3VL1", IdentifiableType.VOLTAGE_LEVEL, null)), List.of())
-        ));
-        given(filterService.exportFilters(List.of(filterUuidS4VL1), networkUuid, variantId)).willReturn(List.of(
-            new FilterEquipments(filterUuidS4VL1, filterIdS4VL1, List.of(new IdentifiableAttributes("S4VL1", IdentifiableType.VOLTAGE_LEVEL, null)), List.of())
-        ));
-        given(filterService.exportFilters(List.of(filterUuidS4VL2), networkUuid, variantId)).willReturn(List.of(
+        givenExportedFilters(networkUuid, variantId,
+            new FilterEquipments(filterUuidS3VL1, filterIdS3VL1, List.of(new IdentifiableAttributes("S3VL1", IdentifiableType.VOLTAGE_LEVEL, null)), List.of()),
+            new FilterEquipments(filterUuidS4VL1, filterIdS4VL1, List.of(new IdentifiableAttributes("S4VL1", IdentifiableType.VOLTAGE_LEVEL, null)), List.of()),
             new FilterEquipments(filterUuidS4VL2, filterIdS4VL2, List.of(new IdentifiableAttributes("S4VL2", IdentifiableType.VOLTAGE_LEVEL, null)), List.of())
-        ));
+        );
 
         final VoltageLimitEntity vl1 = new VoltageLimitEntity(null, 50.0, 500.0, 0, VoltageLimitParameterType.DEFAULT, List.of(new FilterEquipmentsEmbeddable(filterUuidS3VL1, filterIdS3VL1)));
         final VoltageLimitEntity vl2 = new VoltageLimitEntity(null, 60.0, 600.0, 0, VoltageLimitParameterType.DEFAULT, List.of(new FilterEquipmentsEmbeddable(filterUuidS4VL1, filterIdS4VL1)));